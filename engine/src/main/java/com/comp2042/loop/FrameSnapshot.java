@@ -0,0 +1,292 @@
+package com.comp2042.loop;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.GameSession;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * Everything the view needs to draw one frame of a game.
+ * Snapshots are filled by the game loop thread and handed to the FX thread
+ * through a {@link TripleBuffer}; while the view holds one, nothing writes
+ * to it. Each board row carries a stamp that goes up whenever it changes,
+ * so a snapshot only copies the rows that changed since that slot was last
+ * filled, and the view can find changed rows even when frames were dropped
+ * in between.
+ */
+public final class FrameSnapshot {
+
+    private final int[][] cells;
+    private final int[] rowStamps;
+    private final PieceShape[] next;
+    private long tick = -1;
+    private int gameId;
+    private PieceShape brick;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private PieceShape held;
+    private int score;
+    private int lines;
+    private int level;
+    private boolean gameOver;
+    private boolean paused;
+    private int clearCount;
+    private int lastClearLines;
+    private int lastClearBonus;
+    private long lastInputLatency;
+    private long maxInputLatency;
+
+    /**
+     * Creates an empty snapshot for a board size.
+     *
+     * @param rows the number of board rows
+     * @param columns the number of board columns
+     * @param previews how many upcoming bricks to keep
+     */
+    public FrameSnapshot(int rows, int columns, int previews) {
+        cells = new int[rows][columns];
+        rowStamps = new int[rows];
+        // A stamp no row starts with, so the first capture copies everything
+        Arrays.fill(rowStamps, -1);
+        next = new PieceShape[previews];
+    }
+
+    /**
+     * Copies the state of a game into this snapshot.
+     *
+     * @param session the session to copy
+     * @param stamps the stamp of each board row
+     * @param loop the loop counters to copy
+     */
+    void capture(GameSession session, int[] stamps, GameLoop loop) {
+        Board board = session.getBoard();
+        int[][] matrix = board.getBoardMatrix();
+        for (int r = 0; r < cells.length; r++) {
+            if (rowStamps[r] != stamps[r]) {
+                System.arraycopy(matrix[r], 0, cells[r], 0, cells[r].length);
+                rowStamps[r] = stamps[r];
+            }
+        }
+
+        brick = board.getCurrentBrick().getRotations()[board.getCurrentRotation()];
+        brickX = board.getBrickX();
+        brickY = board.getBrickY();
+        ghostY = board.getGhostY();
+        for (int i = 0; i < next.length; i++) {
+            next[i] = board.peekBrick(i).getRotations()[0];
+        }
+        Brick heldBrick = board.getHeldBrick();
+        held = heldBrick == null ? null : heldBrick.getRotations()[0];
+
+        score = board.getScore().getValue();
+        lines = session.getTotalLines();
+        level = session.getLevel();
+        gameOver = session.isGameOver();
+        tick = loop.getTick();
+        gameId = loop.getGameId();
+        paused = loop.isPaused();
+        clearCount = loop.getClearCount();
+        lastClearLines = loop.getLastClearLines();
+        lastClearBonus = loop.getLastClearBonus();
+        lastInputLatency = loop.getLastInputLatency();
+        maxInputLatency = loop.getMaxInputLatency();
+    }
+
+    /**
+     * Gets how many ticks the loop had run when this frame was captured.
+     *
+     * @return the tick count, or -1 if the snapshot was never filled
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of the game this frame belongs to.
+     * It goes up by one on every new game.
+     *
+     * @return the game number
+     */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Gets the placed blocks of the board.
+     * The array belongs to the snapshot and must not be kept after the next frame.
+     *
+     * @return the board cells by row and column
+     */
+    public int[][] getCells() {
+        return cells;
+    }
+
+    /**
+     * Gets the change stamp of a board row.
+     * A row whose stamp differs from an earlier frame's has changed since.
+     *
+     * @param row the row index
+     * @return the change stamp of the row
+     */
+    public int getRowStamp(int row) {
+        return rowStamps[row];
+    }
+
+    /**
+     * Gets the rotation state of the falling brick.
+     *
+     * @return the shared shape of the brick
+     */
+    public PieceShape getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the column offset of the falling brick.
+     *
+     * @return the brick x position
+     */
+    public int getBrickX() {
+        return brickX;
+    }
+
+    /**
+     * Gets the row offset of the falling brick.
+     *
+     * @return the brick y position
+     */
+    public int getBrickY() {
+        return brickY;
+    }
+
+    /**
+     * Gets the row offset the brick would land at.
+     *
+     * @return the ghost y position
+     */
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Gets an upcoming brick in its spawn rotation.
+     *
+     * @param slot the preview index, 0 being the next brick
+     * @return the shared shape of the brick
+     */
+    public PieceShape getNext(int slot) {
+        return next[slot];
+    }
+
+    /**
+     * Gets the number of upcoming bricks in the frame.
+     *
+     * @return the preview count
+     */
+    public int getNextCount() {
+        return next.length;
+    }
+
+    /**
+     * Gets the held brick in its spawn rotation.
+     *
+     * @return the shared shape, or null if nothing is held
+     */
+    public PieceShape getHeld() {
+        return held;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the total number of lines cleared.
+     *
+     * @return lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the current level.
+     *
+     * @return level, starting at 1
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Checks whether the loop is paused.
+     *
+     * @return true if paused
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets how many line clears happened so far.
+     * The view compares it with the last frame it drew to spot new clears.
+     *
+     * @return the number of locks that cleared lines
+     */
+    public int getClearCount() {
+        return clearCount;
+    }
+
+    /**
+     * Gets the number of lines removed by the most recent clear.
+     *
+     * @return lines in the last clear
+     */
+    public int getLastClearLines() {
+        return lastClearLines;
+    }
+
+    /**
+     * Gets the score bonus of the most recent clear.
+     *
+     * @return bonus of the last clear
+     */
+    public int getLastClearBonus() {
+        return lastClearBonus;
+    }
+
+    /**
+     * Gets how long the last applied input waited for its tick.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getLastInputLatency() {
+        return lastInputLatency;
+    }
+
+    /**
+     * Gets the longest any input has waited for its tick.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getMaxInputLatency() {
+        return maxInputLatency;
+    }
+}
@@ -0,0 +1,42 @@
+package com.comp2042.loop;
+
+/**
+ * Source of fixed-length game ticks.
+ * Game rules count time in ticks rather than reading a clock, so the same
+ * inputs give the same game whether ticks come from real time or are
+ * produced as fast as the CPU allows.
+ */
+public interface GameClock {
+
+    /**
+     * Gets the length of one tick.
+     *
+     * @return nanoseconds per tick
+     */
+    long getTickNanos();
+
+    /**
+     * Gets the current time on this clock.
+     *
+     * @return the time in nanoseconds
+     */
+    long nanoTime();
+
+    /**
+     * Gets how many ticks are due since the last call and marks them as run.
+     *
+     * @return the number of ticks to run now, possibly 0
+     */
+    int pendingTicks();
+
+    /**
+     * Waits until at least one tick is due.
+     * Clocks that do not follow real time return at once.
+     */
+    void awaitTick();
+
+    /**
+     * Forgets any time that passed since the last tick, such as while paused.
+     */
+    void reset();
+}
@@ -0,0 +1,476 @@
+package com.comp2042.loop;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.DirtyRows;
+import com.comp2042.model.EventSource;
+import com.comp2042.model.GameSession;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.sim.BotRunner;
+import com.comp2042.sim.PlacementPolicy;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * Runs a game on its own thread at a fixed tick rate.
+ * The loop thread is the only thread that touches the session and board.
+ * One other thread sends it actions with {@link #submit(InputAction)} and
+ * reads what it shows through {@link #latestFrame()}. Neither call blocks,
+ * so a slow lock or a GC pause on either side does not stall the other.
+ */
+public class GameLoop {
+
+    /** Number of upcoming bricks copied into each frame */
+    public static final int PREVIEW_COUNT = 3;
+
+    /** Number of inputs that can wait for the next tick */
+    public static final int INPUT_CAPACITY = 256;
+
+    private final GameSession session;
+    private final Board board;
+    private final GameClock clock;
+    private final Gravity gravity;
+    private final InputRing inputs = new InputRing(INPUT_CAPACITY);
+    // Created once so draining input each tick does not allocate
+    private final LongConsumer applyEvent = this::applyEvent;
+    private final TripleBuffer<FrameSnapshot> frames;
+    // Version each board row last changed in; versions only ever go up, even across copyFrom
+    private final int[] rowStamps;
+    private int rowVersion = 0;
+
+    private ReplayRecorder recorder;
+    private PlacementPolicy autopilot;
+    private int autopilotTicks;
+    private int autopilotWait = 0;
+    private boolean autopilotOn = false;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    private long tick = 0;
+    // Tick the current game ended on, or -1 while it is running
+    private long gameOverTick = -1;
+    // Time spent unpaused, which the session's lock delay runs on
+    private long playTime = 0;
+    private boolean paused = false;
+    private int gameId = 0;
+    private int clearCount = 0;
+    private int lastClearLines = 0;
+    private int lastClearBonus = 0;
+    private long inputTime;
+    private long inputCount = 0;
+    private long lastInputLatency = 0;
+    private long maxInputLatency = 0;
+
+    /**
+     * Creates a loop for a session that ticks in real time.
+     *
+     * @param session the session to run
+     * @param ticksPerSecond how many times per second input and gravity are processed
+     */
+    public GameLoop(GameSession session, int ticksPerSecond) {
+        this(session, new NanoClock(ticksPerSecond));
+    }
+
+    /**
+     * Creates a loop for a session driven by a clock.
+     * The session must already be started, and must not be used by any
+     * other thread once the loop is running.
+     *
+     * @param session the session to run
+     * @param clock the source of ticks
+     */
+    public GameLoop(GameSession session, GameClock clock) {
+        this.session = session;
+        this.board = session.getBoard();
+        this.clock = clock;
+        this.gravity = new Gravity(clock.getTickNanos());
+
+        int[][] matrix = board.getBoardMatrix();
+        rowStamps = new int[matrix.length];
+        frames = new TripleBuffer<>(() -> new FrameSnapshot(matrix.length, matrix[0].length, PREVIEW_COUNT));
+    }
+
+    /**
+     * Records every applied input into a replay.
+     * Must be set before the loop starts.
+     *
+     * @param recorder the replay recorder, or null to stop recording
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Sets the policy that plays when {@link InputAction#AUTOPLAY} turns the autopilot on.
+     * While on, it places one brick every few ticks and starts a new game
+     * when one ends. Its moves are not inputs, so turning it on stops
+     * recording. Must be set before the loop starts.
+     *
+     * @param policy the policy, which runs on the loop thread
+     * @param ticksPerPiece ticks between placements
+     */
+    public void setAutopilot(PlacementPolicy policy, int ticksPerPiece) {
+        this.autopilot = policy;
+        this.autopilotTicks = Math.max(1, ticksPerPiece);
+    }
+
+    /**
+     * Starts the loop thread.
+     * The thread is a daemon, so it does not keep the application alive.
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the loop thread and waits for it to finish.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues an action for the next tick, stamped with the current time.
+     * Only one thread may submit actions.
+     *
+     * @param action the action to perform
+     * @return false if the input queue was full and the action was dropped
+     */
+    public boolean submit(InputAction action) {
+        return submit(action, clock.nanoTime());
+    }
+
+    /**
+     * Queues an action for the next tick.
+     * Only one thread may submit actions.
+     *
+     * @param action the action to perform
+     * @param nanos when the action happened, on the same clock the loop ticks with
+     * @return false if the input queue was full and the action was dropped
+     */
+    public boolean submit(InputAction action, long nanos) {
+        return inputs.offer(action.pack(nanos));
+    }
+
+    /**
+     * Gets the newest published frame.
+     * Only one thread may read frames. The returned snapshot stays unchanged
+     * until that thread calls this method again.
+     *
+     * @return the newest frame; its tick is -1 until the first one is published
+     */
+    public FrameSnapshot latestFrame() {
+        return frames.latest();
+    }
+
+    private void run() {
+        clock.reset();
+        while (running) {
+            int ticks = clock.pendingTicks();
+            if (ticks > 0) {
+                advance(ticks);
+            }
+            clock.awaitTick();
+        }
+    }
+
+    /**
+     * Runs ticks on the calling thread and publishes a frame after the last one.
+     * Headless runs and tests use this instead of {@link #start()}; it must
+     * not be called while the loop thread is running.
+     *
+     * @param ticks the number of ticks to run
+     */
+    public void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            step();
+        }
+        // Picks up rows changed outside a tick, such as by copyFrom
+        stampDirtyRows();
+        frames.back().capture(session, rowStamps, this);
+        frames.publish();
+    }
+
+    /**
+     * Runs one tick: applies queued actions, lock delay and gravity.
+     */
+    private void step() {
+        inputTime = clock.nanoTime();
+        inputs.drain(applyEvent);
+        if (autopilotOn) {
+            runAutopilot();
+        }
+
+        if (!paused && !session.isGameOver()) {
+            playTime += clock.getTickNanos();
+            ClearRow clearRow = session.update(playTime);
+            int rows = gravity.tick(session.getLevel());
+            if (clearRow == null && rows > 0) {
+                clearRow = session.fall(rows);
+            }
+            handleClear(clearRow);
+        }
+
+        if (gameOverTick < 0 && session.isGameOver()) {
+            gameOverTick = tick;
+        }
+        stampDirtyRows();
+        tick++;
+    }
+
+    private void applyEvent(long event) {
+        // Time from the key press to the tick that applied it
+        long latency = Math.max(0, inputTime - InputAction.timeOf(event));
+        inputCount++;
+        lastInputLatency = latency;
+        maxInputLatency = Math.max(maxInputLatency, latency);
+
+        InputAction action = InputAction.actionOf(event);
+        if (recorder != null) {
+            recorder.record(tick, action);
+        }
+        apply(action);
+    }
+
+    private void apply(InputAction action) {
+        switch (action) {
+            case PAUSE -> paused = true;
+            case RESUME -> {
+                paused = false;
+                gravity.reset();
+            }
+            case AUTOPLAY -> {
+                if (autopilot != null) {
+                    autopilotOn = !autopilotOn;
+                    autopilotWait = autopilotTicks;
+                    // Bot moves would be missing from the replay
+                    recorder = null;
+                }
+            }
+            case NEW_GAME -> {
+                session.newGame();
+                paused = false;
+                gravity.reset();
+                gameId++;
+                gameOverTick = -1;
+                clearCount = 0;
+                lastClearLines = 0;
+                lastClearBonus = 0;
+            }
+            default -> {
+                if (!paused && !session.isGameOver()) {
+                    move(action);
+                }
+            }
+        }
+    }
+
+    private void move(InputAction action) {
+        switch (action) {
+            case LEFT -> session.moveLeft();
+            case RIGHT -> session.moveRight();
+            case ROTATE -> session.rotate();
+            case SOFT_DROP -> handleClear(session.moveDown(EventSource.USER));
+            case HARD_DROP -> handleClear(session.hardDrop());
+            case HOLD -> session.hold();
+            default -> { }
+        }
+    }
+
+    /**
+     * Lets the autopilot place a brick when its wait is over.
+     */
+    private void runAutopilot() {
+        if (paused || --autopilotWait > 0) {
+            return;
+        }
+        autopilotWait = autopilotTicks;
+        if (session.isGameOver()) {
+            apply(InputAction.NEW_GAME);
+            return;
+        }
+        handleClear(BotRunner.apply(session, autopilot.choose(board)));
+    }
+
+    private void handleClear(ClearRow clearRow) {
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            clearCount++;
+            lastClearLines = clearRow.getLinesRemoved();
+            lastClearBonus = clearRow.getScoreBonus();
+        }
+    }
+
+    private void stampDirtyRows() {
+        long dirty = board.pollDirtyRows();
+        if (dirty == DirtyRows.NONE) {
+            return;
+        }
+        int stamp = ++rowVersion;
+        for (int r = 0; r < rowStamps.length; r++) {
+            if (DirtyRows.isDirty(dirty, r)) {
+                rowStamps[r] = stamp;
+            }
+        }
+    }
+
+    /**
+     * Copies the counters, pause state and gravity of another loop.
+     * The session is not copied; copy its board and counters separately,
+     * then the next frame picks up every changed row.
+     * Must not be called while the loop thread is running.
+     *
+     * @param other the loop to copy
+     */
+    public void copyFrom(GameLoop other) {
+        tick = other.tick;
+        gameOverTick = other.gameOverTick;
+        playTime = other.playTime;
+        paused = other.paused;
+        gameId = other.gameId;
+        clearCount = other.clearCount;
+        lastClearLines = other.lastClearLines;
+        lastClearBonus = other.lastClearBonus;
+        gravity.copyFrom(other.gravity);
+    }
+
+    /**
+     * Checks whether inputs are still being recorded.
+     * Only safe to read from the loop thread, or while the loop is stopped.
+     *
+     * @return true if a recorder is set and the autopilot has not been turned on
+     */
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * Checks whether the autopilot is playing.
+     * Only safe to read from the loop thread, or while the loop is stopped.
+     *
+     * @return true while the autopilot is on
+     */
+    public boolean isAutopilot() {
+        return autopilotOn;
+    }
+
+    /**
+     * Gets the session this loop runs.
+     * Only safe to read from the loop thread, or while the loop is stopped.
+     *
+     * @return the session
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * Gets the tick the current game ended on.
+     *
+     * @return the tick, or -1 if the game is not over
+     */
+    public long getGameOverTick() {
+        return gameOverTick;
+    }
+
+    /**
+     * Gets the clock driving this loop.
+     *
+     * @return the clock
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return the tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of the current game, counting new games from 0.
+     *
+     * @return the game number
+     */
+    public int getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Checks whether the loop is paused.
+     *
+     * @return true if paused
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Gets how many locks cleared lines this game.
+     *
+     * @return the clear count
+     */
+    public int getClearCount() {
+        return clearCount;
+    }
+
+    /**
+     * Gets the number of lines removed by the last clear.
+     *
+     * @return lines in the last clear
+     */
+    public int getLastClearLines() {
+        return lastClearLines;
+    }
+
+    /**
+     * Gets the score bonus of the last clear.
+     *
+     * @return bonus of the last clear
+     */
+    public int getLastClearBonus() {
+        return lastClearBonus;
+    }
+
+    /**
+     * Gets the number of inputs applied so far.
+     *
+     * @return the input count
+     */
+    public long getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * Gets how long the last applied input waited for its tick.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getLastInputLatency() {
+        return lastInputLatency;
+    }
+
+    /**
+     * Gets the longest any input waited for its tick.
+     *
+     * @return the latency in nanoseconds
+     */
+    public long getMaxInputLatency() {
+        return maxInputLatency;
+    }
+}
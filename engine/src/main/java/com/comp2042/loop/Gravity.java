@@ -0,0 +1,74 @@
+package com.comp2042.loop;
+
+import com.comp2042.service.LevelService;
+
+/**
+ * Turns the gravity of the current level into whole rows per tick.
+ * Gravity is a fraction of a row per frame, added up in fixed point every
+ * tick, so slow levels fall one row every few ticks and fast levels fall
+ * several rows at once. Measured in ticks, the pattern of drops does not
+ * depend on how the ticks are timed.
+ */
+public final class Gravity {
+
+    // Length of the 60 Hz frame that gravity is defined in
+    private static final long FRAME_NANOS = 1_000_000_000L / 60;
+    private static final int FRACTION_BITS = 16;
+
+    private final long tickNanos;
+    private long accumulator = 0;
+    private int level = -1;
+    private long step;
+
+    /**
+     * Creates gravity for a tick length.
+     *
+     * @param tickNanos nanoseconds per tick
+     */
+    public Gravity(long tickNanos) {
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * Gets how far gravity moves a brick in one tick at a level.
+     *
+     * @param level the current level, starting at 1
+     * @return rows per tick, in units of {@link LevelService#GRAVITY_ONE}
+     */
+    public long perTick(int level) {
+        return Math.round((double) LevelService.gravityFor(level) * tickNanos / FRAME_NANOS);
+    }
+
+    /**
+     * Advances one tick.
+     *
+     * @param level the current level
+     * @return the number of rows the brick should fall this tick, possibly 0
+     */
+    public int tick(int level) {
+        if (level != this.level) {
+            this.level = level;
+            step = perTick(level);
+        }
+        accumulator += step;
+        int rows = (int) (accumulator >> FRACTION_BITS);
+        accumulator &= LevelService.GRAVITY_ONE - 1;
+        return rows;
+    }
+
+    /**
+     * Drops any partial row, as after a new game.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    /**
+     * Copies the partial row of another gravity counter.
+     *
+     * @param other the gravity to copy
+     */
+    public void copyFrom(Gravity other) {
+        accumulator = other.accumulator;
+    }
+}
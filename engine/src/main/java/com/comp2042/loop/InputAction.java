@@ -0,0 +1,66 @@
+package com.comp2042.loop;
+
+/**
+ * Player and menu actions the game loop can be sent.
+ * An action and the time it happened pack into one long, so input can be
+ * queued without allocating an event object per key press.
+ */
+public enum InputAction {
+    /** Move the brick one column left */
+    LEFT,
+    /** Move the brick one column right */
+    RIGHT,
+    /** Rotate the brick */
+    ROTATE,
+    /** Move the brick one row down, scoring a point */
+    SOFT_DROP,
+    /** Drop the brick to the bottom and lock it */
+    HARD_DROP,
+    /** Swap the brick with the held one */
+    HOLD,
+    /** Stop gravity and ignore moves */
+    PAUSE,
+    /** Start gravity again after a pause */
+    RESUME,
+    /** Reset the board and start a new game */
+    NEW_GAME,
+    /** Turn the autopilot on or off */
+    AUTOPLAY;
+
+    // Low bits of a packed event hold the action, the rest hold the time
+    private static final int ACTION_BITS = 4;
+    private static final long ACTION_MASK = (1L << ACTION_BITS) - 1;
+    private static final InputAction[] VALUES = values();
+
+    /**
+     * Packs this action and a timestamp into one event.
+     * The top bits of the timestamp are dropped, which only matters for
+     * times more than about 18 years away from zero.
+     *
+     * @param nanos when the action happened, from {@link System#nanoTime()}
+     * @return the packed event
+     */
+    public long pack(long nanos) {
+        return (nanos << ACTION_BITS) | ordinal();
+    }
+
+    /**
+     * Gets the action of a packed event.
+     *
+     * @param event the packed event
+     * @return the action
+     */
+    public static InputAction actionOf(long event) {
+        return VALUES[(int) (event & ACTION_MASK)];
+    }
+
+    /**
+     * Gets the timestamp of a packed event.
+     *
+     * @param event the packed event
+     * @return when the action happened, in nanoseconds
+     */
+    public static long timeOf(long event) {
+        return event >> ACTION_BITS;
+    }
+}
@@ -0,0 +1,101 @@
+package com.comp2042.loop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Bounded lock-free queue of packed input events between one producer and
+ * one consumer thread.
+ * Events are primitive longs in a fixed array, so queueing a key press
+ * never allocates. The consumer drains everything queued so far in one go,
+ * publishing its progress once per drain rather than once per event.
+ */
+public final class InputRing {
+
+    private final long[] events;
+    private final int mask;
+    // Next slot to read, written only by the consumer
+    private final AtomicLong head = new AtomicLong();
+    // Next slot to write, written only by the producer
+    private final AtomicLong tail = new AtomicLong();
+    // Producer's last view of head, so a full check rarely reads the shared counter
+    private long headCache;
+
+    /**
+     * Creates a ring that holds up to the given number of events.
+     *
+     * @param capacity the maximum number of queued events, rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public InputRing(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        events = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Queues an event.
+     * Only the producer thread may call this.
+     *
+     * @param event the packed event
+     * @return false if the ring was full and the event was dropped
+     */
+    public boolean offer(long event) {
+        long t = tail.get();
+        if (t - headCache >= events.length) {
+            headCache = head.get();
+            if (t - headCache >= events.length) {
+                return false;
+            }
+        }
+        events[(int) (t & mask)] = event;
+        // Release store: the slot write above becomes visible before the new tail
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Passes every queued event to the consumer in the order they were offered.
+     * Only the consumer thread may call this. Events offered while draining
+     * are left for the next drain.
+     *
+     * @param consumer receives each packed event
+     * @return the number of events drained
+     */
+    public int drain(LongConsumer consumer) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            consumer.accept(events[(int) (i & mask)]);
+        }
+        if (t != h) {
+            head.lazySet(t);
+        }
+        return (int) (t - h);
+    }
+
+    /**
+     * Gets the number of queued events.
+     * The count may already be stale when read from another thread.
+     *
+     * @return the number of events waiting
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Gets the maximum number of events the ring can hold.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return events.length;
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.loop;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Game clock that follows real time using {@link System#nanoTime()}.
+ * Elapsed time is added to an accumulator and paid out as whole ticks, so
+ * ticks keep a fixed length however unevenly the caller polls. After a long
+ * stall only a few ticks are caught up, and the rest of the backlog is
+ * dropped so the game slows down instead of jumping ahead.
+ */
+public final class NanoClock implements GameClock {
+
+    /** Most ticks paid out by one call to {@link #pendingTicks()} */
+    public static final int MAX_CATCH_UP = 8;
+
+    private final long tickNanos;
+    private long last;
+    private long accumulator = 0;
+
+    /**
+     * Creates a clock ticking at a fixed rate, starting now.
+     *
+     * @param ticksPerSecond the tick rate
+     */
+    public NanoClock(int ticksPerSecond) {
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+        this.last = System.nanoTime();
+    }
+
+    @Override
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public int pendingTicks() {
+        long now = System.nanoTime();
+        accumulator += now - last;
+        last = now;
+
+        long ticks = accumulator / tickNanos;
+        if (ticks > MAX_CATCH_UP) {
+            accumulator = 0;
+            return MAX_CATCH_UP;
+        }
+        accumulator -= ticks * tickNanos;
+        return (int) ticks;
+    }
+
+    @Override
+    public void awaitTick() {
+        long wait = tickNanos - accumulator - (System.nanoTime() - last);
+        if (wait > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    @Override
+    public void reset() {
+        last = System.nanoTime();
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.loop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free triple buffer between one producer and one consumer thread.
+ * The producer always has a back slot to write and the consumer always has a
+ * front slot to read, so neither ever waits for the other. Publishing swaps
+ * the back slot with the shared middle slot; reading swaps the middle slot
+ * into the front when it holds something new. The consumer only ever sees
+ * the most recent frame, and older unread frames are dropped.
+ *
+ * @param <T> the type of the slots, reused rather than reallocated
+ */
+public final class TripleBuffer<T> {
+
+    // Set in the middle index when the producer published a slot the consumer has not taken
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(2);
+    // Owned by the producer thread
+    private int back = 0;
+    // Owned by the consumer thread
+    private int front = 1;
+
+    /**
+     * Creates a triple buffer with three slots from the factory.
+     *
+     * @param factory creates each slot
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the slot the producer should write next.
+     * Only the producer thread may call this.
+     *
+     * @return the back slot
+     */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Hands the back slot to the consumer and takes a new back slot.
+     * Only the producer thread may call this.
+     *
+     * @return true if the frame this replaced was never read
+     */
+    public boolean publish() {
+        int old = middle.getAndSet(back | FRESH);
+        back = old & INDEX;
+        return (old & FRESH) != 0;
+    }
+
+    /**
+     * Gets the most recently published slot.
+     * Only the consumer thread may call this. The slot stays valid until the
+     * next call.
+     *
+     * @return the front slot, which is the newest frame
+     */
+    @SuppressWarnings("unchecked")
+    public T latest() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        return (T) slots[front];
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.loop;
+
+/**
+ * Game clock that only moves when ticks are taken from it.
+ * Every call to {@link #pendingTicks()} returns one tick and moves the
+ * clock forward by one tick length, so a loop driven by it runs as fast as
+ * the CPU allows. Tests can also move the clock by hand.
+ */
+public final class VirtualClock implements GameClock {
+
+    private final long tickNanos;
+    private long now = 0;
+
+    /**
+     * Creates a virtual clock at time 0.
+     *
+     * @param ticksPerSecond the tick rate the game would run at in real time
+     */
+    public VirtualClock(int ticksPerSecond) {
+        this.tickNanos = 1_000_000_000L / ticksPerSecond;
+    }
+
+    @Override
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    @Override
+    public int pendingTicks() {
+        now += tickNanos;
+        return 1;
+    }
+
+    @Override
+    public void awaitTick() {
+        // Virtual time never waits
+    }
+
+    @Override
+    public void reset() {
+        // Nothing is accumulated between ticks
+    }
+
+    /**
+     * Moves the clock forward without running any ticks.
+     *
+     * @param nanos how far to move, in nanoseconds
+     */
+    public void advance(long nanos) {
+        now += nanos;
+    }
+}
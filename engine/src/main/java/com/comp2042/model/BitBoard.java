@@ -0,0 +1,543 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.util.BrickRotator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bitboard implementation of the game board.
+ * Stores every row as an occupancy bitmask so collision, merge, ghost and
+ * line clear checks are a handful of AND/OR/shift operations per row.
+ * A separate color plane keeps the color IDs for rendering.
+ *
+ * Each row mask has the side walls pre-set, so a full row is simply -1 and
+ * a piece that pokes through a wall collides like any other block.
+ */
+public class BitBoard implements Board {
+
+    // Number of upcoming bricks shown in the preview
+    private static final int NEXT_QUEUE_SIZE = 3;
+
+    /** Number of wall bits to the left of column 0 (a 4x4 shape can hang 3 columns off the edge) */
+    private static final int WALL = 3;
+
+    /** Widest playfield that still leaves room for the right wall inside an int */
+    private static final int MAX_COLUMNS = Integer.SIZE - 2 * WALL;
+
+    /** Mask value meaning every bit in the row is filled */
+    private static final int FULL_ROW = -1;
+
+    private final int rows;
+    private final int columns;
+    private final int emptyRow;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final int[] occupancy;
+    private final int[][] colorPlane;
+    private final int[][] freedRows;
+    private final Score score;
+    // Rows changed since the view last asked
+    private long dirtyRows = DirtyRows.ALL;
+
+    private int currentX;
+    private int currentY;
+    private int ghostY;
+    private Brick heldBrick = null;
+    private boolean holdUsed = false;
+
+    /**
+     * Creates a new bitboard with specified dimensions.
+     * Dimensions follow SimpleBoard: the first value is the number of rows
+     * in the matrix and the second is the number of columns.
+     *
+     * @param width the number of rows in the board matrix
+     * @param height the number of columns in the board matrix
+     */
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new bitboard that takes its bricks from the given generator.
+     *
+     * @param width the number of rows in the board matrix
+     * @param height the number of columns in the board matrix
+     * @param brickGenerator the source of new bricks
+     * @throws IllegalArgumentException if the board is too wide to fit a row mask
+     */
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (height > MAX_COLUMNS) {
+            throw new IllegalArgumentException("BitBoard supports at most " + MAX_COLUMNS + " columns");
+        }
+        this.rows = width;
+        this.columns = height;
+        this.emptyRow = ~(((1 << columns) - 1) << WALL);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+        occupancy = new int[rows];
+        colorPlane = new int[rows][columns];
+        freedRows = new int[rows][];
+        Arrays.fill(occupancy, emptyRow);
+    }
+
+    /**
+     * Gets the currently held brick.
+     *
+     * @return the held brick, or null if none
+     */
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Attempts to move the current brick down by one row.
+     *
+     * @return true if the brick moved successfully, false if it hit something
+     */
+    @Override
+    public boolean moveBrickDown() {
+        if (collides(brickRotator.getCurrentPosition(), currentX, currentY + 1)) {
+            return false;
+        }
+        currentY++;
+        return true;
+    }
+
+    /**
+     * Attempts to move the current brick left by one column.
+     *
+     * @return true if the brick moved successfully, false if blocked
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        if (collides(brickRotator.getCurrentPosition(), currentX - 1, currentY)) {
+            return false;
+        }
+        currentX--;
+        updateGhostBrick();
+        return true;
+    }
+
+    /**
+     * Attempts to move the current brick right by one column.
+     *
+     * @return true if the brick moved successfully, false if blocked
+     */
+    @Override
+    public boolean moveBrickRight() {
+        if (collides(brickRotator.getCurrentPosition(), currentX + 1, currentY)) {
+            return false;
+        }
+        currentX++;
+        updateGhostBrick();
+        return true;
+    }
+
+    /**
+     * Attempts to rotate the current brick counterclockwise.
+     *
+     * @return true if rotation was successful, false if blocked
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextPosition = brickRotator.getNextPosition();
+        if (collides(nextPosition, currentX, currentY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextPosition);
+        updateGhostBrick();
+        return true;
+    }
+
+    /**
+     * Moves the current brick straight to a rotation and position if it fits there.
+     *
+     * @param rotation the rotation index
+     * @param x the target x position
+     * @param y the target y position
+     * @return true if the brick was moved, false if the position is blocked
+     */
+    @Override
+    public boolean moveBrickTo(int rotation, int x, int y) {
+        if (collides(rotation, x, y)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(rotation);
+        currentX = x;
+        currentY = y;
+        updateGhostBrick();
+        return true;
+    }
+
+    /**
+     * Looks ahead in the brick sequence without removing anything.
+     *
+     * @param ahead how far ahead to look, 0 being the brick that spawns next
+     * @return the upcoming brick
+     */
+    @Override
+    public Brick peekBrick(int ahead) {
+        return brickGenerator.peekBrick(ahead);
+    }
+
+    /**
+     * Gets the brick that is currently falling.
+     *
+     * @return the current brick
+     */
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getCurrentBrick();
+    }
+
+    /**
+     * Gets the column offset of the falling brick.
+     *
+     * @return the brick x position
+     */
+    @Override
+    public int getBrickX() {
+        return currentX;
+    }
+
+    /**
+     * Gets the row offset of the falling brick.
+     *
+     * @return the brick y position
+     */
+    @Override
+    public int getBrickY() {
+        return currentY;
+    }
+
+    /**
+     * Gets the row offset the falling brick would land at.
+     *
+     * @return the ghost y position
+     */
+    @Override
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     *
+     * @return the current rotation index
+     */
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    /**
+     * Swaps the current brick with the held brick.
+     * If no brick is held, stores current and spawns new one.
+     * Can only be used once per brick.
+     *
+     * @return updated view data for rendering
+     */
+    @Override
+    public ViewData holdBrick() {
+        if (holdUsed) {
+            return getViewData();
+        }
+
+        if (heldBrick == null) {
+            heldBrick = brickRotator.getCurrentBrick();
+            createNewBrick();
+        } else {
+            Brick temp = brickRotator.getCurrentBrick();
+            brickRotator.setBrick(heldBrick);
+            heldBrick = temp;
+
+            // Reset spawn position after swap
+            currentX = SimpleBoard.SPAWN_X;
+            currentY = SimpleBoard.SPAWN_Y;
+        }
+
+        holdUsed = true;
+        updateGhostBrick();
+        return getViewData();
+    }
+
+    /**
+     * Moves the brick down up to the given rows, stopping at the ghost row.
+     *
+     * @param rows the most rows to move
+     * @return the number of rows moved
+     */
+    @Override
+    public int moveBrickDown(int rows) {
+        int moved = Math.min(rows, ghostY - currentY);
+        if (moved <= 0) {
+            return 0;
+        }
+        currentY += moved;
+        return moved;
+    }
+
+    /**
+     * Instantly drops the brick to the lowest possible position.
+     *
+     * @return number of rows the brick dropped
+     */
+    @Override
+    public int hardDrop() {
+        int rowsDropped = ghostY - currentY;
+        currentY = ghostY;
+        return rowsDropped;
+    }
+
+    /**
+     * Creates and spawns a new brick at the top of the board.
+     * Takes next brick from queue and generates a new one to add to queue.
+     *
+     * @return true if the new brick overlaps existing blocks (game over), false otherwise
+     */
+    @Override
+    public boolean createNewBrick() {
+        brickRotator.setBrick(brickGenerator.getBrick());
+        holdUsed = false;
+
+        // Spawn position (centered horizontally, near top)
+        currentX = SimpleBoard.SPAWN_X;
+        currentY = SimpleBoard.SPAWN_Y;
+        updateGhostBrick();
+
+        return collides(brickRotator.getCurrentPosition(), currentX, currentY);
+    }
+
+    /**
+     * Gets the rows whose cells changed since the last call and forgets them.
+     *
+     * @return the dirty-row mask
+     */
+    @Override
+    public long pollDirtyRows() {
+        long rows = dirtyRows;
+        dirtyRows = DirtyRows.NONE;
+        return rows;
+    }
+
+    /**
+     * Gets the color plane of the board.
+     * Each cell holds the color ID of the block placed there, or 0 if empty.
+     *
+     * @return 2D array representing the board state
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colorPlane;
+    }
+
+    /**
+     * Gets the current view data for rendering.
+     *
+     * @return ViewData containing all rendering information
+     */
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(
+                brickRotator.getCurrentPieceShape(),
+                currentX,
+                currentY,
+                currentX,
+                ghostY,
+                brickGenerator.getNextBrick().getRotations()[0]
+        );
+    }
+
+    /**
+     * Gets the shapes of all bricks in the next queue.
+     *
+     * @return list of brick shape matrices
+     */
+    @Override
+    public List<int[][]> getNextQueueShapes() {
+        List<int[][]> list = new ArrayList<>();
+        for (int i = 0; i < NEXT_QUEUE_SIZE; i++) {
+            Brick b = brickGenerator.peekBrick(i);
+            list.add(b.getShapeMatrix().get(0));
+        }
+        return list;
+    }
+
+    /**
+     * Merges the current brick into the background board.
+     * ORs the piece masks into the occupancy rows and copies the colors into the color plane.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        PieceShape shape = brickRotator.getCurrentPieceShape();
+        for (int r = 0; r < shape.getRowCount(); r++) {
+            int targetY = currentY + r;
+            if (shape.getRowMask(r) != 0 && targetY >= 0 && targetY < rows) {
+                occupancy[targetY] |= shiftMask(shape.getRowMask(r), currentX);
+            }
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            colorPlane[currentY + shape.getCellY(i)][currentX + shape.getCellX(i)] = shape.getColorId();
+        }
+        dirtyRows |= DirtyRows.range(currentY + shape.getMinY(), currentY + shape.getMaxY());
+
+        // Reset hold after merge
+        holdUsed = false;
+    }
+
+    /**
+     * Removes every full row and shifts the rows above it down.
+     * A row is full when its mask is all ones, so the check is one compare per row.
+     * Surviving rows are moved by reference and cleared rows are reused at the top.
+     *
+     * @return ClearRow object containing number of lines cleared and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int cleared = 0;
+        int lowestCleared = -1;
+        int write = rows - 1;
+
+        for (int read = rows - 1; read >= 0; read--) {
+            if (occupancy[read] == FULL_ROW) {
+                lowestCleared = Math.max(lowestCleared, read);
+                freedRows[cleared++] = colorPlane[read];
+                continue;
+            }
+            if (write != read) {
+                occupancy[write] = occupancy[read];
+                colorPlane[write] = colorPlane[read];
+            }
+            write--;
+        }
+
+        // The rows left at the top are exactly the cleared ones, reused empty
+        for (int i = 0; i < cleared; i++) {
+            int[] row = freedRows[i];
+            Arrays.fill(row, 0);
+            occupancy[i] = emptyRow;
+            colorPlane[i] = row;
+            freedRows[i] = null;
+        }
+
+        // Every row down to the lowest cleared one has shifted
+        dirtyRows |= DirtyRows.range(0, lowestCleared);
+
+        int scoreBonus = 50 * cleared * cleared;
+        return new ClearRow(cleared, colorPlane, scoreBonus);
+    }
+
+    /**
+     * Gets the score object for this board.
+     *
+     * @return the Score object
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the shape of the currently held brick.
+     *
+     * @return brick shape matrix, or null if no brick is held
+     */
+    @Override
+    public int[][] getHeldBrickShape() {
+        if (heldBrick == null) return null;
+        return heldBrick.getShapeMatrix().get(0);
+    }
+
+    /**
+     * Resets the hold state for a new game.
+     */
+    @Override
+    public void resetHold() {
+        heldBrick = null;
+        holdUsed = false;
+    }
+
+    /**
+     * Checks whether hold was used for the current brick.
+     *
+     * @return true if the brick cannot be held
+     */
+    @Override
+    public boolean isHoldUsed() {
+        return holdUsed;
+    }
+
+    /**
+     * Starts a new game by resetting the board.
+     * Clears both planes, resets score, and creates a new brick.
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(occupancy, emptyRow);
+        for (int[] row : colorPlane) {
+            Arrays.fill(row, 0);
+        }
+        dirtyRows = DirtyRows.ALL;
+        score.reset();
+        createNewBrick();
+    }
+
+    /**
+     * Recomputes the ghost row by sliding the piece down until it collides.
+     */
+    private void updateGhostBrick() {
+        int position = brickRotator.getCurrentPosition();
+        int y = currentY;
+        while (!collides(position, currentX, y + 1)) {
+            y++;
+        }
+        ghostY = y;
+    }
+
+    /**
+     * Checks whether a rotation of the current brick overlaps blocks, walls or the floor.
+     *
+     * @param position the rotation index
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return true if there is a collision, false otherwise
+     */
+    private boolean collides(int position, int x, int y) {
+        // Every cell of a shape left of -WALL or right of the last column is off the board,
+        // and shifting it that far would wrap the mask past the wall bits
+        if (x < -WALL || x >= columns) {
+            return true;
+        }
+        PieceShape shape = brickRotator.getPieceShape(position);
+        for (int r = 0; r < shape.getRowCount(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int targetY = y + r;
+            if (targetY < 0 || targetY >= rows || (occupancy[targetY] & shiftMask(mask, x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves a shape row mask to the given column, counting the wall bits.
+     *
+     * @param mask the shape row mask with bit 0 as the shape's left edge
+     * @param x the column of the shape's left edge, from -WALL to the last column
+     * @return the mask aligned with the board's row masks
+     */
+    private static int shiftMask(int mask, int x) {
+        return mask << (x + WALL);
+    }
+}
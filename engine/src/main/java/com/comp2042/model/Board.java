@@ -0,0 +1,211 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+
+import java.util.List;
+
+/**
+ * Interface representing the game board.
+ * Defines all operations that can be performed on the board.
+ */
+public interface Board {
+
+    /**
+     * Moves the current brick down by one row.
+     *
+     * @return true if movement was successful, false if blocked
+     */
+    boolean moveBrickDown();
+
+    /**
+     * Moves the current brick down several rows at once, stopping on the stack.
+     * Uses the landing row already known from the column heights, so it
+     * costs the same however far the brick falls.
+     *
+     * @param rows the most rows to move
+     * @return the number of rows actually moved, 0 if the brick is resting
+     */
+    int moveBrickDown(int rows);
+
+    /**
+     * Moves the current brick left by one column.
+     *
+     * @return true if movement was successful, false if blocked
+     */
+    boolean moveBrickLeft();
+
+    /**
+     * Moves the current brick right by one column.
+     *
+     * @return true if movement was successful, false if blocked
+     */
+    boolean moveBrickRight();
+
+    /**
+     * Rotates the current brick counterclockwise.
+     *
+     * @return true if rotation was successful, false if blocked
+     */
+    boolean rotateLeftBrick();
+
+    /**
+     * Moves the current brick straight to a rotation and position.
+     * Only the target position is checked, so callers such as bots are
+     * responsible for choosing positions the brick can actually reach.
+     *
+     * @param rotation the rotation index
+     * @param x the target x position
+     * @param y the target y position
+     * @return true if the brick fits there and was moved, false otherwise
+     */
+    boolean moveBrickTo(int rotation, int x, int y);
+
+    /**
+     * Gets the brick that is currently falling.
+     *
+     * @return the current brick
+     */
+    Brick getCurrentBrick();
+
+    /**
+     * Looks ahead in the brick sequence without removing anything.
+     * Lets bots plan with more previews than the GUI shows.
+     *
+     * @param ahead how far ahead to look, 0 being the brick that spawns next
+     * @return the upcoming brick
+     */
+    Brick peekBrick(int ahead);
+
+    /**
+     * Gets the brick in the hold slot.
+     *
+     * @return the held brick, or null if none
+     */
+    Brick getHeldBrick();
+
+    /**
+     * Gets the column offset of the falling brick.
+     *
+     * @return the brick x position
+     */
+    int getBrickX();
+
+    /**
+     * Gets the row offset of the falling brick.
+     *
+     * @return the brick y position
+     */
+    int getBrickY();
+
+    /**
+     * Gets the row offset the falling brick would land at.
+     * The ghost is always in the same column as the brick.
+     *
+     * @return the ghost y position
+     */
+    int getGhostY();
+
+    /**
+     * Gets the rotation index of the falling brick.
+     *
+     * @return the current rotation index
+     */
+    int getCurrentRotation();
+
+    /**
+     * Creates a new brick at the top of the board.
+     *
+     * @return true if the new brick overlaps existing blocks (game over), false otherwise
+     */
+    boolean createNewBrick();
+
+    /**
+     * Gets the rows whose cells changed since the last call and forgets them.
+     * A new board and a new game report every row, merging a brick reports
+     * the rows it covers, and a line clear reports every row that shifted.
+     * Bit i stands for row i; see {@link DirtyRows}.
+     *
+     * @return the dirty-row mask
+     */
+    long pollDirtyRows();
+
+    /**
+     * Gets the current board matrix showing all placed blocks.
+     *
+     * @return 2D array representing the board state
+     */
+    int[][] getBoardMatrix();
+
+    /**
+     * Gets the current view data for rendering the falling brick.
+     *
+     * @return view data containing brick position and shape
+     */
+    ViewData getViewData();
+
+    /**
+     * Gets the shapes of upcoming bricks in the queue.
+     *
+     * @return list of brick shape matrices
+     */
+    List<int[][]> getNextQueueShapes();
+
+    /**
+     * Swaps the current brick with the held brick.
+     *
+     * @return updated view data
+     */
+    ViewData holdBrick();
+
+    /**
+     * Resets the hold state for a new game.
+     */
+    void resetHold();
+
+    /**
+     * Checks whether the current brick came out of a hold, so it cannot be held again.
+     *
+     * @return true if holding is blocked until the next brick spawns
+     */
+    boolean isHoldUsed();
+
+    /**
+     * Gets the shape of the currently held brick.
+     *
+     * @return brick shape matrix, or null if no brick is held
+     */
+    int[][] getHeldBrickShape();
+
+    /**
+     * Instantly drops the brick to the lowest possible position.
+     *
+     * @return number of rows the brick dropped
+     */
+    int hardDrop();
+
+    /**
+     * Merges the current brick into the background board.
+     */
+    void mergeBrickToBackground();
+
+    /**
+     * Checks for and removes any completed rows.
+     *
+     * @return information about cleared rows and score bonus
+     */
+    ClearRow clearRows();
+
+    /**
+     * Gets the current score object.
+     *
+     * @return the game score
+     */
+    Score getScore();
+
+    /**
+     * Starts a new game by resetting the board.
+     * The brick sequence carries on from the generator; reseed it first for a repeatable game.
+     */
+    void newGame();
+}
+
@@ -3,12 +3,15 @@ package com.comp2042.model;
 /**
  * Contains information about cleared rows.
  * Stores the number of lines removed, updated matrix, and score bonus.
+ * When the board cleared in place it also records which rows were removed.
  */
 public final class ClearRow {
 
     private final int linesRemoved;
     private final int[][] newMatrix;
     private final int scoreBonus;
+    private final int clearedRows;
+    private final int firstRow;
 
     /**
      * Creates a new ClearRow result.
@@ -18,9 +21,24 @@ public final class ClearRow {
      * @param scoreBonus points awarded for clearing these lines
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, 0, 0);
+    }
+
+    /**
+     * Creates a new ClearRow result that records which rows were removed.
+     *
+     * @param linesRemoved number of lines that were cleared
+     * @param newMatrix the updated board matrix after clearing
+     * @param scoreBonus points awarded for clearing these lines
+     * @param clearedRows bitmask of cleared rows, bit i standing for row firstRow + i
+     * @param firstRow the row that bit 0 of the mask refers to
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int clearedRows, int firstRow) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
+        this.firstRow = firstRow;
     }
 
     /**
@@ -51,4 +69,23 @@ public final class ClearRow {
     public int getScoreBonus() {
         return scoreBonus;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the rows that were cleared as a bitmask.
+     * Bit i is set when row getFirstRow() + i was removed.
+     *
+     * @return cleared rows mask, or 0 if not recorded
+     */
+    public int getClearedRows() {
+        return clearedRows;
+    }
+
+    /**
+     * Gets the board row that bit 0 of the cleared rows mask refers to.
+     *
+     * @return first row covered by the mask
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.model;
+
+/**
+ * Helpers for the dirty-row masks boards report to the view.
+ * Bit i of a mask means row i changed. Boards taller than 64 rows report
+ * every row from 63 down through bit 63.
+ */
+public final class DirtyRows {
+
+    /** Mask with every row marked */
+    public static final long ALL = -1L;
+
+    /** Mask with no row marked */
+    public static final long NONE = 0L;
+
+    private static final int LAST_BIT = Long.SIZE - 1;
+
+    // Private constructor to prevent instantiation
+    private DirtyRows() { }
+
+    /**
+     * Builds a mask covering a range of rows.
+     *
+     * @param fromRow the first row, inclusive
+     * @param toRow the last row, inclusive
+     * @return the mask, or NONE if the range is empty
+     */
+    public static long range(int fromRow, int toRow) {
+        int from = Math.max(fromRow, 0);
+        int to = Math.min(toRow, LAST_BIT);
+        if (from > to) {
+            return toRow > LAST_BIT ? Long.MIN_VALUE : NONE;
+        }
+        long mask = (ALL >>> (LAST_BIT - (to - from))) << from;
+        return toRow > LAST_BIT ? mask | Long.MIN_VALUE : mask;
+    }
+
+    /**
+     * Checks whether a row is marked in a mask.
+     *
+     * @param mask the dirty-row mask
+     * @param row the row index
+     * @return true if the row needs repainting
+     */
+    public static boolean isDirty(long mask, int row) {
+        return (mask & (1L << Math.min(row, LAST_BIT))) != 0;
+    }
+}
@@ -0,0 +1,321 @@
+package com.comp2042.model;
+
+import com.comp2042.service.LevelService;
+import com.comp2042.service.ScoreService;
+
+/**
+ * Runs the rules of one game on top of a Board.
+ * Handles locking, line clears, scoring, levels and game over without any
+ * knowledge of the UI, so the same rules drive the JavaFX game and headless
+ * simulations. Moves return primitives so no garbage is created per move.
+ * Without lock delay a brick locks as soon as a drop is blocked; with it,
+ * a grounded brick locks when {@link #update(long)} finds its timer ran out.
+ */
+public class GameSession {
+
+    private final Board board;
+    private final int linesPerLevel;
+    private int totalLines = 0;
+    private int level = 1;
+    private int piecesPlaced = 0;
+    private boolean gameOver = false;
+    private LockDelay lockDelay;
+    private long now = 0;
+
+    /**
+     * Creates a session for the given board.
+     *
+     * @param board the board to play on
+     * @param linesPerLevel how many lines are needed per level
+     */
+    public GameSession(Board board, int linesPerLevel) {
+        this.board = board;
+        this.linesPerLevel = linesPerLevel;
+    }
+
+    /**
+     * Gets the board this session plays on.
+     *
+     * @return the board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Turns on lock delay, or turns it off with null.
+     *
+     * @param lockDelay the lock delay rules, or null to lock as soon as a drop is blocked
+     */
+    public void setLockDelay(LockDelay lockDelay) {
+        this.lockDelay = lockDelay;
+        startLockDelay();
+    }
+
+    /**
+     * Spawns the first brick of the game.
+     */
+    public void start() {
+        gameOver = board.createNewBrick();
+        startLockDelay();
+    }
+
+    /**
+     * Advances the session's time and locks a grounded brick whose lock delay ran out.
+     * Does nothing without lock delay.
+     *
+     * @param now the current time in nanoseconds, from a monotonic source
+     * @return the clear result if the brick locked, or null
+     */
+    public ClearRow update(long now) {
+        this.now = now;
+        if (lockDelay == null || gameOver) {
+            return null;
+        }
+        if (lockDelay.shouldLock(board.getGhostY() == board.getBrickY(), now)) {
+            return lockBrick();
+        }
+        return null;
+    }
+
+    /**
+     * Moves the brick down one row, locking it if it cannot move.
+     * A user-triggered move that succeeds awards one point.
+     *
+     * @param source where the move came from
+     * @return the clear result if the brick locked, or null if it just moved down
+     */
+    public ClearRow moveDown(EventSource source) {
+        if (board.moveBrickDown()) {
+            // Award 1 point for manual down movement
+            if (source == EventSource.USER) {
+                board.getScore().add(1);
+            }
+            brickMoved();
+            return null;
+        }
+
+        // Brick has landed, merge it to the background
+        return lockBrick();
+    }
+
+    /**
+     * Lets gravity move the brick down several rows in one tick.
+     * Without lock delay, a brick that is already resting on the stack
+     * locks instead, just as a failed single-row drop does.
+     *
+     * @param rows how many rows gravity moves this tick, at least 1
+     * @return the clear result if the brick locked, or null if it fell
+     */
+    public ClearRow fall(int rows) {
+        if (board.moveBrickDown(rows) > 0) {
+            brickMoved();
+            return null;
+        }
+        // With lock delay, update() decides when a resting brick locks
+        return lockDelay == null ? lockBrick() : null;
+    }
+
+    /**
+     * Moves the brick left one column.
+     *
+     * @return true if the brick moved
+     */
+    public boolean moveLeft() {
+        boolean moved = board.moveBrickLeft();
+        if (moved) {
+            brickMoved();
+        }
+        return moved;
+    }
+
+    /**
+     * Moves the brick right one column.
+     *
+     * @return true if the brick moved
+     */
+    public boolean moveRight() {
+        boolean moved = board.moveBrickRight();
+        if (moved) {
+            brickMoved();
+        }
+        return moved;
+    }
+
+    /**
+     * Rotates the brick.
+     *
+     * @return true if the brick rotated
+     */
+    public boolean rotate() {
+        boolean moved = board.rotateLeftBrick();
+        if (moved) {
+            brickMoved();
+        }
+        return moved;
+    }
+
+    /**
+     * Swaps the current brick with the held brick.
+     */
+    public void hold() {
+        if (board.isHoldUsed()) {
+            return;
+        }
+        board.holdBrick();
+        startLockDelay();
+    }
+
+    /**
+     * Drops the brick to the bottom and locks it.
+     * Awards one point per row dropped when the drop clears lines.
+     *
+     * @return the clear result of the lock
+     */
+    public ClearRow hardDrop() {
+        int rowsDropped = board.hardDrop();
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(ScoreService.scoreForHardDrop(rowsDropped));
+        }
+        finishLock(clearRow);
+        return clearRow;
+    }
+
+    /**
+     * Moves the brick to a chosen rotation and column, drops it and locks it.
+     * Used by bots and simulations that pick a final placement directly.
+     * If the brick does not fit at the target it is dropped where it is.
+     * Scores like a brick that landed by gravity, so no drop points are given.
+     *
+     * @param rotation the rotation index to lock in
+     * @param x the column to drop the brick in
+     * @param y the row to move the brick to before dropping
+     * @return the clear result of the lock
+     */
+    public ClearRow place(int rotation, int x, int y) {
+        board.moveBrickTo(rotation, x, y);
+        board.hardDrop();
+        return lockBrick();
+    }
+
+    /**
+     * Resets the board, score and counters and spawns the first brick.
+     */
+    public void newGame() {
+        board.resetHold();
+        board.newGame();
+        totalLines = 0;
+        level = 1;
+        piecesPlaced = 0;
+        gameOver = false;
+        startLockDelay();
+    }
+
+    /**
+     * Tells the lock delay the brick moved, which may restart its timer.
+     */
+    private void brickMoved() {
+        if (lockDelay != null) {
+            lockDelay.moved(board.getBrickY(), now);
+        }
+    }
+
+    /**
+     * Starts the lock delay over for a newly spawned brick.
+     */
+    private void startLockDelay() {
+        if (lockDelay != null) {
+            lockDelay.start(board.getBrickY());
+        }
+    }
+
+    /**
+     * Merges the landed brick, clears rows and adds the line bonus.
+     *
+     * @return the clear result of the lock
+     */
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+
+        // Add score bonus if lines were cleared
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+        }
+        finishLock(clearRow);
+        return clearRow;
+    }
+
+    /**
+     * Updates the counters after a lock and spawns the next brick.
+     *
+     * @param clearRow the clear result of the lock
+     */
+    private void finishLock(ClearRow clearRow) {
+        piecesPlaced++;
+        totalLines += clearRow.getLinesRemoved();
+        level = LevelService.calculateLevel(totalLines, linesPerLevel);
+
+        // Create new brick and check for game over
+        if (board.createNewBrick()) {
+            gameOver = true;
+        }
+        startLockDelay();
+    }
+
+    /**
+     * Gets the total number of lines cleared this game.
+     *
+     * @return lines cleared
+     */
+    public int getTotalLines() {
+        return totalLines;
+    }
+
+    /**
+     * Gets the current level.
+     *
+     * @return level, starting at 1
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the number of bricks locked this game.
+     *
+     * @return pieces placed
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Checks whether the last spawned brick overlapped the stack.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Copies the counters and lock delay state of another session.
+     * The board is not copied; copy it separately.
+     *
+     * @param other the session to copy
+     */
+    public void copyFrom(GameSession other) {
+        totalLines = other.totalLines;
+        level = other.level;
+        piecesPlaced = other.piecesPlaced;
+        gameOver = other.gameOver;
+        now = other.now;
+        if (lockDelay != null && other.lockDelay != null) {
+            lockDelay.copyFrom(other.lockDelay);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.comp2042.model;
+
+/**
+ * Decides when a brick resting on the stack locks.
+ * The timer starts when the brick first touches down. Each successful move
+ * or rotation after that restarts it, up to a cap, so players can slide a
+ * brick into place at the last moment without stalling forever. Reaching a
+ * new lowest row clears the count again. Once the cap is used up the timer
+ * runs out and the brick locks the next time it is grounded.
+ * <p>
+ * Time is read from the caller in nanoseconds from any monotonic source.
+ * The rules only do arithmetic on fields, so they add no allocation and no
+ * collision checks to a move.
+ */
+public final class LockDelay {
+
+    /** Guideline lock delay */
+    public static final long DEFAULT_DELAY_NANOS = 500_000_000L;
+
+    /** Guideline number of move resets per brick */
+    public static final int DEFAULT_MAX_RESETS = 15;
+
+    private final long delayNanos;
+    private final int maxResets;
+
+    private int lowestY;
+    private int resets;
+    private boolean touched;
+    private long lockAt;
+
+    /**
+     * Creates lock delay rules.
+     *
+     * @param delayNanos how long a grounded brick waits before locking
+     * @param maxResets how many moves may restart the timer before the brick reaches a lower row
+     */
+    public LockDelay(long delayNanos, int maxResets) {
+        this.delayNanos = delayNanos;
+        this.maxResets = maxResets;
+    }
+
+    /**
+     * Creates lock delay rules with the guideline delay and reset cap.
+     */
+    public LockDelay() {
+        this(DEFAULT_DELAY_NANOS, DEFAULT_MAX_RESETS);
+    }
+
+    /**
+     * Starts over for a newly spawned brick.
+     *
+     * @param y the spawn row
+     */
+    public void start(int y) {
+        lowestY = y;
+        resets = 0;
+        touched = false;
+    }
+
+    /**
+     * Records a successful move, rotation or fall.
+     *
+     * @param y the brick's row after the move
+     * @param now the current time in nanoseconds
+     */
+    public void moved(int y, long now) {
+        if (y > lowestY) {
+            // Step reset: a new lowest row gives the brick a fresh set of resets
+            lowestY = y;
+            resets = 0;
+            touched = false;
+        } else if (touched && resets < maxResets) {
+            // Move reset
+            resets++;
+            lockAt = now + delayNanos;
+        }
+    }
+
+    /**
+     * Checks whether a brick should lock now.
+     * The first check that finds the brick grounded starts the timer.
+     *
+     * @param grounded whether the brick rests on the stack
+     * @param now the current time in nanoseconds
+     * @return true if the brick is grounded and its timer has run out
+     */
+    public boolean shouldLock(boolean grounded, long now) {
+        if (!grounded) {
+            return false;
+        }
+        if (!touched) {
+            touched = true;
+            lockAt = now + delayNanos;
+        }
+        return now - lockAt >= 0;
+    }
+
+    /**
+     * Gets how many moves restarted the timer since the brick last reached a new row.
+     *
+     * @return the reset count
+     */
+    public int getResets() {
+        return resets;
+    }
+
+    /**
+     * Gets the lock delay.
+     *
+     * @return the delay in nanoseconds
+     */
+    public long getDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Gets the number of moves that may restart the timer.
+     *
+     * @return the reset cap
+     */
+    public int getMaxResets() {
+        return maxResets;
+    }
+
+    /**
+     * Copies the timer state of another lock delay with the same rules.
+     *
+     * @param other the lock delay to copy
+     */
+    public void copyFrom(LockDelay other) {
+        lowestY = other.lowestY;
+        resets = other.resets;
+        touched = other.touched;
+        lockAt = other.lockAt;
+    }
+}
@@ -1,7 +1,10 @@
 package com.comp2042.model;
 
+import com.comp2042.model.bricks.PieceShape;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,6 +41,28 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed brick shape intersects with the board or goes out of bounds.
+     * Only the filled cells are visited, so this costs four checks for a tetromino.
+     *
+     * @param matrix the game board matrix
+     * @param shape the precomputed brick shape
+     * @param x the x position to check
+     * @param y the y position to check
+     * @return true if there is a collision, false otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final PieceShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellX(i);
+            int targetY = y + shape.getCellY(i);
+            if (targetY < 0 || targetY >= matrix.length || targetX < 0 || targetX >= matrix[targetY].length
+                    || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if coordinates are outside the board boundaries.
      *
@@ -94,6 +119,71 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a precomputed brick shape into the game board in place.
+     * Writes only the brick's cells, so the cost does not depend on board size.
+     *
+     * @param filledFields the board to write into
+     * @param shape the precomputed brick shape
+     * @param x the x position
+     * @param y the y position
+     */
+    public static void mergeInPlace(int[][] filledFields, PieceShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            filledFields[y + shape.getCellY(i)][x + shape.getCellX(i)] = shape.getColorId();
+        }
+    }
+
+    /**
+     * Removes the completed rows within a range of rows, in place.
+     * Only rows fromRow to toRow are scanned, so the check costs as much as the
+     * brick is tall. Each cleared row array is emptied and reused at the top of
+     * the board while the rows above it shift down by reference.
+     *
+     * @param matrix the game board matrix, modified in place
+     * @param fromRow the first row to scan
+     * @param toRow the last row to scan (inclusive), less than 32 rows after fromRow
+     * @return bitmask of cleared rows, where bit i stands for row fromRow + i
+     * @throws IllegalArgumentException if the range is too wide for the mask
+     */
+    public static int clearFullRows(int[][] matrix, int fromRow, int toRow) {
+        if (toRow - fromRow >= Integer.SIZE) {
+            throw new IllegalArgumentException("Cannot scan more than " + Integer.SIZE + " rows at once: "
+                    + fromRow + " to " + toRow);
+        }
+        int first = Math.max(fromRow, 0);
+        int last = Math.min(toRow, matrix.length - 1);
+        int cleared = 0;
+
+        // Work top-down so the rows still to check keep their index
+        for (int row = first; row <= last; row++) {
+            if (!isRowFull(matrix[row])) {
+                continue;
+            }
+            int[] freed = matrix[row];
+            System.arraycopy(matrix, 0, matrix, 1, row);
+            Arrays.fill(freed, 0);
+            matrix[0] = freed;
+            cleared |= 1 << (row - fromRow);
+        }
+        return cleared;
+    }
+
+    /**
+     * Checks whether every cell in a row is filled.
+     *
+     * @param row the row to check
+     * @return true if the row has no empty cell
+     */
+    private static boolean isRowFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks for completed rows and removes them.
      * Calculates score bonus based on number of rows cleared.
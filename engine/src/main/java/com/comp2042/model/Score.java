@@ -0,0 +1,70 @@
+package com.comp2042.model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Manages the player's score.
+ * Holds a plain int so the engine runs without JavaFX; a UI can register a
+ * listener to mirror the value into its own observable property.
+ */
+public final class Score {
+
+    private int score = 0;
+    private IntConsumer listener;
+
+    /**
+     * Gets the current score.
+     *
+     * @return the score value
+     */
+    public int getValue() {
+        return score;
+    }
+
+    /**
+     * Sets the listener told about every score change.
+     * Only one listener is kept; passing null removes it.
+     *
+     * @param listener receives the new score after each change
+     */
+    public void setListener(IntConsumer listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Adds points to the current score.
+     *
+     * @param i the number of points to add
+     */
+    public void add(int i){
+        score += i;
+        notifyListener();
+    }
+
+    /**
+     * Sets the score, as when restoring a saved game.
+     *
+     * @param value the new score
+     */
+    public void set(int value) {
+        score = value;
+        notifyListener();
+    }
+
+    /**
+     * Resets the score to zero.
+     */
+    public void reset() {
+        score = 0;
+        notifyListener();
+    }
+
+    /**
+     * Tells the listener, if any, about the new score.
+     */
+    private void notifyListener() {
+        if (listener != null) {
+            listener.accept(score);
+        }
+    }
+}
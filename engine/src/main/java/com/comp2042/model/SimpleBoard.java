@@ -0,0 +1,658 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.model.bricks.PieceSequenceGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.util.BrickRotator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of the game board.
+ * Manages the game matrix, current brick, and game state.
+ * Handles brick movement, rotation, collision detection, and scoring.
+ * Moving, rotating and updating the ghost allocate nothing, so soft-drop
+ * spam and bots do not create garbage.
+ * The top surface of every column is kept up to date as bricks lock and
+ * rows clear, so the ghost and hard drop cost one check per brick column.
+ */
+public class SimpleBoard implements Board {
+
+    /** Column a new or swapped-in brick starts at */
+    public static final int SPAWN_X = 4;
+
+    /** Row a new or swapped-in brick starts at */
+    public static final int SPAWN_Y = 1;
+
+    // Number of upcoming bricks shown in the preview
+    private static final int NEXT_QUEUE_SIZE = 3;
+
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private int[][] currentGameMatrix;
+    // Row of the highest filled cell in each column, or the row count if empty
+    private final int[] columnTops;
+    // Rows covered by the bricks merged since the last clear, scanned by the next clear
+    private int mergedTop = 0;
+    private int mergedBottom = -1;
+    // Rows changed since the view last asked
+    private long dirtyRows = DirtyRows.ALL;
+    private int currentX;
+    private int currentY;
+    private int ghostX;
+    private int ghostY;
+    private final Score score;
+    private Brick heldBrick = null;
+    private boolean holdUsed = false;
+
+    /**
+     * Creates a new game board with specified dimensions.
+     * Initializes the game matrix and a random brick generator.
+     *
+     * @param width the width of the board in blocks
+     * @param height the height of the board in blocks
+     */
+    public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Creates a new game board that takes its bricks from the given generator.
+     *
+     * @param width the width of the board in blocks
+     * @param height the height of the board in blocks
+     * @param brickGenerator the source of new bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this.width = width;
+        this.height = height;
+        currentGameMatrix = new int[width][height];
+        columnTops = new int[height];
+        Arrays.fill(columnTops, width);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    /**
+     * Gets the currently held brick.
+     *
+     * @return the held brick, or null if none
+     */
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Attempts to move the current brick down by one row.
+     *
+     * @return true if the brick moved successfully, false if it hit something
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(currentX, currentY + 1);
+    }
+
+    /**
+     * Attempts to move the current brick left by one column.
+     *
+     * @return true if the brick moved successfully, false if blocked
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(currentX - 1, currentY);
+    }
+
+    /**
+     * Attempts to move the current brick right by one column.
+     *
+     * @return true if the brick moved successfully, false if blocked
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(currentX + 1, currentY);
+    }
+
+    /**
+     * Moves the current brick to a new position if it fits there.
+     *
+     * @param x the target x position
+     * @param y the target y position
+     * @return true if the brick moved, false if the position is blocked
+     */
+    private boolean tryMove(int x, int y) {
+        // Check if the new position would cause a collision
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentPieceShape(), x, y);
+
+        if (conflict) {
+            return false;
+        } else {
+            currentX = x;
+            currentY = y;
+            updateGhostBrick();
+            return true;
+        }
+    }
+
+    /**
+     * Attempts to rotate the current brick counterclockwise.
+     *
+     * @return true if rotation was successful, false if blocked
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextPosition = brickRotator.getNextPosition();
+
+        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getPieceShape(nextPosition), currentX, currentY);
+
+        if (conflict) {
+            return false;
+        } else {
+            brickRotator.setCurrentShape(nextPosition);
+            updateGhostBrick();
+            return true;
+        }
+    }
+
+    /**
+     * Moves the current brick straight to a rotation and position if it fits there.
+     *
+     * @param rotation the rotation index
+     * @param x the target x position
+     * @param y the target y position
+     * @return true if the brick was moved, false if the position is blocked
+     */
+    @Override
+    public boolean moveBrickTo(int rotation, int x, int y) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getPieceShape(rotation), x, y)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(rotation);
+        currentX = x;
+        currentY = y;
+        updateGhostBrick();
+        return true;
+    }
+
+    /**
+     * Looks ahead in the brick sequence without removing anything.
+     *
+     * @param ahead how far ahead to look, 0 being the brick that spawns next
+     * @return the upcoming brick
+     */
+    @Override
+    public Brick peekBrick(int ahead) {
+        return brickGenerator.peekBrick(ahead);
+    }
+
+    /**
+     * Gets the brick that is currently falling.
+     *
+     * @return the current brick
+     */
+    @Override
+    public Brick getCurrentBrick() {
+        return brickRotator.getCurrentBrick();
+    }
+
+    /**
+     * Gets the column offset of the falling brick.
+     *
+     * @return the brick x position
+     */
+    @Override
+    public int getBrickX() {
+        return currentX;
+    }
+
+    /**
+     * Gets the row offset of the falling brick.
+     *
+     * @return the brick y position
+     */
+    @Override
+    public int getBrickY() {
+        return currentY;
+    }
+
+    /**
+     * Gets the row offset the falling brick would land at.
+     *
+     * @return the ghost y position
+     */
+    @Override
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     *
+     * @return the current rotation index
+     */
+    @Override
+    public int getCurrentRotation() {
+        return brickRotator.getCurrentPosition();
+    }
+
+    /**
+     * Swaps the current brick with the held brick.
+     * If no brick is held, stores current and spawns new one.
+     * Can only be used once per brick.
+     *
+     * @return updated view data for rendering
+     */
+    @Override
+    public ViewData holdBrick() {
+
+        // If player already used hold this turn, don't allow it again
+        if (holdUsed) {
+            return getViewData();
+        }
+
+        if (heldBrick == null) {
+            // First time holding: store current brick and spawn a new one
+            heldBrick = brickRotator.getCurrentBrick();
+            createNewBrick();
+        } else {
+            // Swap the held brick with current brick
+            Brick temp = brickRotator.getCurrentBrick();
+            brickRotator.setBrick(heldBrick);
+            heldBrick = temp;
+
+            // Reset spawn position after swap
+            currentX = SPAWN_X;
+            currentY = SPAWN_Y;
+        }
+
+        holdUsed = true;
+        updateGhostBrick();
+        return getViewData();
+    }
+
+    /**
+     * Moves the brick down up to the given rows, stopping at the ghost row.
+     *
+     * @param rows the most rows to move
+     * @return the number of rows moved
+     */
+    @Override
+    public int moveBrickDown(int rows) {
+        int moved = Math.min(rows, ghostY - currentY);
+        if (moved <= 0) {
+            return 0;
+        }
+        currentY += moved;
+        return moved;
+    }
+
+    /**
+     * Instantly drops the brick to the lowest possible position.
+     *
+     * @return number of rows the brick dropped
+     */
+    @Override
+    public int hardDrop() {
+        int rowsDropped = ghostY - currentY;
+
+        // Move brick to ghost position
+        currentX = ghostX;
+        currentY = ghostY;
+
+        updateGhostBrick();
+
+        return rowsDropped;
+    }
+
+    /**
+     * Updates the ghost brick position to show where the brick will land.
+     * When the brick is above the top surface in every column it occupies,
+     * the landing row follows directly from the column tops. Only a brick
+     * tucked under an overhang falls back to moving down one row at a time.
+     */
+    private void updateGhostBrick() {
+        PieceShape shape = brickRotator.getCurrentPieceShape();
+        int drop = Integer.MAX_VALUE;
+
+        for (int c = shape.getMinX(); c <= shape.getMaxX(); c++) {
+            int bottom = shape.getBottom(c);
+            if (bottom < 0) {
+                continue;
+            }
+            // Free rows between this column's lowest cell and the surface below it
+            int gap = columnTops[currentX + c] - 1 - (currentY + bottom);
+            if (gap < 0) {
+                drop = -1;
+                break;
+            }
+            drop = Math.min(drop, gap);
+        }
+
+        int y = currentY;
+        if (drop >= 0) {
+            y += drop;
+        } else {
+            // Keep moving down until we hit something
+            while (!MatrixOperations.intersect(currentGameMatrix, shape, currentX, y + 1)) {
+                y++;
+            }
+        }
+        ghostX = currentX;
+        ghostY = y;
+    }
+
+    /**
+     * Gets the height of the stack in a column.
+     *
+     * @param column the column index
+     * @return number of rows from the floor up to and including the highest filled cell
+     */
+    public int getColumnHeight(int column) {
+        return currentGameMatrix.length - columnTops[column];
+    }
+
+    /**
+     * Creates and spawns a new brick at the top of the board.
+     * Takes next brick from queue and generates a new one to add to queue.
+     *
+     * @return true if the new brick overlaps existing blocks (game over), false otherwise
+     */
+    @Override
+    public boolean createNewBrick() {
+
+        // Take the next brick from the generator's sequence
+        brickRotator.setBrick(brickGenerator.getBrick());
+
+        // Reset hold usage for the new brick
+        holdUsed = false;
+
+        // Spawn position (centered horizontally, near top)
+        currentX = SPAWN_X;
+        currentY = SPAWN_Y;
+
+        updateGhostBrick();
+
+        // Check if spawn position causes game over
+        return MatrixOperations.intersect(
+                currentGameMatrix,
+                brickRotator.getCurrentPieceShape(),
+                currentX,
+                currentY
+        );
+    }
+
+    /**
+     * Gets the rows whose cells changed since the last call and forgets them.
+     *
+     * @return the dirty-row mask
+     */
+    @Override
+    public long pollDirtyRows() {
+        long rows = dirtyRows;
+        dirtyRows = DirtyRows.NONE;
+        return rows;
+    }
+
+    /**
+     * Gets the current game board matrix.
+     *
+     * @return 2D array representing the board state
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return currentGameMatrix;
+    }
+
+    /**
+     * Gets the current view data for rendering.
+     * Includes brick position, ghost position, and next brick.
+     *
+     * @return ViewData containing all rendering information
+     */
+    @Override
+    public ViewData getViewData() {
+
+        // Get the next brick's shape from the sequence (without removing it)
+        PieceShape nextShape = brickGenerator.getNextBrick().getRotations()[0];
+
+        return new ViewData(
+                brickRotator.getCurrentPieceShape(),
+                currentX,
+                currentY,
+                ghostX,
+                ghostY,
+                nextShape
+        );
+    }
+
+    /**
+     * Gets the shapes of all bricks in the next queue.
+     * Used to display the preview of upcoming pieces.
+     *
+     * @return list of brick shape matrices
+     */
+    @Override
+    public List<int[][]> getNextQueueShapes() {
+        List<int[][]> list = new ArrayList<>();
+        for (int i = 0; i < NEXT_QUEUE_SIZE; i++) {
+            Brick b = brickGenerator.peekBrick(i);
+            // Get first rotation state of each brick
+            list.add(b.getShapeMatrix().get(0));
+        }
+        return list;
+    }
+
+    /**
+     * Merges the current brick into the background board.
+     * Called when a brick lands and becomes part of the board.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        PieceShape shape = brickRotator.getCurrentPieceShape();
+        MatrixOperations.mergeInPlace(currentGameMatrix, shape, currentX, currentY);
+        int top = currentY + shape.getMinY();
+        int bottom = currentY + shape.getMaxY();
+        dirtyRows |= DirtyRows.range(top, bottom);
+
+        // Grow the range, so bricks merged without a clear in between are all scanned
+        if (mergedBottom < mergedTop) {
+            mergedTop = top;
+            mergedBottom = bottom;
+        } else {
+            mergedTop = Math.min(mergedTop, top);
+            mergedBottom = Math.max(mergedBottom, bottom);
+        }
+
+        // Raise the surface of every column the brick landed in
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int column = currentX + shape.getCellX(i);
+            columnTops[column] = Math.min(columnTops[column], currentY + shape.getCellY(i));
+        }
+
+        // Reset hold after merge
+        holdUsed = false;
+    }
+
+    /**
+     * Checks for and removes any completed rows.
+     * Only the rows bricks landed in since the last clear can have been
+     * completed, so only those are scanned, and the board is compacted in place. With no merge
+     * since the last clear, as after the matrix was edited directly, every
+     * row is scanned instead.
+     *
+     * @return ClearRow object containing number of lines cleared and score bonus
+     */
+    @Override
+    public ClearRow clearRows() {
+        int top = mergedTop;
+        int bottom = mergedBottom;
+        if (bottom < top) {
+            top = 0;
+            bottom = currentGameMatrix.length - 1;
+        }
+        mergedTop = 0;
+        mergedBottom = -1;
+
+        // The mask holds Integer.SIZE rows, so a full scan of a taller board runs
+        // in windows; going top-down leaves the rows of later windows in place
+        int firstRow = top;
+        int cleared = 0;
+        int linesRemoved = 0;
+        int lowestCleared = -1;
+        for (int from = top; from <= bottom; from += Integer.SIZE) {
+            int window = MatrixOperations.clearFullRows(currentGameMatrix, from,
+                    Math.min(from + Integer.SIZE - 1, bottom));
+            if (window == 0) {
+                continue;
+            }
+            // Only the first window with a cleared row goes in the mask
+            if (linesRemoved == 0) {
+                firstRow = from;
+                cleared = window;
+            }
+            linesRemoved += Integer.bitCount(window);
+            lowestCleared = from + Integer.SIZE - 1 - Integer.numberOfLeadingZeros(window);
+        }
+
+        if (linesRemoved > 0) {
+            lowerColumnTops(firstRow + Integer.numberOfTrailingZeros(cleared), linesRemoved);
+
+            // Every row down to the lowest cleared one has shifted
+            dirtyRows |= DirtyRows.range(0, lowestCleared);
+        }
+
+        // Calculate score bonus (more rows = exponentially more points)
+        int scoreBonus = 50 * linesRemoved * linesRemoved;
+        return new ClearRow(linesRemoved, currentGameMatrix, scoreBonus, cleared, firstRow);
+    }
+
+    /**
+     * Moves the column tops down after rows were removed.
+     * A cleared row is full, so every column's top is at or above the highest
+     * cleared row. Tops above it simply shift down with the rows; a column whose
+     * top was in that row is scanned down to its next filled cell.
+     *
+     * @param highestCleared the highest row that was cleared
+     * @param linesRemoved the number of rows removed
+     */
+    private void lowerColumnTops(int highestCleared, int linesRemoved) {
+        int rows = currentGameMatrix.length;
+        for (int c = 0; c < columnTops.length; c++) {
+            int top = columnTops[c];
+            if (top < highestCleared) {
+                columnTops[c] = top + linesRemoved;
+                continue;
+            }
+            while (top < rows && currentGameMatrix[top][c] == 0) {
+                top++;
+            }
+            columnTops[c] = top;
+        }
+    }
+
+    /**
+     * Gets the score object for this board.
+     *
+     * @return the Score object
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the shape of the currently held brick.
+     *
+     * @return brick shape matrix, or null if no brick is held
+     */
+    @Override
+    public int[][] getHeldBrickShape() {
+        if (heldBrick == null) return null;
+        // Return first rotation state
+        return heldBrick.getShapeMatrix().get(0);
+    }
+
+    /**
+     * Resets the hold state for a new game.
+     * Clears the held brick and allows holding again.
+     */
+    @Override
+    public void resetHold() {
+        heldBrick = null;
+        holdUsed = false;
+    }
+
+    /**
+     * Checks whether hold was used for the current brick.
+     *
+     * @return true if the brick cannot be held
+     */
+    @Override
+    public boolean isHoldUsed() {
+        return holdUsed;
+    }
+
+    /**
+     * Starts a new game by resetting the board.
+     * Clears the matrix, resets score, and creates a new brick.
+     */
+    @Override
+    public void newGame() {
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(columnTops, width);
+        mergedTop = 0;
+        mergedBottom = -1;
+        dirtyRows = DirtyRows.ALL;
+        score.reset();
+        createNewBrick();
+    }
+
+    /**
+     * Makes this board an exact copy of another, as when restoring a saved game.
+     * Both boards must be the same size and draw from seeded generators of
+     * the same kind. The copy's rows are all marked dirty.
+     *
+     * @param other the board to copy
+     * @throws IllegalArgumentException if the boards do not match
+     */
+    public void copyFrom(SimpleBoard other) {
+        if (other.width != width || other.height != height) {
+            throw new IllegalArgumentException("Boards are different sizes");
+        }
+        if (!(brickGenerator instanceof PieceSequenceGenerator own)
+                || !(other.brickGenerator instanceof PieceSequenceGenerator theirs)) {
+            throw new IllegalArgumentException("Only boards with seeded generators can be copied");
+        }
+        own.copyFrom(theirs);
+
+        for (int r = 0; r < currentGameMatrix.length; r++) {
+            System.arraycopy(other.currentGameMatrix[r], 0, currentGameMatrix[r], 0, currentGameMatrix[r].length);
+        }
+        System.arraycopy(other.columnTops, 0, columnTops, 0, columnTops.length);
+        mergedTop = other.mergedTop;
+        mergedBottom = other.mergedBottom;
+        dirtyRows = DirtyRows.ALL;
+
+        Brick brick = other.brickRotator.getCurrentBrick();
+        if (brick != null) {
+            brickRotator.setBrick(brick);
+            brickRotator.setCurrentShape(other.brickRotator.getCurrentPosition());
+        }
+        currentX = other.currentX;
+        currentY = other.currentY;
+        ghostX = other.ghostX;
+        ghostY = other.ghostY;
+        heldBrick = other.heldBrick;
+        holdUsed = other.holdUsed;
+        score.set(other.score.getValue());
+    }
+}
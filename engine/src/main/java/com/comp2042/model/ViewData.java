@@ -1,36 +1,40 @@
 package com.comp2042.model;
 
+import com.comp2042.model.bricks.PieceShape;
+
 /**
  * Contains all data needed to render the current game state.
  * Includes brick position, ghost position, and next brick preview.
+ * The shapes are the shared, immutable {@link PieceShape} tables, so
+ * building view data copies no matrices.
  */
 public final class ViewData {
 
-    private final int[][] brickData;
+    private final PieceShape brickShape;
     private final int xPosition;
     private final int yPosition;
     private final int ghostxPosition;
     private final int ghostyPosition;
-    private final int[][] nextBrickData;
+    private final PieceShape nextBrickShape;
 
     /**
      * Creates view data for rendering.
      *
-     * @param brickData the current brick's shape matrix
+     * @param brickShape the current brick's shape
      * @param xPosition x coordinate of the brick
      * @param yPosition y coordinate of the brick
      * @param ghostxPosition x coordinate of the ghost brick
      * @param ghostyPosition y coordinate of the ghost brick
-     * @param nextBrickData the next brick's shape matrix
+     * @param nextBrickShape the next brick's shape
      */
-    public ViewData(int[][] brickData, int xPosition, int yPosition,
-                    int ghostxPosition, int ghostyPosition, int[][] nextBrickData) {
-        this.brickData = brickData;
+    public ViewData(PieceShape brickShape, int xPosition, int yPosition,
+                    int ghostxPosition, int ghostyPosition, PieceShape nextBrickShape) {
+        this.brickShape = brickShape;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.ghostxPosition = ghostxPosition;
         this.ghostyPosition = ghostyPosition;
-        this.nextBrickData = nextBrickData;
+        this.nextBrickShape = nextBrickShape;
     }
 
     /**
@@ -40,7 +44,17 @@ public final class ViewData {
      * @return copy of brick shape matrix
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickShape.getMatrix();
+    }
+
+    /**
+     * Gets the current brick's shape without copying it.
+     * Renderers use this on every move.
+     *
+     * @return the shared brick shape
+     */
+    public PieceShape getBrickShape() {
+        return brickShape;
     }
 
     /**
@@ -86,6 +100,6 @@ public final class ViewData {
      * @return copy of next brick shape matrix
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickShape.getMatrix();
     }
 }
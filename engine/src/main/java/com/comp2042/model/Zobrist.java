@@ -0,0 +1,172 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.PieceShape;
+
+/**
+ * Zobrist keys for hashing game positions.
+ * A position's hash is the XOR of one fixed random key per filled cell,
+ * plus keys for the falling brick, its rotation, the held brick and how far
+ * into the brick sequence the position is. Filling or emptying a cell is a
+ * single XOR, so searches can keep hashes up to date as they place bricks.
+ * Bricks are told apart by their color ID, as each standard brick has its own.
+ * The keys come from a fixed seed, so hashes are the same in every run.
+ */
+public final class Zobrist {
+
+    /** Tallest board the keys cover */
+    public static final int MAX_ROWS = 64;
+
+    /** Widest board the keys cover */
+    public static final int MAX_COLUMNS = 32;
+
+    // Enough for the color IDs of the standard bricks and a few custom ones
+    private static final int MAX_COLORS = 16;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int MAX_QUEUE = 64;
+
+    private static final long[] CELLS = new long[MAX_ROWS * MAX_COLUMNS];
+    private static final long[] BRICK_CELLS = new long[MAX_ROWS * MAX_COLUMNS];
+    private static final long[] PIECES = new long[MAX_COLORS * MAX_ROTATIONS];
+    private static final long[] HOLDS = new long[MAX_COLORS];
+    private static final long[] QUEUE = new long[MAX_QUEUE];
+
+    static {
+        long state = 0x2042_5EED_0000_0001L;
+        for (long[] table : new long[][] {CELLS, BRICK_CELLS, PIECES, HOLDS, QUEUE}) {
+            for (int i = 0; i < table.length; i++) {
+                state += 0x9E3779B97F4A7C15L;
+                table[i] = mix(state);
+            }
+        }
+        // Holding nothing leaves the hash as it is
+        HOLDS[0] = 0;
+    }
+
+    // Private constructor to prevent instantiation
+    private Zobrist() { }
+
+    /**
+     * SplitMix64 finalizer, which spreads a counter into an unrelated key.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the key of a filled cell of the stack.
+     *
+     * @param row the row
+     * @param column the column
+     * @return the key
+     */
+    public static long cell(int row, int column) {
+        return CELLS[row * MAX_COLUMNS + column];
+    }
+
+    /**
+     * Hashes the filled cells of one stack row.
+     *
+     * @param row the row
+     * @param mask the row's filled cells, bit i for column i
+     * @return the XOR of the keys of the filled cells
+     */
+    public static long row(int row, int mask) {
+        long hash = 0;
+        int base = row * MAX_COLUMNS;
+        for (; mask != 0; mask &= mask - 1) {
+            hash ^= CELLS[base + Integer.numberOfTrailingZeros(mask)];
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the filled cells of a board matrix.
+     *
+     * @param matrix the board matrix, indexed by [row][column]; non-zero cells are filled
+     * @return the XOR of the keys of the filled cells
+     */
+    public static long stack(int[][] matrix) {
+        long hash = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    hash ^= cell(r, c);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the cells a brick covers, with keys of their own so a brick
+     * is never mistaken for the same cells locked into the stack.
+     *
+     * @param shape the rotation state
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return the XOR of the brick cell keys
+     */
+    public static long brick(PieceShape shape, int x, int y) {
+        long hash = 0;
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            hash ^= BRICK_CELLS[(y + shape.getCellY(i)) * MAX_COLUMNS + x + shape.getCellX(i)];
+        }
+        return hash;
+    }
+
+    /**
+     * Gets the key of the falling brick and its rotation.
+     *
+     * @param shape any rotation state of the brick, for its color ID
+     * @param rotation the rotation index
+     * @return the key
+     */
+    public static long piece(PieceShape shape, int rotation) {
+        return PIECES[(shape.getColorId() & (MAX_COLORS - 1)) * MAX_ROTATIONS + rotation];
+    }
+
+    /**
+     * Gets the key of the held brick.
+     *
+     * @param shape any rotation state of the held brick, or null if nothing is held
+     * @return the key, 0 if nothing is held
+     */
+    public static long hold(PieceShape shape) {
+        return shape == null ? 0 : HOLDS[shape.getColorId() & (MAX_COLORS - 1)];
+    }
+
+    /**
+     * Gets the key of a position in the brick sequence.
+     * Two positions with the same stack are only the same if the same
+     * bricks are still to come.
+     *
+     * @param index how many bricks of the known sequence are used up
+     * @return the key
+     */
+    public static long queue(int index) {
+        return QUEUE[index & (MAX_QUEUE - 1)];
+    }
+
+    /**
+     * Hashes a board: its stack, the falling brick where it is, and the held brick.
+     * The board does not know how far into the brick sequence it is, so
+     * add {@link #queue(int)} when that matters.
+     *
+     * @param board the board
+     * @return the hash
+     */
+    public static long hash(Board board) {
+        long hash = stack(board.getBoardMatrix());
+        Brick brick = board.getCurrentBrick();
+        if (brick != null) {
+            PieceShape shape = brick.getRotations()[board.getCurrentRotation()];
+            hash ^= piece(shape, board.getCurrentRotation())
+                    ^ brick(shape, board.getBrickX(), board.getBrickY());
+        }
+        Brick held = board.getHeldBrick();
+        return hash ^ hold(held == null ? null : held.getRotations()[0]);
+    }
+}
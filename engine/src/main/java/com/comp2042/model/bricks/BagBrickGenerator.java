@@ -0,0 +1,86 @@
+package com.comp2042.model.bricks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates bricks from shuffled bags.
+ * A 7-bag deals every piece once before any repeats, and a 14-bag holds two
+ * of each piece, which allows short repeats while still capping droughts.
+ * Bags are shuffled directly in the piece buffer.
+ */
+public class BagBrickGenerator extends PieceSequenceGenerator {
+
+    private final int copies;
+
+    /**
+     * Creates a 7-bag generator with a random seed.
+     */
+    public BagBrickGenerator() {
+        this(1, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a bag generator.
+     *
+     * @param copies how many of each piece go in a bag, 1 for a 7-bag and 2 for a 14-bag
+     * @param seed the seed for the brick sequence
+     */
+    public BagBrickGenerator(int copies, long seed) {
+        super(copies * BrickShapes.PIECE_COUNT, seed);
+        if (copies < 1) {
+            throw new IllegalArgumentException("A bag needs at least one copy of each piece");
+        }
+        this.copies = copies;
+    }
+
+    /**
+     * Creates a 7-bag generator.
+     *
+     * @param seed the seed for the brick sequence
+     * @return the generator
+     */
+    public static BagBrickGenerator sevenBag(long seed) {
+        return new BagBrickGenerator(1, seed);
+    }
+
+    /**
+     * Creates a 14-bag generator.
+     *
+     * @param seed the seed for the brick sequence
+     * @return the generator
+     */
+    public static BagBrickGenerator fourteenBag(long seed) {
+        return new BagBrickGenerator(2, seed);
+    }
+
+    @Override
+    protected void reset() {
+        // Each bag is independent of the one before it
+    }
+
+    @Override
+    protected void copyState(PieceSequenceGenerator other) {
+        // A bag is dealt into the buffer whole, so only the bag size must match
+        BagBrickGenerator from = (BagBrickGenerator) other;
+        if (from.copies != copies) {
+            throw new IllegalArgumentException("Cannot copy a bag of " + from.copies + " copies into a bag of " + copies);
+        }
+    }
+
+    @Override
+    protected int generate(byte[] out, int offset) {
+        int size = copies * BrickShapes.PIECE_COUNT;
+        for (int i = 0; i < size; i++) {
+            out[offset + i] = (byte) (i % BrickShapes.PIECE_COUNT);
+        }
+
+        // Fisher-Yates shuffle in place
+        for (int i = size - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            byte swap = out[offset + i];
+            out[offset + i] = out[offset + j];
+            out[offset + j] = swap;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.model.bricks;
+
+import java.util.List;
+
+/**
+ * Interface for all brick types.
+ * Each brick has multiple rotation states.
+ */
+public interface Brick {
+
+    /**
+     * Gets all rotation states of this brick.
+     *
+     * @return list of 2D arrays, each representing a rotation state
+     */
+    List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets all rotation states as precomputed shapes.
+     * The standard bricks return the shared tables from BrickShapes;
+     * other bricks have theirs built from the shape matrices.
+     *
+     * @return rotation states in rotation order, must not be modified
+     */
+    default PieceShape[] getRotations() {
+        return PieceShape.fromMatrices(getShapeMatrix());
+    }
+}
\ No newline at end of file
@@ -12,10 +12,20 @@ public interface BrickGenerator {
      */
     Brick getBrick();
 
+    /**
+     * Looks ahead in the sequence without removing anything.
+     *
+     * @param ahead how far ahead to look, 0 being the brick the next call to getBrick returns
+     * @return the brick at that position
+     */
+    Brick peekBrick(int ahead);
+
     /**
      * Peeks at the next brick without removing it.
      *
      * @return the next brick
      */
-    Brick getNextBrick();
-}
\ No newline at end of file
+    default Brick getNextBrick() {
+        return peekBrick(0);
+    }
+}
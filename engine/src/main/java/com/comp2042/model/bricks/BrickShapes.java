@@ -0,0 +1,94 @@
+package com.comp2042.model.bricks;
+
+/**
+ * Shared registry of precomputed rotation states for the seven tetrominoes.
+ * Every rotation is built once when the class loads, so looking up a shape
+ * is a plain array index instead of rebuilding and copying matrices.
+ */
+public final class BrickShapes {
+
+    /** Piece ID of the I-brick */
+    public static final int I = 0;
+
+    /** Piece ID of the J-brick */
+    public static final int J = 1;
+
+    /** Piece ID of the L-brick */
+    public static final int L = 2;
+
+    /** Piece ID of the O-brick */
+    public static final int O = 3;
+
+    /** Piece ID of the S-brick */
+    public static final int S = 4;
+
+    /** Piece ID of the T-brick */
+    public static final int T = 5;
+
+    /** Piece ID of the Z-brick */
+    public static final int Z = 6;
+
+    /** Number of distinct piece types */
+    public static final int PIECE_COUNT = 7;
+
+    private static final PieceShape[][] ROTATIONS = {
+            PieceShape.fromMatrices(IBrick.SHAPES),
+            PieceShape.fromMatrices(JBrick.SHAPES),
+            PieceShape.fromMatrices(LBrick.SHAPES),
+            PieceShape.fromMatrices(OBrick.SHAPES),
+            PieceShape.fromMatrices(SBrick.SHAPES),
+            PieceShape.fromMatrices(TBrick.SHAPES),
+            PieceShape.fromMatrices(ZBrick.SHAPES)
+    };
+
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+            new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    // Private constructor to prevent instantiation
+    private BrickShapes() { }
+
+    /**
+     * Gets all rotation states of a piece.
+     * The returned array is shared and must not be modified.
+     *
+     * @param pieceId the piece ID (I, J, L, O, S, T or Z)
+     * @return rotation states in rotation order
+     */
+    public static PieceShape[] rotations(int pieceId) {
+        return ROTATIONS[pieceId];
+    }
+
+    /**
+     * Gets the shared brick instance of a piece.
+     * Bricks hold no state, so one instance per piece serves every board.
+     *
+     * @param pieceId the piece ID
+     * @return the brick
+     */
+    public static Brick brick(int pieceId) {
+        return BRICKS[pieceId];
+    }
+
+    /**
+     * Gets one rotation state of a piece.
+     *
+     * @param pieceId the piece ID
+     * @param rotation the rotation index
+     * @return the precomputed shape
+     */
+    public static PieceShape shape(int pieceId, int rotation) {
+        return ROTATIONS[pieceId][rotation];
+    }
+
+    /**
+     * Gets the number of rotation states of a piece.
+     *
+     * @param pieceId the piece ID
+     * @return rotation count (1, 2 or 4)
+     */
+    public static int rotationCount(int pieceId) {
+        return ROTATIONS[pieceId].length;
+    }
+}
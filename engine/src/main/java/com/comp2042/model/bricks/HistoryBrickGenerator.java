@@ -0,0 +1,90 @@
+package com.comp2042.model.bricks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates bricks the way the Tetris The Grand Master games do.
+ * Remembers the last four pieces and rerolls a piece that is in that
+ * history, up to a fixed number of tries. The first piece is never an S, Z
+ * or O, so the game never opens with an overhang.
+ */
+public class HistoryBrickGenerator extends PieceSequenceGenerator {
+
+    private static final int HISTORY_SIZE = 4;
+
+    // Pieces the game may open with
+    private static final int[] OPENERS = {BrickShapes.I, BrickShapes.J, BrickShapes.L, BrickShapes.T};
+
+    private final int rolls;
+    private final int[] history = new int[HISTORY_SIZE];
+    private boolean first;
+
+    /**
+     * Creates a TGM2-style generator (6 rolls) with a random seed.
+     */
+    public HistoryBrickGenerator() {
+        this(6, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a history generator.
+     *
+     * @param rolls how many times a piece in the history is rerolled, 4 in TGM and 6 in TGM2
+     * @param seed the seed for the brick sequence
+     */
+    public HistoryBrickGenerator(int rolls, long seed) {
+        super(1, seed);
+        if (rolls < 1) {
+            throw new IllegalArgumentException("At least one roll is needed");
+        }
+        this.rolls = rolls;
+    }
+
+    @Override
+    protected void reset() {
+        // The history starts filled with S and Z pieces
+        history[0] = BrickShapes.Z;
+        history[1] = BrickShapes.S;
+        history[2] = BrickShapes.S;
+        history[3] = BrickShapes.Z;
+        first = true;
+    }
+
+    @Override
+    protected void copyState(PieceSequenceGenerator other) {
+        HistoryBrickGenerator from = (HistoryBrickGenerator) other;
+        if (from.rolls != rolls) {
+            throw new IllegalArgumentException("Cannot copy " + from.rolls + " rolls into " + rolls);
+        }
+        System.arraycopy(from.history, 0, history, 0, HISTORY_SIZE);
+        first = from.first;
+    }
+
+    @Override
+    protected int generate(byte[] out, int offset) {
+        int piece;
+        if (first) {
+            piece = OPENERS[nextInt(OPENERS.length)];
+            first = false;
+        } else {
+            piece = nextInt(BrickShapes.PIECE_COUNT);
+            for (int roll = 1; roll < rolls && inHistory(piece); roll++) {
+                piece = nextInt(BrickShapes.PIECE_COUNT);
+            }
+        }
+
+        System.arraycopy(history, 0, history, 1, HISTORY_SIZE - 1);
+        history[0] = piece;
+        out[offset] = (byte) piece;
+        return 1;
+    }
+
+    private boolean inHistory(int piece) {
+        for (int h : history) {
+            if (h == piece) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
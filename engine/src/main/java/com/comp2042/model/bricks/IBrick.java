@@ -0,0 +1,53 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * The I-shaped tetromino (straight line piece).
+ * Represented by color ID 1 (Aqua/Cyan).
+ * Has 2 rotation states: horizontal and vertical.
+ * This is the only piece that can clear 4 lines at once (Tetris).
+ */
+final class IBrick implements Brick {
+
+    /** Rotation states shared by every I-brick */
+    static final List<int[][]> SHAPES = List.of(
+            // Horizontal orientation (flat)
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+
+            // Vertical orientation (standing)
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    );
+
+    /**
+     * Gets all rotation states of this brick.
+     *
+     * @return list containing 2 rotation states
+     */
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(SHAPES);
+    }
+
+    /**
+     * Gets the precomputed rotation states from the shared registry.
+     *
+     * @return shared rotation states, must not be modified
+     */
+    @Override
+    public PieceShape[] getRotations() {
+        return BrickShapes.rotations(BrickShapes.I);
+    }
+}
\ No newline at end of file
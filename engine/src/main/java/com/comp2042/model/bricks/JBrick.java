@@ -0,0 +1,68 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * The J-shaped tetromino.
+ * Represented by color ID 2 (Blue Violet).
+ * Has 4 rotation states, shaped like the letter "J".
+ */
+final class JBrick implements Brick {
+
+    /** Rotation states shared by every J-brick */
+    static final List<int[][]> SHAPES = List.of(
+            // First rotation: hook pointing down-left
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {2, 2, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 0, 0, 0}
+            },
+
+            // Second rotation: hook pointing up-left
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 2, 2, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 0, 0}
+            },
+
+            // Third rotation: hook pointing up-right
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 2, 2},
+                    {0, 0, 0, 0}
+            },
+
+            // Fourth rotation: hook pointing down-right
+            new int[][]{
+                    {0, 0, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 2, 2, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    /**
+     * Gets all rotation states of this brick.
+     *
+     * @return list containing 4 rotation states
+     */
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(SHAPES);
+    }
+
+    /**
+     * Gets the precomputed rotation states from the shared registry.
+     *
+     * @return shared rotation states, must not be modified
+     */
+    @Override
+    public PieceShape[] getRotations() {
+        return BrickShapes.rotations(BrickShapes.J);
+    }
+}
\ No newline at end of file
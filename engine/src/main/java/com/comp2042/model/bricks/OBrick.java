@@ -0,0 +1,45 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * The O-shaped tetromino (square piece).
+ * Represented by color ID 4 (Yellow).
+ * Has only 1 rotation state since it's a 2x2 square.
+ * This is the only piece that doesn't change when rotated.
+ */
+final class OBrick implements Brick {
+
+    /** Rotation states shared by every O-brick */
+    static final List<int[][]> SHAPES = List.<int[][]>of(
+            // Only one state - it's a square
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    /**
+     * Gets all rotation states of this brick.
+     *
+     * @return list containing 1 rotation state (since square doesn't change)
+     */
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(SHAPES);
+    }
+
+    /**
+     * Gets the precomputed rotation states from the shared registry.
+     *
+     * @return shared rotation states, must not be modified
+     */
+    @Override
+    public PieceShape[] getRotations() {
+        return BrickShapes.rotations(BrickShapes.O);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.comp2042.model.bricks;
+
+/**
+ * Base class for seeded brick generators.
+ * Piece IDs are generated in bulk into a primitive buffer, so taking a
+ * piece or looking any distance ahead is an array read, and bricks are
+ * the shared instances from {@link BrickShapes}. Each generator owns its
+ * random state, so the same seed gives the same sequence on every run and
+ * on every thread.
+ */
+public abstract class PieceSequenceGenerator implements BrickGenerator {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final int blockSize;
+    private byte[] buffer = new byte[DEFAULT_CAPACITY];
+    // Index of the next piece to hand out
+    private int head = 0;
+    // Index after the last generated piece
+    private int tail = 0;
+    private long seed;
+    private long state;
+    // Pieces taken since the seed was set
+    private long drawn = 0;
+    private boolean started = false;
+
+    /**
+     * Creates a generator that produces pieces in blocks.
+     *
+     * @param blockSize the largest number of pieces one call to generate writes
+     * @param seed the seed of the sequence
+     */
+    protected PieceSequenceGenerator(int blockSize, long seed) {
+        this.blockSize = blockSize;
+        restart(seed);
+    }
+
+    /**
+     * Restarts the sequence from a new seed.
+     * Pieces already generated are discarded.
+     *
+     * @param seed the seed of the sequence
+     */
+    public void setSeed(long seed) {
+        restart(seed);
+    }
+
+    // Shared with the constructor, which must not call an overridable method
+    private void restart(long seed) {
+        this.seed = seed;
+        state = seed;
+        head = 0;
+        tail = 0;
+        started = false;
+        drawn = 0;
+    }
+
+    /**
+     * Gets the seed the current sequence started from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Takes the next piece ID from the sequence.
+     *
+     * @return the piece ID (see {@link BrickShapes})
+     */
+    public int nextPieceId() {
+        ensure(1);
+        drawn++;
+        return buffer[head++];
+    }
+
+    /**
+     * Gets the number of pieces taken since the seed was set.
+     *
+     * @return pieces drawn
+     */
+    public long getPiecesDrawn() {
+        return drawn;
+    }
+
+    /**
+     * Moves this generator to the same point in the same sequence as another.
+     * The random state, the buffered pieces and the strategy state are
+     * copied, so the cost does not grow with how many pieces were drawn.
+     * Nothing is allocated unless the other generator's buffer is larger.
+     *
+     * @param other a generator of the same class and settings
+     * @throws IllegalArgumentException if the generators are different kinds
+     */
+    public void copyFrom(PieceSequenceGenerator other) {
+        if (other.getClass() != getClass()) {
+            throw new IllegalArgumentException("Cannot copy a " + other.getClass().getSimpleName()
+                    + " into a " + getClass().getSimpleName());
+        }
+        copyState(other);
+        seed = other.seed;
+        state = other.state;
+        drawn = other.drawn;
+        started = other.started;
+
+        int available = other.tail - other.head;
+        if (buffer.length < other.buffer.length) {
+            buffer = new byte[other.buffer.length];
+        }
+        System.arraycopy(other.buffer, other.head, buffer, 0, available);
+        head = 0;
+        tail = available;
+    }
+
+    /**
+     * Looks ahead in the sequence without removing anything.
+     *
+     * @param ahead how far ahead to look, 0 being the next piece
+     * @return the piece ID at that position
+     */
+    public int peekPieceId(int ahead) {
+        ensure(ahead + 1);
+        return buffer[head + ahead];
+    }
+
+    @Override
+    public Brick getBrick() {
+        return BrickShapes.brick(nextPieceId());
+    }
+
+    @Override
+    public Brick peekBrick(int ahead) {
+        return BrickShapes.brick(peekPieceId(ahead));
+    }
+
+    /**
+     * Clears any strategy state, such as the history, before a sequence starts.
+     * Called once per seed, before the first call to generate.
+     */
+    protected abstract void reset();
+
+    /**
+     * Copies the strategy state, such as the history, from another generator.
+     * Called by {@link #copyFrom}; the base state is copied separately.
+     *
+     * @param other a generator of the same class
+     * @throws IllegalArgumentException if its settings give a different sequence
+     */
+    protected abstract void copyState(PieceSequenceGenerator other);
+
+    /**
+     * Writes the next block of piece IDs.
+     *
+     * @param out the buffer to write into
+     * @param offset the index of the first free slot
+     * @return how many pieces were written, between 1 and the block size
+     */
+    protected abstract int generate(byte[] out, int offset);
+
+    /**
+     * Draws a uniform random integer.
+     * Uses the SplitMix64 sequence, which is fast and has no shared state.
+     *
+     * @param bound the exclusive upper bound
+     * @return a value from 0 to bound - 1
+     */
+    protected final int nextInt(int bound) {
+        long z = (state += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (int) (((z >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Makes sure at least count pieces are buffered, refilling in bulk.
+     *
+     * @param count how many pieces must be available
+     */
+    private void ensure(int count) {
+        if (tail - head >= count) {
+            return;
+        }
+        if (!started) {
+            reset();
+            started = true;
+        }
+
+        // Move the unread pieces to the front, growing if look-ahead needs it
+        int available = tail - head;
+        if (count + blockSize > buffer.length) {
+            byte[] grown = new byte[Integer.highestOneBit(count + blockSize) << 1];
+            System.arraycopy(buffer, head, grown, 0, available);
+            buffer = grown;
+        } else {
+            System.arraycopy(buffer, head, buffer, 0, available);
+        }
+        head = 0;
+        tail = available;
+
+        // Fill the whole buffer, not just what was asked for
+        while (buffer.length - tail >= blockSize) {
+            tail += generate(buffer, tail);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.MatrixOperations;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One precomputed rotation state of a brick.
+ * Holds the filled cells as offset arrays together with the bounding box,
+ * one bitmask per shape row and the bottom profile of every shape column,
+ * so collision and drop checks never have to walk the 4x4 matrix.
+ * Instances are immutable and shared between all boards.
+ */
+public final class PieceShape {
+
+    private final int[][] matrix;
+    private final int colorId;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int[] rowMasks;
+    private final int[] bottom;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    /**
+     * Precomputes all lookup data for a shape matrix.
+     *
+     * @param shape the shape matrix, indexed by [row][column]
+     */
+    private PieceShape(int[][] shape) {
+        matrix = MatrixOperations.copy(shape);
+
+        int count = 0;
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) count++;
+            }
+        }
+
+        int columns = 0;
+        for (int[] row : shape) {
+            columns = Math.max(columns, row.length);
+        }
+
+        cellX = new int[count];
+        cellY = new int[count];
+        rowMasks = new int[shape.length];
+        bottom = new int[columns];
+        Arrays.fill(bottom, -1);
+
+        int color = 0;
+        int left = Integer.MAX_VALUE;
+        int right = -1;
+        int top = Integer.MAX_VALUE;
+        int low = -1;
+        int i = 0;
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] == 0) continue;
+                if (color == 0) color = shape[r][c];
+                cellX[i] = c;
+                cellY[i] = r;
+                i++;
+                rowMasks[r] |= 1 << c;
+                bottom[c] = r;
+                left = Math.min(left, c);
+                right = Math.max(right, c);
+                top = Math.min(top, r);
+                low = Math.max(low, r);
+            }
+        }
+
+        colorId = color;
+        minX = count == 0 ? 0 : left;
+        maxX = right;
+        minY = count == 0 ? 0 : top;
+        maxY = low;
+    }
+
+    /**
+     * Builds the shapes for a list of rotation matrices.
+     *
+     * @param matrices rotation states in rotation order
+     * @return one PieceShape per rotation
+     */
+    public static PieceShape[] fromMatrices(List<int[][]> matrices) {
+        PieceShape[] shapes = new PieceShape[matrices.size()];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = new PieceShape(matrices.get(i));
+        }
+        return shapes;
+    }
+
+    /**
+     * Gets a copy of the shape matrix.
+     *
+     * @return the shape matrix, indexed by [row][column]
+     */
+    public int[][] getMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+
+    /**
+     * Gets the color ID drawn for this shape.
+     *
+     * @return the color ID, or 0 for an empty shape
+     */
+    public int getColorId() {
+        return colorId;
+    }
+
+    /**
+     * Gets the number of filled cells.
+     *
+     * @return cell count (4 for every tetromino)
+     */
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Gets the column offset of a filled cell.
+     *
+     * @param i the cell index
+     * @return column offset inside the shape matrix
+     */
+    public int getCellX(int i) {
+        return cellX[i];
+    }
+
+    /**
+     * Gets the row offset of a filled cell.
+     *
+     * @param i the cell index
+     * @return row offset inside the shape matrix
+     */
+    public int getCellY(int i) {
+        return cellY[i];
+    }
+
+    /**
+     * Gets the filled columns of one shape row as a bitmask.
+     *
+     * @param row the shape row
+     * @return bitmask where bit c is set when column c is filled
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the number of rows in the shape matrix.
+     *
+     * @return matrix height
+     */
+    public int getRowCount() {
+        return rowMasks.length;
+    }
+
+    /**
+     * Gets the number of columns in the shape matrix.
+     *
+     * @return matrix width
+     */
+    public int getColumnCount() {
+        return bottom.length;
+    }
+
+    /**
+     * Gets the lowest filled row of one shape column.
+     *
+     * @param column the shape column
+     * @return row offset of the lowest cell, or -1 if the column is empty
+     */
+    public int getBottom(int column) {
+        return bottom[column];
+    }
+
+    /**
+     * Gets the leftmost filled column.
+     *
+     * @return smallest column offset of any cell
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the rightmost filled column.
+     *
+     * @return largest column offset of any cell
+     */
+    public int getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the topmost filled row.
+     *
+     * @return smallest row offset of any cell
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the lowest filled row.
+     *
+     * @return largest row offset of any cell
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+}
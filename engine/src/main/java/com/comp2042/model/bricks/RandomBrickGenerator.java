@@ -0,0 +1,44 @@
+package com.comp2042.model.bricks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random bricks for the game.
+ * Each piece is drawn independently, so droughts of a piece can be long.
+ * A seeded generator always produces the same sequence, which lets
+ * simulations replay a game exactly.
+ */
+public class RandomBrickGenerator extends PieceSequenceGenerator {
+
+    /**
+     * Creates a new random brick generator with a random seed.
+     */
+    public RandomBrickGenerator() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a random brick generator with a fixed seed.
+     *
+     * @param seed the seed for the brick sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        super(1, seed);
+    }
+
+    @Override
+    protected void reset() {
+        // Every draw is independent, so there is nothing to reset
+    }
+
+    @Override
+    protected void copyState(PieceSequenceGenerator other) {
+        // No state beyond the random state
+    }
+
+    @Override
+    protected int generate(byte[] out, int offset) {
+        out[offset] = (byte) nextInt(BrickShapes.PIECE_COUNT);
+        return 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.model.bricks;
+
+/**
+ * The seeded brick generators, by name.
+ * Lets a command line option or a replay file name a generator, and
+ * rebuilds the exact sequence from a seed.
+ */
+public enum Randomizer {
+    /** Every piece drawn independently */
+    RANDOM("random"),
+    /** Shuffled bags of the seven pieces */
+    BAG7("bag7"),
+    /** Shuffled bags of two of each piece */
+    BAG14("bag14"),
+    /** Four-piece history with six rerolls, as in TGM */
+    TGM("tgm");
+
+    private static final Randomizer[] VALUES = values();
+
+    private final String name;
+
+    Randomizer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Creates a generator of this kind.
+     *
+     * @param seed the seed of the sequence
+     * @return a new generator
+     */
+    public PieceSequenceGenerator create(long seed) {
+        return switch (this) {
+            case RANDOM -> new RandomBrickGenerator(seed);
+            case BAG7 -> BagBrickGenerator.sevenBag(seed);
+            case BAG14 -> BagBrickGenerator.fourteenBag(seed);
+            case TGM -> new HistoryBrickGenerator(6, seed);
+        };
+    }
+
+    /**
+     * Gets the command line name of this randomizer.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Looks up a randomizer by its command line name.
+     *
+     * @param name random, bag7, bag14 or tgm
+     * @return the randomizer
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Randomizer byName(String name) {
+        for (Randomizer randomizer : VALUES) {
+            if (randomizer.name.equals(name)) {
+                return randomizer;
+            }
+        }
+        throw new IllegalArgumentException("Unknown randomizer: " + name);
+    }
+
+    /**
+     * Looks up a randomizer by its position, as stored in files.
+     *
+     * @param id the ordinal
+     * @return the randomizer
+     * @throws IllegalArgumentException if the id is out of range
+     */
+    public static Randomizer byId(int id) {
+        if (id < 0 || id >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown randomizer id: " + id);
+        }
+        return VALUES[id];
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * The S-shaped tetromino (zigzag piece).
+ * Represented by color ID 5 (Red).
+ * Has 2 rotation states, shaped like the letter "S".
+ * Forms a zigzag pattern.
+ */
+final class SBrick implements Brick {
+
+    /** Rotation states shared by every S-brick */
+    static final List<int[][]> SHAPES = List.of(
+            // Horizontal orientation (zigzag left-to-right)
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0}
+            },
+
+            // Vertical orientation (zigzag top-to-bottom)
+            new int[][]{
+                    {5, 0, 0, 0},
+                    {5, 5, 0, 0},
+                    {0, 5, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    /**
+     * Gets all rotation states of this brick.
+     *
+     * @return list containing 2 rotation states
+     */
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(SHAPES);
+    }
+
+    /**
+     * Gets the precomputed rotation states from the shared registry.
+     *
+     * @return shared rotation states, must not be modified
+     */
+    @Override
+    public PieceShape[] getRotations() {
+        return BrickShapes.rotations(BrickShapes.S);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.comp2042.model.bricks;
+
+import com.comp2042.model.MatrixOperations;
+
+import java.util.List;
+
+/**
+ * The Z-shaped tetromino (reverse zigzag piece).
+ * Represented by color ID 7 (Burlywood).
+ * Has 2 rotation states, shaped like the letter "Z".
+ * Forms a reverse zigzag pattern (opposite of S-piece).
+ */
+final class ZBrick implements Brick {
+
+    /** Rotation states shared by every Z-brick */
+    static final List<int[][]> SHAPES = List.of(
+            // Horizontal orientation (zigzag right-to-left)
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {7, 7, 0, 0},
+                    {0, 7, 7, 0},
+                    {0, 0, 0, 0}
+            },
+
+            // Vertical orientation (zigzag top-to-bottom, reversed)
+            new int[][]{
+                    {0, 7, 0, 0},
+                    {7, 7, 0, 0},
+                    {7, 0, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    /**
+     * Gets all rotation states of this brick.
+     *
+     * @return list containing 2 rotation states
+     */
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return MatrixOperations.deepCopyList(SHAPES);
+    }
+
+    /**
+     * Gets the precomputed rotation states from the shared registry.
+     *
+     * @return shared rotation states, must not be modified
+     */
+    @Override
+    public PieceShape[] getRotations() {
+        return BrickShapes.rotations(BrickShapes.Z);
+    }
+}
\ No newline at end of file
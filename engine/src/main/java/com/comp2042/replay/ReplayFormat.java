@@ -0,0 +1,81 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.InputAction;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and encoding helpers for the binary replay format.
+ * A replay is a {@link ReplayHeader} followed by one variable-length
+ * integer per input event. Each holds the ticks since the previous event
+ * shifted left four bits, with the {@link InputAction} in the low bits,
+ * so a burst of key presses costs one byte each. The log is append-only.
+ * A cleanly closed log ends with a {@link ReplayResult} record, marked by
+ * {@link #RESULT_MARKER} in place of an event; a file cut short ends at
+ * its last complete event and has no result.
+ */
+public final class ReplayFormat {
+
+    /** File signature, "TRPL" */
+    public static final int MAGIC = 0x5452504C;
+
+    /** Current format version */
+    public static final int VERSION = 1;
+
+    /** File name extension for replays */
+    public static final String EXTENSION = ".trpl";
+
+    /** Low four bits of the value that starts the result record, which no action uses */
+    public static final int RESULT_MARKER = 0xF;
+
+    /** Longest encoded variable-length long, in bytes */
+    public static final int MAX_VARLONG_BYTES = 10;
+
+    // Private constructor to prevent instantiation
+    private ReplayFormat() { }
+
+    /**
+     * Encodes an event as the value written to the log.
+     *
+     * @param tickDelta ticks since the previous event, not negative
+     * @param action the action
+     * @return the value to write
+     */
+    public static long encodeEvent(long tickDelta, InputAction action) {
+        return action.pack(tickDelta);
+    }
+
+    /**
+     * Writes an unsigned variable-length long, seven bits per byte, low bits first.
+     *
+     * @param buffer the buffer to write to
+     * @param value the value, treated as unsigned
+     */
+    public static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned variable-length long.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws IllegalArgumentException if the value is longer than ten bytes
+     * @throws java.nio.BufferUnderflowException if the buffer ends inside the value
+     */
+    public static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length value");
+    }
+}
@@ -0,0 +1,203 @@
+package com.comp2042.replay;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.GameSession;
+import com.comp2042.model.LockDelay;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.Randomizer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Everything needed to rebuild the game a replay was recorded from.
+ * With the same randomizer, seed and rules, feeding the recorded inputs
+ * at the recorded ticks plays out exactly the same game.
+ */
+public final class ReplayHeader {
+
+    /** Size of an encoded header in bytes */
+    public static final int BYTES = 4 + 1 + 1 + 8 + 2 + 2 + 2 + 2 + 8 + 2;
+
+    private final Randomizer randomizer;
+    private final long seed;
+    private final int rows;
+    private final int columns;
+    private final int ticksPerSecond;
+    private final int linesPerLevel;
+    private final long lockDelayNanos;
+    private final int maxLockResets;
+
+    /**
+     * Creates a header.
+     *
+     * @param randomizer the brick generator kind
+     * @param seed the generator seed
+     * @param rows board rows
+     * @param columns board columns
+     * @param ticksPerSecond tick rate the game was played at
+     * @param linesPerLevel lines needed per level
+     * @param lockDelayNanos lock delay, or 0 if the game locked at once
+     * @param maxLockResets lock delay move-reset cap
+     */
+    public ReplayHeader(Randomizer randomizer, long seed, int rows, int columns, int ticksPerSecond,
+                        int linesPerLevel, long lockDelayNanos, int maxLockResets) {
+        this.randomizer = randomizer;
+        this.seed = seed;
+        this.rows = rows;
+        this.columns = columns;
+        this.ticksPerSecond = ticksPerSecond;
+        this.linesPerLevel = linesPerLevel;
+        this.lockDelayNanos = lockDelayNanos;
+        this.maxLockResets = maxLockResets;
+    }
+
+    /**
+     * Builds a started session with the recorded rules and brick sequence.
+     *
+     * @return a new session at the start of the recorded game
+     */
+    public GameSession createSession() {
+        return createSession(createBoard());
+    }
+
+    /**
+     * Builds an empty board with the recorded size and brick sequence.
+     *
+     * @return a new board
+     */
+    public SimpleBoard createBoard() {
+        return new SimpleBoard(rows, columns, randomizer.create(seed));
+    }
+
+    /**
+     * Builds a started session with the recorded rules on a board.
+     *
+     * @param board a board from {@link #createBoard()}
+     * @return a new session at the start of the recorded game
+     */
+    public GameSession createSession(Board board) {
+        GameSession session = new GameSession(board, linesPerLevel);
+        if (lockDelayNanos > 0) {
+            session.setLockDelay(new LockDelay(lockDelayNanos, maxLockResets));
+        }
+        session.start();
+        return session;
+    }
+
+    /**
+     * Writes this header.
+     *
+     * @param buffer the buffer to write to, with at least {@link #BYTES} remaining
+     */
+    public void write(ByteBuffer buffer) {
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.put((byte) ReplayFormat.VERSION);
+        buffer.put((byte) randomizer.ordinal());
+        buffer.putLong(seed);
+        buffer.putShort((short) rows);
+        buffer.putShort((short) columns);
+        buffer.putShort((short) ticksPerSecond);
+        buffer.putShort((short) linesPerLevel);
+        buffer.putLong(lockDelayNanos);
+        buffer.putShort((short) maxLockResets);
+    }
+
+    /**
+     * Reads a header.
+     *
+     * @param buffer the buffer to read from
+     * @return the header
+     * @throws IllegalArgumentException if the data is not a replay or has an unknown version
+     */
+    public static ReplayHeader read(ByteBuffer buffer) {
+        if (buffer.remaining() < BYTES || buffer.getInt() != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a replay");
+        }
+        int version = buffer.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version: " + version);
+        }
+        Randomizer randomizer = Randomizer.byId(buffer.get());
+        long seed = buffer.getLong();
+        int rows = buffer.getShort();
+        int columns = buffer.getShort();
+        int ticksPerSecond = buffer.getShort();
+        int linesPerLevel = buffer.getShort();
+        long lockDelayNanos = buffer.getLong();
+        int maxLockResets = buffer.getShort();
+        return new ReplayHeader(randomizer, seed, rows, columns, ticksPerSecond,
+                linesPerLevel, lockDelayNanos, maxLockResets);
+    }
+
+    /**
+     * Gets the brick generator kind.
+     *
+     * @return the randomizer
+     */
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Gets the generator seed.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of board rows.
+     *
+     * @return rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns.
+     *
+     * @return columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the tick rate the game was played at.
+     *
+     * @return ticks per second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Gets the lines needed per level.
+     *
+     * @return lines per level
+     */
+    public int getLinesPerLevel() {
+        return linesPerLevel;
+    }
+
+    /**
+     * Gets the lock delay.
+     *
+     * @return the delay in nanoseconds, or 0 if bricks locked at once
+     */
+    public long getLockDelayNanos() {
+        return lockDelayNanos;
+    }
+
+    /**
+     * Gets the lock delay move-reset cap.
+     *
+     * @return the reset cap
+     */
+    public int getMaxLockResets() {
+        return maxLockResets;
+    }
+}
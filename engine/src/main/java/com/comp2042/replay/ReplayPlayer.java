@@ -0,0 +1,342 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.loop.VirtualClock;
+import com.comp2042.model.GameSession;
+import com.comp2042.model.SimpleBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays back a replay with instant seeking and adjustable speed.
+ * The file is memory-mapped, so opening even a long game reads nothing up
+ * front. Opening plays the whole game through once at full speed and keeps
+ * a keyframe, a full copy of the game, every few pieces. Seeking restores
+ * the nearest keyframe before the target and simulates only the ticks
+ * after it.
+ */
+public final class ReplayPlayer {
+
+    /** Default number of pieces between keyframes */
+    public static final int DEFAULT_KEYFRAME_PIECES = 50;
+
+    /** Slowest playback speed */
+    public static final double MIN_SPEED = 1.0 / 16;
+
+    /** Fastest playback speed */
+    public static final double MAX_SPEED = 10_000;
+
+    private final ReplayReader reader;
+    private final ReplayHeader header;
+    private final Game live;
+    private final List<Keyframe> keyframes = new ArrayList<>();
+    private final long length;
+
+    // The reader holds an event that has not been submitted yet
+    private boolean pending = false;
+    private boolean ended = false;
+    private long lastSubmitted = -1;
+
+    private double speed = 1.0;
+    private boolean playing = true;
+    private double tickFraction = 0;
+
+    /**
+     * Creates a player over replay data and builds its keyframe index.
+     *
+     * @param buffer the replay data
+     * @param keyframePieces pieces between keyframes
+     * @throws IllegalArgumentException if the data is not a replay
+     */
+    public ReplayPlayer(ByteBuffer buffer, int keyframePieces) {
+        reader = new ReplayReader(buffer);
+        header = reader.getHeader();
+        live = new Game(header);
+        length = buildIndex(Math.max(1, keyframePieces));
+        restore(keyframes.get(0));
+    }
+
+    /**
+     * Memory-maps a replay file and builds its keyframe index.
+     *
+     * @param file the replay file
+     * @param keyframePieces pieces between keyframes
+     * @return the player, at the start of the game
+     * @throws IOException if the file cannot be read
+     */
+    public static ReplayPlayer open(Path file, int keyframePieces) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel closes
+            ByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ReplayPlayer(map, keyframePieces);
+        }
+    }
+
+    /**
+     * Plays the whole replay once, keeping a keyframe every few pieces.
+     *
+     * @param keyframePieces pieces between keyframes
+     * @return the number of ticks in the replay
+     */
+    private long buildIndex(int keyframePieces) {
+        keyframes.add(new Keyframe(header, live, 0, reader.position(), 0));
+        int pieces = 0;
+        int lastPlaced = 0;
+        while (reader.next()) {
+            long tick = reader.getTick();
+            advanceTo(tick);
+            // A new game starts the session's count over
+            int placed = live.session.getPiecesPlaced();
+            pieces += placed >= lastPlaced ? placed - lastPlaced : placed;
+            lastPlaced = placed;
+            // Only keep keyframes between ticks, when no input is queued in the loop
+            if (tick != lastSubmitted && pieces >= keyframePieces) {
+                keyframes.add(new Keyframe(header, live, tick, reader.getEventPosition(), reader.getPreviousTick()));
+                pieces = 0;
+            }
+            submit();
+        }
+        // Run the tick of the last input so it takes effect
+        advanceTo(lastSubmitted + 1);
+        return live.loop.getTick();
+    }
+
+    /**
+     * Moves playback to a tick.
+     * Goes forward from the current position when that is closer than a
+     * keyframe, otherwise restores the last keyframe at or before the tick.
+     *
+     * @param tick the tick to show, clamped to the replay
+     */
+    public void seek(long tick) {
+        long target = Math.max(0, Math.min(tick, length));
+        Keyframe keyframe = keyframeBefore(target);
+        long current = live.loop.getTick();
+        if (target < current || keyframe.tick > current) {
+            restore(keyframe);
+        }
+        runTo(target);
+    }
+
+    /**
+     * Advances playback by real time at the current speed.
+     * Call this once per displayed frame.
+     *
+     * @param elapsedNanos real time since the last call
+     */
+    public void update(long elapsedNanos) {
+        if (!playing || isAtEnd()) {
+            return;
+        }
+        tickFraction += elapsedNanos * speed * header.getTicksPerSecond() / 1e9;
+        long ticks = (long) tickFraction;
+        tickFraction -= ticks;
+        if (ticks > 0) {
+            runTo(Math.min(length, live.loop.getTick() + ticks));
+        }
+    }
+
+    /**
+     * Finds the last keyframe at or before a tick.
+     *
+     * @param tick the tick
+     * @return the keyframe
+     */
+    private Keyframe keyframeBefore(long tick) {
+        int low = 0;
+        int high = keyframes.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (keyframes.get(mid).tick <= tick) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return keyframes.get(low);
+    }
+
+    private void restore(Keyframe keyframe) {
+        live.copyFrom(keyframe.game);
+        reader.seek(keyframe.position, keyframe.previousTick);
+        pending = false;
+        ended = false;
+        lastSubmitted = -1;
+        tickFraction = 0;
+        // Publish the restored state even if no tick runs after it
+        live.loop.advance(0);
+    }
+
+    /**
+     * Simulates forward to a tick, feeding in every input before it.
+     *
+     * @param target the tick count to stop at
+     */
+    private void runTo(long target) {
+        while (!ended) {
+            if (!pending) {
+                pending = reader.next();
+                if (!pending) {
+                    ended = true;
+                    break;
+                }
+            }
+            if (reader.getTick() >= target) {
+                break;
+            }
+            advanceTo(reader.getTick());
+            submit();
+        }
+        advanceTo(target);
+    }
+
+    private void advanceTo(long tick) {
+        long ticks = tick - live.loop.getTick();
+        if (ticks > 0) {
+            live.loop.advance((int) ticks);
+        }
+    }
+
+    private void submit() {
+        live.loop.submit(reader.getAction(), 0);
+        lastSubmitted = reader.getTick();
+        pending = false;
+    }
+
+    /**
+     * Gets the newest frame of the game at the playback position.
+     *
+     * @return the frame
+     */
+    public FrameSnapshot latestFrame() {
+        return live.loop.latestFrame();
+    }
+
+    /**
+     * Gets the playback position.
+     *
+     * @return the current tick
+     */
+    public long getTick() {
+        return live.loop.getTick();
+    }
+
+    /**
+     * Gets the length of the replay.
+     *
+     * @return ticks up to and including the last input
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Checks whether playback reached the end.
+     *
+     * @return true at the last tick
+     */
+    public boolean isAtEnd() {
+        return live.loop.getTick() >= length;
+    }
+
+    /**
+     * Gets the number of keyframes in the index.
+     *
+     * @return the keyframe count, including the one at the start
+     */
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    /**
+     * Gets the header of the replay.
+     *
+     * @return the header
+     */
+    public ReplayHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Gets the playback speed.
+     *
+     * @return the speed as a multiple of real time
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the playback speed.
+     *
+     * @param speed the multiple of real time, clamped to {@link #MIN_SPEED}..{@link #MAX_SPEED}
+     */
+    public void setSpeed(double speed) {
+        this.speed = Math.max(MIN_SPEED, Math.min(speed, MAX_SPEED));
+    }
+
+    /**
+     * Checks whether playback is running.
+     *
+     * @return true if {@link #update(long)} moves playback forward
+     */
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * Starts or stops playback.
+     *
+     * @param playing true to play
+     */
+    public void setPlaying(boolean playing) {
+        this.playing = playing;
+        tickFraction = 0;
+    }
+
+    /**
+     * A board, session and loop playing one replay.
+     */
+    private static final class Game {
+        private final SimpleBoard board;
+        private final GameSession session;
+        private final GameLoop loop;
+
+        Game(ReplayHeader header) {
+            board = header.createBoard();
+            session = header.createSession(board);
+            loop = new GameLoop(session, new VirtualClock(header.getTicksPerSecond()));
+        }
+
+        void copyFrom(Game other) {
+            board.copyFrom(other.board);
+            session.copyFrom(other.session);
+            loop.copyFrom(other.loop);
+        }
+    }
+
+    /**
+     * A copy of the game between two ticks, with where the reader was.
+     */
+    private static final class Keyframe {
+        private final Game game;
+        private final long tick;
+        private final int position;
+        private final long previousTick;
+
+        Keyframe(ReplayHeader header, Game source, long tick, int position, long previousTick) {
+            this.game = new Game(header);
+            this.game.copyFrom(source);
+            this.tick = tick;
+            this.position = position;
+            this.previousTick = previousTick;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.InputAction;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the events of a replay log one at a time.
+ * Works on any byte buffer, including a memory-mapped file, and decodes
+ * in place without allocating per event. A log cut off part way through
+ * an event simply ends before it.
+ */
+public final class ReplayReader {
+
+    private final ByteBuffer buffer;
+    private final ReplayHeader header;
+    private final int eventsStart;
+    private long tick = 0;
+    private long previousTick = 0;
+    private int eventPosition;
+    private InputAction action;
+    private ReplayResult result;
+
+    /**
+     * Reads the header and positions the reader before the first event.
+     *
+     * @param buffer the replay data; its position is moved as events are read
+     * @throws IllegalArgumentException if the data is not a replay
+     */
+    public ReplayReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.header = ReplayHeader.read(buffer);
+        this.eventsStart = buffer.position();
+    }
+
+    /**
+     * Moves to the next event.
+     *
+     * @return false if there are no more complete events
+     */
+    public boolean next() {
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        int start = buffer.position();
+        long value;
+        try {
+            value = ReplayFormat.getVarLong(buffer);
+            if ((value & 0xF) == ReplayFormat.RESULT_MARKER) {
+                result = ReplayResult.read(buffer);
+                buffer.position(start);
+                return false;
+            }
+        } catch (BufferUnderflowException e) {
+            // Truncated last event, as left by a crash
+            buffer.position(start);
+            return false;
+        }
+        eventPosition = start;
+        previousTick = tick;
+        tick += InputAction.timeOf(value);
+        action = InputAction.actionOf(value);
+        return true;
+    }
+
+    /**
+     * Goes back to before the first event.
+     */
+    public void rewind() {
+        seek(eventsStart, 0);
+    }
+
+    /**
+     * Moves back to an event read earlier, so the next call to
+     * {@link #next()} reads it again.
+     *
+     * @param position the event's {@link #getEventPosition()}
+     * @param previousTick the event's {@link #getPreviousTick()}
+     */
+    public void seek(int position, long previousTick) {
+        buffer.position(position);
+        tick = previousTick;
+        this.previousTick = previousTick;
+        action = null;
+    }
+
+    /**
+     * Gets the byte offset the current event starts at.
+     *
+     * @return the offset in the buffer
+     */
+    public int getEventPosition() {
+        return eventPosition;
+    }
+
+    /**
+     * Gets the tick of the event before the current one.
+     *
+     * @return the previous tick, 0 for the first event
+     */
+    public long getPreviousTick() {
+        return previousTick;
+    }
+
+    /**
+     * Gets the byte offset of the next event.
+     *
+     * @return the offset in the buffer
+     */
+    public int position() {
+        return buffer.position();
+    }
+
+    /**
+     * Gets the tick of the current event.
+     *
+     * @return the tick the input was applied on
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the input of the current event.
+     *
+     * @return the action
+     */
+    public InputAction getAction() {
+        return action;
+    }
+
+    /**
+     * Gets the outcome the replay claims.
+     * Only known once {@link #next()} has returned false.
+     *
+     * @return the result, or null if the log has none or it was not reached yet
+     */
+    public ReplayResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the header of the replay.
+     *
+     * @return the header
+     */
+    public ReplayHeader getHeader() {
+        return header;
+    }
+}
@@ -0,0 +1,196 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.InputAction;
+import com.comp2042.loop.InputRing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * Writes a replay log while a game is played.
+ * The game thread only packs each input into a long and puts it in a
+ * lock-free ring. A background thread encodes the events and writes them
+ * through a buffered {@link FileChannel} every {@link #FLUSH_NANOS}, so
+ * recording adds no file I/O or allocation to a tick, and a crash loses
+ * at most the last flush interval.
+ */
+public final class ReplayRecorder implements Closeable {
+
+    /** How often queued events are written to the file */
+    public static final long FLUSH_NANOS = 100_000_000L;
+
+    /** Events that can wait for the writer, far more than a flush interval produces */
+    public static final int QUEUE_CAPACITY = 1 << 16;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final InputRing events = new InputRing(QUEUE_CAPACITY);
+    private final LongConsumer encoder = this::encode;
+    private final Thread writer;
+    // Set by the first close(); the only thing that makes close() a no-op
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // Cleared on close, or by the writer when a write fails
+    private volatile boolean open = true;
+    private volatile IOException failure;
+    private volatile ReplayResult result;
+
+    // Owned by the writer thread
+    private long lastTick = 0;
+
+    /**
+     * Starts recording into an open channel, which the recorder then owns.
+     *
+     * @param channel the channel to write to
+     * @param header the game the replay belongs to
+     * @throws IOException if the header cannot be written
+     */
+    ReplayRecorder(FileChannel channel, ReplayHeader header) throws IOException {
+        this.channel = channel;
+        header.write(buffer);
+        flushBuffer();
+
+        writer = new Thread(this::run, "replay-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Creates a replay file and starts recording into it.
+     *
+     * @param file the file to create; an existing file is replaced
+     * @param header the game the replay belongs to
+     * @return the recorder
+     * @throws IOException if the file cannot be created
+     */
+    public static ReplayRecorder open(Path file, ReplayHeader header) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new ReplayRecorder(channel, header);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Records an input applied on a tick.
+     * Only the game thread may call this, with ticks that never go backwards.
+     *
+     * @param tick the tick the input was applied on
+     * @param action the input
+     */
+    public void record(long tick, InputAction action) {
+        long event = action.pack(tick);
+        // The queue only fills if the disk stalls for seconds; wait rather than lose input
+        while (!events.offer(event) && open) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Sets the outcome written at the end of the file on close.
+     * Call this once the game thread has stopped recording.
+     *
+     * @param result the outcome of the recorded game
+     */
+    public void setResult(ReplayResult result) {
+        this.result = result;
+    }
+
+    /**
+     * Writes everything recorded so far, then the result if one was set,
+     * and closes the file. Only the first call does anything.
+     *
+     * @throws IOException if writing failed at any point during recording
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        open = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            // After a failed write the file is already broken, so only close it
+            if (failure == null) {
+                drain();
+                if (result != null) {
+                    flushBuffer();
+                    result.write(buffer);
+                }
+                flushBuffer();
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void run() {
+        try {
+            while (open) {
+                LockSupport.parkNanos(FLUSH_NANOS);
+                drain();
+                flushBuffer();
+            }
+        } catch (IOException e) {
+            failure = e;
+            open = false;
+        }
+    }
+
+    /**
+     * Encodes every queued event into the buffer, writing it out whenever it fills.
+     */
+    private void drain() throws IOException {
+        try {
+            events.drain(encoder);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void encode(long event) {
+        long tick = InputAction.timeOf(event);
+        long value = ReplayFormat.encodeEvent(tick - lastTick, InputAction.actionOf(event));
+        lastTick = tick;
+        if (buffer.remaining() < ReplayFormat.MAX_VARLONG_BYTES) {
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        ReplayFormat.putVarLong(buffer, value);
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
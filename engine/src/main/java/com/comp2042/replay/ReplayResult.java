@@ -0,0 +1,116 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.GameLoop;
+import com.comp2042.model.GameSession;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The outcome a replay claims, written at the end of the log when the
+ * game is closed cleanly. Verifiers play the inputs again and compare the
+ * outcome they get against this one.
+ */
+public final class ReplayResult {
+
+    private final long ticks;
+    private final int score;
+    private final int lines;
+    private final long gameOverTick;
+
+    /**
+     * Creates a result.
+     *
+     * @param ticks ticks played in total
+     * @param score final score of the last game
+     * @param lines lines cleared in the last game
+     * @param gameOverTick the tick the last game ended on, or -1 if it did not end
+     */
+    public ReplayResult(long ticks, int score, int lines, long gameOverTick) {
+        this.ticks = ticks;
+        this.score = score;
+        this.lines = lines;
+        this.gameOverTick = gameOverTick;
+    }
+
+    /**
+     * Takes the result of a stopped loop.
+     *
+     * @param loop the loop, not running
+     * @return its current result
+     */
+    public static ReplayResult of(GameLoop loop) {
+        GameSession session = loop.getSession();
+        return new ReplayResult(loop.getTick(), session.getBoard().getScore().getValue(),
+                session.getTotalLines(), loop.getGameOverTick());
+    }
+
+    /**
+     * Writes the result record, marker included.
+     *
+     * @param buffer the buffer to write to
+     */
+    void write(ByteBuffer buffer) {
+        ReplayFormat.putVarLong(buffer, ReplayFormat.RESULT_MARKER);
+        ReplayFormat.putVarLong(buffer, ticks);
+        ReplayFormat.putVarLong(buffer, score);
+        ReplayFormat.putVarLong(buffer, lines);
+        // Stored one higher so a game still running is 0
+        ReplayFormat.putVarLong(buffer, gameOverTick + 1);
+    }
+
+    /**
+     * Reads the fields of a result record after its marker.
+     *
+     * @param buffer the buffer to read from
+     * @return the result
+     * @throws java.nio.BufferUnderflowException if the record is cut short
+     */
+    static ReplayResult read(ByteBuffer buffer) {
+        long ticks = ReplayFormat.getVarLong(buffer);
+        int score = (int) ReplayFormat.getVarLong(buffer);
+        int lines = (int) ReplayFormat.getVarLong(buffer);
+        long gameOverTick = ReplayFormat.getVarLong(buffer) - 1;
+        return new ReplayResult(ticks, score, lines, gameOverTick);
+    }
+
+    /**
+     * Gets the number of ticks played.
+     *
+     * @return total ticks
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score of the last game
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the lines cleared.
+     *
+     * @return lines cleared in the last game
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the tick the game ended on.
+     *
+     * @return the tick, or -1 if the last game did not end
+     */
+    public long getGameOverTick() {
+        return gameOverTick;
+    }
+
+    @Override
+    public String toString() {
+        return "score " + score + ", lines " + lines + ", game over at " + gameOverTick + " of " + ticks + " ticks";
+    }
+}
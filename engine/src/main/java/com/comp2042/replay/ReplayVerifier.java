@@ -0,0 +1,416 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.GameLoop;
+import com.comp2042.loop.VirtualClock;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Checks replays in bulk by playing them again headlessly.
+ * Each replay's inputs are fed to a fresh game at their recorded ticks,
+ * and the outcome is compared against the {@link ReplayResult} at the end
+ * of the file. The directory is listed lazily and only a few replays per
+ * thread are queued at a time, so memory stays flat however many files
+ * there are. Each report is written out as soon as its replay is done.
+ */
+public final class ReplayVerifier {
+
+    /** Header row of the CSV output. */
+    public static final String CSV_HEADER =
+            "file,verdict,score,lines,game_over_tick,claimed_score,claimed_lines,claimed_game_over_tick";
+
+    /** Default longest game accepted, in hours of play */
+    public static final int DEFAULT_MAX_HOURS = 24;
+
+    // Replays queued per worker thread, enough to keep every thread busy
+    private static final int QUEUED_PER_THREAD = 4;
+
+    private final long maxSeconds;
+
+    /**
+     * Creates a verifier.
+     *
+     * @param maxHours the longest game to play; longer replays are rejected unplayed
+     */
+    public ReplayVerifier(int maxHours) {
+        this.maxSeconds = maxHours * 3600L;
+    }
+
+    /**
+     * How a replay compared with the outcome it claims.
+     */
+    public enum Verdict {
+        /** Playing the inputs gives exactly the claimed outcome */
+        VERIFIED,
+        /** Playing the inputs gives a different outcome */
+        MISMATCH,
+        /** The replay has no result to check, as when a game crashed */
+        NO_RESULT,
+        /** The file is not a replay, or is too long to play */
+        UNREADABLE
+    }
+
+    /**
+     * Plays one replay and compares it against its claimed result.
+     *
+     * @param name the name to report the replay under
+     * @param data the replay data
+     * @return the report
+     */
+    public Report verify(String name, ByteBuffer data) {
+        ReplayReader reader;
+        try {
+            reader = new ReplayReader(data);
+        } catch (IllegalArgumentException e) {
+            return new Report(name, Verdict.UNREADABLE, null, null);
+        }
+        ReplayHeader header = reader.getHeader();
+        long maxTicks = maxSeconds * header.getTicksPerSecond();
+
+        try {
+            GameLoop loop = new GameLoop(header.createSession(), new VirtualClock(header.getTicksPerSecond()));
+            long end = 0;
+            while (reader.next()) {
+                long tick = reader.getTick();
+                if (tick >= maxTicks) {
+                    return new Report(name, Verdict.UNREADABLE, null, reader.getResult());
+                }
+                advanceTo(loop, tick);
+                loop.submit(reader.getAction(), 0);
+                end = tick + 1;
+            }
+
+            ReplayResult claimed = reader.getResult();
+            if (claimed != null) {
+                // Run on to where the recording stopped, as a game can end between inputs
+                end = Math.max(end, Math.min(claimed.getTicks(), maxTicks));
+            }
+            advanceTo(loop, end);
+            ReplayResult actual = ReplayResult.of(loop);
+
+            if (claimed == null) {
+                return new Report(name, Verdict.NO_RESULT, actual, null);
+            }
+            return new Report(name, matches(actual, claimed) ? Verdict.VERIFIED : Verdict.MISMATCH,
+                    actual, claimed);
+        } catch (RuntimeException e) {
+            // Malformed data or a header with rules no game can be built from
+            return new Report(name, Verdict.UNREADABLE, null, reader.getResult());
+        }
+    }
+
+    /**
+     * Reads and verifies one replay file.
+     *
+     * @param file the replay file
+     * @return the report
+     */
+    public Report verify(Path file) {
+        return verify(file, new ByteBuffer[1]);
+    }
+
+    /**
+     * Reads and verifies one replay file into a reusable buffer.
+     *
+     * @param file the replay file
+     * @param buffer holds the buffer to read into, replaced if it is too small
+     * @return the report
+     */
+    private Report verify(Path file, ByteBuffer[] buffer) {
+        String name = file.getFileName().toString();
+        try {
+            buffer[0] = read(file, buffer[0]);
+        } catch (IOException e) {
+            return new Report(name, Verdict.UNREADABLE, null, null);
+        }
+        return verify(name, buffer[0]);
+    }
+
+    /**
+     * Verifies every replay in a directory on a pool of threads.
+     * Reports are written in the order replays finish. If a report cannot be
+     * written, no more replays are started and the error is thrown once the
+     * running ones are done.
+     *
+     * @param dir the directory holding the replays
+     * @param threads how many worker threads to use
+     * @param out where to write the CSV rows, or null to only collect totals
+     * @return the totals of the run
+     * @throws IOException if the directory cannot be listed or a report cannot be written
+     */
+    public Summary run(Path dir, int threads, Writer out) throws IOException {
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+        ThreadLocal<ByteBuffer[]> buffers = ThreadLocal.withInitial(() -> new ByteBuffer[1]);
+        Semaphore queued = new Semaphore(threads * QUEUED_PER_THREAD);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        // The first failed write, which stops the run
+        AtomicReference<IOException> failure = new AtomicReference<>();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + ReplayFormat.EXTENSION)) {
+            for (Path file : files) {
+                // Wait for a free slot instead of queueing the whole directory
+                queued.acquireUninterruptibly();
+                if (failure.get() != null) {
+                    break;
+                }
+                pool.execute(() -> {
+                    try {
+                        if (failure.get() != null) {
+                            return;
+                        }
+                        Report report = verify(file, buffers.get());
+                        summary.add(report.verdict);
+                        if (out != null) {
+                            synchronized (out) {
+                                out.append(report.toCsv()).append('\n');
+                            }
+                        }
+                    } catch (IOException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        queued.release();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    private static boolean matches(ReplayResult actual, ReplayResult claimed) {
+        return actual.getTicks() == claimed.getTicks()
+                && actual.getScore() == claimed.getScore()
+                && actual.getLines() == claimed.getLines()
+                && actual.getGameOverTick() == claimed.getGameOverTick();
+    }
+
+    private static void advanceTo(GameLoop loop, long tick) {
+        while (loop.getTick() < tick) {
+            loop.advance((int) Math.min(tick - loop.getTick(), Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Reads a whole file into a buffer, reusing the given one if it is big enough.
+     */
+    private static ByteBuffer read(Path file, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Replay too large: " + file);
+            }
+            if (buffer == null || buffer.capacity() < size) {
+                buffer = ByteBuffer.allocate((int) size);
+            }
+            buffer.clear().limit((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * The outcome of checking one replay.
+     */
+    public static final class Report {
+
+        private final String name;
+        private final Verdict verdict;
+        private final ReplayResult actual;
+        private final ReplayResult claimed;
+
+        Report(String name, Verdict verdict, ReplayResult actual, ReplayResult claimed) {
+            this.name = name;
+            this.verdict = verdict;
+            this.actual = actual;
+            this.claimed = claimed;
+        }
+
+        /**
+         * Gets the name of the replay.
+         *
+         * @return the file name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the verdict.
+         *
+         * @return how the replay compared with its claim
+         */
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        /**
+         * Gets the outcome of playing the replay.
+         *
+         * @return the outcome, or null if it could not be played
+         */
+        public ReplayResult getActual() {
+            return actual;
+        }
+
+        /**
+         * Gets the outcome the replay claims.
+         *
+         * @return the claimed outcome, or null if it has none
+         */
+        public ReplayResult getClaimed() {
+            return claimed;
+        }
+
+        /**
+         * Formats the report as a CSV row without a line break.
+         *
+         * @return the CSV row
+         */
+        public String toCsv() {
+            StringBuilder row = new StringBuilder(name).append(',').append(verdict);
+            appendResult(row, actual);
+            appendResult(row, claimed);
+            return row.toString();
+        }
+
+        private static void appendResult(StringBuilder row, ReplayResult result) {
+            if (result == null) {
+                row.append(",,,");
+            } else {
+                row.append(',').append(result.getScore())
+                        .append(',').append(result.getLines())
+                        .append(',').append(result.getGameOverTick());
+            }
+        }
+    }
+
+    /**
+     * Totals and throughput of a finished run.
+     */
+    public static final class Summary {
+
+        private final AtomicLong[] counts = new AtomicLong[Verdict.values().length];
+        private long elapsedNanos;
+
+        Summary() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new AtomicLong();
+            }
+        }
+
+        void add(Verdict verdict) {
+            counts[verdict.ordinal()].incrementAndGet();
+        }
+
+        /**
+         * Gets the number of replays with a verdict.
+         *
+         * @param verdict the verdict
+         * @return how many replays got it
+         */
+        public long getCount(Verdict verdict) {
+            return counts[verdict.ordinal()].get();
+        }
+
+        /**
+         * Gets the number of replays checked.
+         *
+         * @return replays checked
+         */
+        public long getReplays() {
+            long total = 0;
+            for (AtomicLong count : counts) {
+                total += count.get();
+            }
+            return total;
+        }
+
+        /**
+         * Gets the wall-clock time the run took.
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Gets the number of replays checked per second.
+         *
+         * @return replays per second
+         */
+        public double getReplaysPerSecond() {
+            return getReplays() * 1e9 / Math.max(1, elapsedNanos);
+        }
+    }
+
+    /**
+     * Verifies a directory of replays from the command line.
+     * Options: --dir DIR (default "replays"), --threads T, --out FILE,
+     * --max-hours H. Without --out the CSV goes to standard output.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the directory cannot be listed or the output cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of("replays");
+        int threads = Runtime.getRuntime().availableProcessors();
+        String outFile = null;
+        int maxHours = DEFAULT_MAX_HOURS;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--dir" -> dir = Path.of(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--out" -> outFile = args[++i];
+                case "--max-hours" -> maxHours = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Writer out = outFile == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Path.of(outFile), StandardCharsets.UTF_8);
+        Summary summary;
+        try (out) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+            summary = new ReplayVerifier(maxHours).run(dir, threads, out);
+        }
+
+        System.err.printf("%d replays in %.2f s on %d threads: %d verified, %d mismatched, %d without result, %d unreadable%n",
+                summary.getReplays(), summary.getElapsedNanos() / 1e9, threads,
+                summary.getCount(Verdict.VERIFIED), summary.getCount(Verdict.MISMATCH),
+                summary.getCount(Verdict.NO_RESULT), summary.getCount(Verdict.UNREADABLE));
+        System.err.printf("%.0f replays/s%n", summary.getReplaysPerSecond());
+    }
+}
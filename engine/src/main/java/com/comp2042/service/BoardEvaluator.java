@@ -0,0 +1,89 @@
+package com.comp2042.service;
+
+import com.comp2042.service.BoardFeatures.Feature;
+
+/**
+ * Scores positions as a weighted sum of {@link BoardFeatures}.
+ * Higher scores are better. The weights are fixed per evaluator, so one
+ * instance can be shared between threads; evaluating reads the features
+ * and allocates nothing.
+ */
+public final class BoardEvaluator {
+
+    /** Number of weights, one per {@link Feature} */
+    public static final int WEIGHT_COUNT = Feature.values().length;
+
+    // Pierre Dellacherie's features with the weights tuned by the El-Tetris project
+    private static final double[] EL_TETRIS = {
+            -4.500158825082766,
+            3.4181268101392694,
+            -3.2178882868487753,
+            -9.348695305445199,
+            -7.899265427351652,
+            -3.3855972247263626,
+            0,
+            0,
+            0
+    };
+
+    private final double[] weights;
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param weights one weight per {@link Feature}, in declaration order
+     * @throws IllegalArgumentException if the number of weights is wrong
+     */
+    public BoardEvaluator(double... weights) {
+        if (weights.length != WEIGHT_COUNT) {
+            throw new IllegalArgumentException("Expected " + WEIGHT_COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Creates an evaluator with the El-Tetris weights.
+     *
+     * @return the evaluator
+     */
+    public static BoardEvaluator elTetris() {
+        return new BoardEvaluator(EL_TETRIS);
+    }
+
+    /**
+     * Scores the position left by the last placement.
+     *
+     * @param features the stack after the placement
+     * @return the score, higher is better
+     */
+    public double evaluate(BoardFeatures features) {
+        return weights[0] * features.getLandingHeight()
+                + weights[1] * features.getErodedCells()
+                + weights[2] * features.getRowTransitions()
+                + weights[3] * features.getColumnTransitions()
+                + weights[4] * features.getHoles()
+                + weights[5] * features.getWellSums()
+                + weights[6] * features.getAggregateHeight()
+                + weights[7] * features.getBumpiness()
+                + weights[8] * features.getLinesCleared();
+    }
+
+    /**
+     * Gets the weight of one feature.
+     *
+     * @param feature the feature
+     * @return its weight
+     */
+    public double getWeight(Feature feature) {
+        return weights[feature.ordinal()];
+    }
+
+    /**
+     * Gets a copy of all weights.
+     *
+     * @return one weight per {@link Feature}, in declaration order
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+}
@@ -0,0 +1,498 @@
+package com.comp2042.service;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.Zobrist;
+import com.comp2042.model.bricks.PieceShape;
+
+import java.util.Arrays;
+
+/**
+ * A copy of a board's stack that keeps Dellacherie / El-Tetris features up to date.
+ * The stack is one bitmask per row, bit c set when column c is filled.
+ * Each row keeps its own share of the row transitions, column transitions
+ * and holes, so placing a brick only recounts the rows it touched, plus
+ * the rows under it whose covered columns changed. A placement that
+ * clears lines shifts every row above it, so that case recounts the whole
+ * stack from the row masks, which is still a few dozen bit operations.
+ * Column heights are kept per column; the height-based sums are redone
+ * from them, one pass over the columns. The stack's {@link Zobrist} hash
+ * is kept the same way: placed cells are XORed in, and a clear rehashes.
+ *
+ * Nothing is allocated after construction. Instances are used by one
+ * thread at a time and copied with {@link #copyFrom(BoardFeatures)} when a
+ * search needs to branch.
+ */
+public final class BoardFeatures {
+
+    /** Widest board whose rows and side walls fit in an int */
+    public static final int MAX_COLUMNS = Integer.SIZE - 2;
+
+    /**
+     * The features a position is judged on.
+     */
+    public enum Feature {
+        /** Height of the middle of the last placed brick */
+        LANDING_HEIGHT,
+        /** Lines cleared by the last brick times its cells in those lines */
+        ERODED_CELLS,
+        /** Filled-empty changes along every row, walls counted as filled */
+        ROW_TRANSITIONS,
+        /** Filled-empty changes down every column, floor counted as filled */
+        COLUMN_TRANSITIONS,
+        /** Empty cells with a filled cell somewhere above them */
+        HOLES,
+        /** Sum over open wells of 1 + 2 + ... + depth */
+        WELL_SUMS,
+        /** Sum of the column heights */
+        AGGREGATE_HEIGHT,
+        /** Sum of the height differences of neighbouring columns */
+        BUMPINESS,
+        /** Lines cleared by the last brick */
+        LINES_CLEARED
+    }
+
+    private final int rows;
+    private final int columns;
+    private final int fullRow;
+    private final int[] cells;
+
+    // Per-row shares of the totals
+    private final int[] rowTransitions;
+    // Index i is between row i - 1 and row i; 0 is the top edge, rows is the floor
+    private final int[] columnTransitions;
+    // Columns with a filled cell above each row
+    private final int[] covered;
+    private final int[] holes;
+    private final int[] heights;
+
+    private int rowTransitionSum;
+    private int columnTransitionSum;
+    private int holeSum;
+    private int aggregateHeight;
+    private int bumpiness;
+    private int wellSums;
+    // Twice the landing height, so it stays a whole number
+    private int landingHeight2;
+    private int erodedCells;
+    private int linesCleared;
+    private long hash;
+
+    /**
+     * Creates an empty stack.
+     *
+     * @param rows the number of rows in the board matrix
+     * @param columns the number of columns in the board matrix
+     * @throws IllegalArgumentException if the board is too wide to fit a row mask, or too tall to hash
+     */
+    public BoardFeatures(int rows, int columns) {
+        if (columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("BoardFeatures supports at most " + MAX_COLUMNS + " columns");
+        }
+        if (rows > Zobrist.MAX_ROWS) {
+            throw new IllegalArgumentException("BoardFeatures supports at most " + Zobrist.MAX_ROWS + " rows");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRow = (1 << columns) - 1;
+        cells = new int[rows];
+        rowTransitions = new int[rows];
+        columnTransitions = new int[rows + 1];
+        covered = new int[rows];
+        holes = new int[rows];
+        heights = new int[columns];
+        recount();
+    }
+
+    /**
+     * Loads the stack of a board.
+     *
+     * @param board the board
+     */
+    public void load(Board board) {
+        load(board.getBoardMatrix());
+    }
+
+    /**
+     * Loads a stack from a board matrix and counts every feature from scratch.
+     *
+     * @param matrix the board matrix, indexed by [row][column]; non-zero cells are filled
+     */
+    public void load(int[][] matrix) {
+        for (int r = 0; r < rows; r++) {
+            int mask = 0;
+            for (int c = 0; c < columns; c++) {
+                if (matrix[r][c] != 0) {
+                    mask |= 1 << c;
+                }
+            }
+            cells[r] = mask;
+        }
+        landingHeight2 = 0;
+        erodedCells = 0;
+        linesCleared = 0;
+        recount();
+    }
+
+    /**
+     * Makes this stack an exact copy of another of the same size.
+     *
+     * @param other the stack to copy
+     */
+    public void copyFrom(BoardFeatures other) {
+        System.arraycopy(other.cells, 0, cells, 0, rows);
+        System.arraycopy(other.rowTransitions, 0, rowTransitions, 0, rows);
+        System.arraycopy(other.columnTransitions, 0, columnTransitions, 0, rows + 1);
+        System.arraycopy(other.covered, 0, covered, 0, rows);
+        System.arraycopy(other.holes, 0, holes, 0, rows);
+        System.arraycopy(other.heights, 0, heights, 0, columns);
+        rowTransitionSum = other.rowTransitionSum;
+        columnTransitionSum = other.columnTransitionSum;
+        holeSum = other.holeSum;
+        aggregateHeight = other.aggregateHeight;
+        bumpiness = other.bumpiness;
+        wellSums = other.wellSums;
+        landingHeight2 = other.landingHeight2;
+        erodedCells = other.erodedCells;
+        linesCleared = other.linesCleared;
+        hash = other.hash;
+    }
+
+    /**
+     * Checks whether a shape fits on the stack.
+     *
+     * @param shape the rotation state
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return true if every cell is inside the board and empty
+     */
+    public boolean fits(PieceShape shape, int x, int y) {
+        if (x + shape.getMinX() < 0 || x + shape.getMaxX() >= columns
+                || y + shape.getMinY() < 0 || y + shape.getMaxY() >= rows) {
+            return false;
+        }
+        for (int r = shape.getMinY(); r <= shape.getMaxY(); r++) {
+            if ((cells[y + r] & shift(shape.getRowMask(r), x)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Locks a shape into the stack, clears full rows and updates the features.
+     * The shape must fit where it is placed.
+     *
+     * @param shape the rotation state
+     * @param x the column of the shape's left edge
+     * @param y the row of the shape's top edge
+     * @return the number of lines cleared
+     */
+    public int place(PieceShape shape, int x, int y) {
+        int top = y + shape.getMinY();
+        int bottom = y + shape.getMaxY();
+        int cleared = 0;
+        int eroded = 0;
+        for (int r = top; r <= bottom; r++) {
+            int piece = shift(shape.getRowMask(r - y), x);
+            cells[r] |= piece;
+            hash ^= Zobrist.row(r, piece);
+            if (cells[r] == fullRow) {
+                cleared++;
+                eroded += Integer.bitCount(piece);
+            }
+        }
+        landingHeight2 = 2 * rows - top - bottom;
+        linesCleared = cleared;
+        erodedCells = cleared * eroded;
+
+        if (cleared > 0) {
+            removeFullRows(bottom);
+            recount();
+            return cleared;
+        }
+
+        for (int r = top; r <= bottom; r++) {
+            countRow(r);
+        }
+        for (int i = top; i <= bottom + 1; i++) {
+            countColumnTransitions(i);
+        }
+        countHoles(top, bottom);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int c = x + shape.getCellX(i);
+            heights[c] = Math.max(heights[c], rows - y - shape.getCellY(i));
+        }
+        countHeights();
+        return 0;
+    }
+
+    /**
+     * Drops every full row at or above a row and moves the rows above them down.
+     */
+    private void removeFullRows(int bottom) {
+        int write = bottom;
+        for (int read = bottom; read >= 0; read--) {
+            if (cells[read] != fullRow) {
+                cells[write--] = cells[read];
+            }
+        }
+        Arrays.fill(cells, 0, write + 1, 0);
+    }
+
+    /**
+     * Counts every feature of the stack from the row masks.
+     */
+    private void recount() {
+        rowTransitionSum = 0;
+        hash = 0;
+        for (int r = 0; r < rows; r++) {
+            rowTransitions[r] = 0;
+            countRow(r);
+            hash ^= Zobrist.row(r, cells[r]);
+        }
+        columnTransitionSum = 0;
+        for (int i = 0; i <= rows; i++) {
+            columnTransitions[i] = 0;
+            countColumnTransitions(i);
+        }
+
+        holeSum = 0;
+        int seen = 0;
+        Arrays.fill(heights, 0);
+        for (int r = 0; r < rows; r++) {
+            covered[r] = seen;
+            holes[r] = Integer.bitCount(seen & ~cells[r]);
+            holeSum += holes[r];
+            // Columns whose first filled cell is in this row get their height here
+            for (int fresh = cells[r] & ~seen; fresh != 0; fresh &= fresh - 1) {
+                heights[Integer.numberOfTrailingZeros(fresh)] = rows - r;
+            }
+            seen |= cells[r];
+        }
+        countHeights();
+    }
+
+    /**
+     * Recounts the row transitions of one row.
+     */
+    private void countRow(int r) {
+        // Walls on both sides count as filled
+        int walled = (cells[r] << 1) | 1 | (1 << (columns + 1));
+        int count = Integer.bitCount((walled ^ (walled >>> 1)) & ((1 << (columns + 1)) - 1));
+        rowTransitionSum += count - rowTransitions[r];
+        rowTransitions[r] = count;
+    }
+
+    /**
+     * Recounts the column transitions between row i - 1 and row i.
+     */
+    private void countColumnTransitions(int i) {
+        int count;
+        if (i == 0) {
+            count = Integer.bitCount(cells[0]);
+        } else if (i == rows) {
+            count = Integer.bitCount(~cells[rows - 1] & fullRow);
+        } else {
+            count = Integer.bitCount(cells[i - 1] ^ cells[i]);
+        }
+        columnTransitionSum += count - columnTransitions[i];
+        columnTransitions[i] = count;
+    }
+
+    /**
+     * Recounts holes from the top row a brick touched, going down until the
+     * covered columns stop changing below the brick.
+     */
+    private void countHoles(int top, int bottom) {
+        int above = covered[top];
+        for (int r = top; r < rows; r++) {
+            if (r > bottom && above == covered[r]) {
+                return;
+            }
+            covered[r] = above;
+            int count = Integer.bitCount(above & ~cells[r]);
+            holeSum += count - holes[r];
+            holes[r] = count;
+            above |= cells[r];
+        }
+    }
+
+    /**
+     * Redoes the sums that depend on column heights.
+     */
+    private void countHeights() {
+        int sum = 0;
+        int bumps = 0;
+        int wells = 0;
+        for (int c = 0; c < columns; c++) {
+            int h = heights[c];
+            sum += h;
+            // The walls count as full-height columns
+            int left = c == 0 ? rows : heights[c - 1];
+            int right = c == columns - 1 ? rows : heights[c + 1];
+            if (c > 0) {
+                bumps += Math.abs(h - left);
+            }
+            int depth = Math.min(left, right) - h;
+            if (depth > 0) {
+                wells += depth * (depth + 1) / 2;
+            }
+        }
+        aggregateHeight = sum;
+        bumpiness = bumps;
+        wellSums = wells;
+    }
+
+    private static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /**
+     * Gets the value of a feature.
+     *
+     * @param feature the feature
+     * @return its value for the current stack and last placement
+     */
+    public double get(Feature feature) {
+        return switch (feature) {
+            case LANDING_HEIGHT -> getLandingHeight();
+            case ERODED_CELLS -> erodedCells;
+            case ROW_TRANSITIONS -> rowTransitionSum;
+            case COLUMN_TRANSITIONS -> columnTransitionSum;
+            case HOLES -> holeSum;
+            case WELL_SUMS -> wellSums;
+            case AGGREGATE_HEIGHT -> aggregateHeight;
+            case BUMPINESS -> bumpiness;
+            case LINES_CLEARED -> linesCleared;
+        };
+    }
+
+    /**
+     * Gets the height of the middle of the last placed brick.
+     *
+     * @return landing height in rows above the floor, 0 before any placement
+     */
+    public double getLandingHeight() {
+        return landingHeight2 * 0.5;
+    }
+
+    /**
+     * Gets the eroded cells of the last placement.
+     *
+     * @return lines cleared times the brick's cells in those lines
+     */
+    public int getErodedCells() {
+        return erodedCells;
+    }
+
+    /**
+     * Gets the total row transitions.
+     *
+     * @return row transitions
+     */
+    public int getRowTransitions() {
+        return rowTransitionSum;
+    }
+
+    /**
+     * Gets the total column transitions.
+     *
+     * @return column transitions
+     */
+    public int getColumnTransitions() {
+        return columnTransitionSum;
+    }
+
+    /**
+     * Gets the number of holes.
+     *
+     * @return covered empty cells
+     */
+    public int getHoles() {
+        return holeSum;
+    }
+
+    /**
+     * Gets the well sums.
+     *
+     * @return sum over open wells of 1 + 2 + ... + depth
+     */
+    public int getWellSums() {
+        return wellSums;
+    }
+
+    /**
+     * Gets the sum of the column heights.
+     *
+     * @return aggregate height
+     */
+    public int getAggregateHeight() {
+        return aggregateHeight;
+    }
+
+    /**
+     * Gets the sum of the height differences of neighbouring columns.
+     *
+     * @return bumpiness
+     */
+    public int getBumpiness() {
+        return bumpiness;
+    }
+
+    /**
+     * Gets the lines cleared by the last placement.
+     *
+     * @return lines cleared
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the height of a column.
+     *
+     * @param column the column
+     * @return rows from the floor to the top filled cell, 0 if empty
+     */
+    public int getHeight(int column) {
+        return heights[column];
+    }
+
+    /**
+     * Gets the Zobrist hash of the stack.
+     * Equal stacks have equal hashes; the last placement is not part of it.
+     *
+     * @return the XOR of {@link Zobrist#cell(int, int)} over the filled cells
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the filled columns of a row.
+     *
+     * @param row the row
+     * @return bitmask where bit c is set when column c is filled
+     */
+    public int getRow(int row) {
+        return cells[row];
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return board rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.service;
+
+/**
+ * Calculates the current level based on lines cleared, and how fast
+ * bricks fall at each level.
+ */
+public class LevelService {
+
+    /**
+     * One row per frame in the fixed-point units of {@link #gravityFor(int)}.
+     * A frame is 1/60 of a second, whatever rate the game actually ticks at.
+     */
+    public static final int GRAVITY_ONE = 1 << 16;
+
+    /** Gravity that drops a brick across the whole board in one frame */
+    public static final int GRAVITY_20G = 20 * GRAVITY_ONE;
+
+    /** First level that plays at 20G */
+    public static final int MAX_GRAVITY_LEVEL = 20;
+
+    // Gravity per level, index 0 is level 1
+    private static final int[] GRAVITY = buildGravityTable();
+
+    /**
+     * Determines the current level based on total lines cleared.
+     *
+     * @param totalLines the total number of lines cleared
+     * @param linesPerLevel how many lines are needed per level
+     * @return the current level number
+     */
+    public static int calculateLevel(int totalLines, int linesPerLevel) {
+        return 1 + (totalLines / linesPerLevel);
+    }
+
+    /**
+     * Gets the gravity for a level.
+     *
+     * @param level the level, starting at 1
+     * @return rows fallen per frame, in units of {@link #GRAVITY_ONE}
+     */
+    public static int gravityFor(int level) {
+        if (level >= MAX_GRAVITY_LEVEL) {
+            return GRAVITY_20G;
+        }
+        return GRAVITY[Math.max(level, 1) - 1];
+    }
+
+    /**
+     * Builds the gravity table.
+     * Early levels keep the original speeds of one row every 400 ms, a
+     * quarter faster per level. From level 8 the guideline curve is faster
+     * and takes over, reaching 20G at level 20.
+     *
+     * @return gravity per level from level 1 to {@link #MAX_GRAVITY_LEVEL}
+     */
+    private static int[] buildGravityTable() {
+        int[] table = new int[MAX_GRAVITY_LEVEL];
+        for (int level = 1; level <= MAX_GRAVITY_LEVEL; level++) {
+            // Rows per frame at 60 frames per second
+            double original = (1.0 + (level - 1) * 0.25) / 24.0;
+            double secondsPerRow = Math.pow(0.8 - (level - 1) * 0.007, level - 1);
+            double guideline = 1.0 / (60.0 * secondsPerRow);
+
+            double rows = Math.min(Math.max(original, guideline), 20.0);
+            table[level - 1] = (int) Math.round(rows * GRAVITY_ONE);
+        }
+        table[MAX_GRAVITY_LEVEL - 1] = GRAVITY_20G;
+        return table;
+    }
+}
@@ -0,0 +1,334 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.GameSession;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.PieceSequenceGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.Randomizer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Plays large batches of headless games in parallel.
+ * Games are split across a ForkJoinPool by index range. Each worker thread
+ * keeps one board, generator and policy and resets them between games, so
+ * the only per-game allocation is the result row. Game i always uses the
+ * brick seed {@code seedFor(baseSeed, i)}, so a batch gives the same results
+ * no matter how many threads run it.
+ */
+public class BatchRunner {
+
+    /** Header row of the CSV output. */
+    public static final String CSV_HEADER = "game,seed,score,lines,pieces";
+
+    // Ranges at or below this size are played on one thread
+    private static final int CHUNK_SIZE = 64;
+
+    private final int rows;
+    private final int columns;
+    private final int linesPerLevel;
+    private final int maxPieces;
+    private final Supplier<PlacementPolicy> policy;
+    private final LongFunction<PieceSequenceGenerator> randomizer;
+
+    /**
+     * Creates a batch runner.
+     *
+     * @param rows the board height in rows
+     * @param columns the board width in columns
+     * @param linesPerLevel how many lines are needed per level
+     * @param maxPieces the piece limit after which a game is stopped
+     * @param policy makes the placement policy, called once per worker thread
+     */
+    public BatchRunner(int rows, int columns, int linesPerLevel, int maxPieces, Supplier<PlacementPolicy> policy) {
+        this(rows, columns, linesPerLevel, maxPieces, policy, RandomBrickGenerator::new);
+    }
+
+    /**
+     * Creates a batch runner with a chosen randomizer.
+     *
+     * @param rows the board height in rows
+     * @param columns the board width in columns
+     * @param linesPerLevel how many lines are needed per level
+     * @param maxPieces the piece limit after which a game is stopped
+     * @param policy makes the placement policy, called once per worker thread
+     * @param randomizer creates a brick generator from a seed, called once per worker thread
+     */
+    public BatchRunner(int rows, int columns, int linesPerLevel, int maxPieces, Supplier<PlacementPolicy> policy,
+                       LongFunction<PieceSequenceGenerator> randomizer) {
+        this.randomizer = randomizer;
+        this.rows = rows;
+        this.columns = columns;
+        this.linesPerLevel = linesPerLevel;
+        this.maxPieces = maxPieces;
+        this.policy = policy;
+    }
+
+    /**
+     * Works out the brick seed of one game in a batch.
+     * Uses the SplitMix64 finalizer so neighbouring games get unrelated sequences.
+     *
+     * @param baseSeed the seed of the batch
+     * @param gameIndex the index of the game
+     * @return the seed for that game
+     */
+    public static long seedFor(long baseSeed, long gameIndex) {
+        long z = baseSeed + (gameIndex + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays a batch of games and writes one CSV row per game.
+     * Rows are written as each range of games finishes, so they are not in
+     * game order when more than one thread is used.
+     *
+     * @param games how many games to play
+     * @param baseSeed the seed of the batch
+     * @param threads how many worker threads to use
+     * @param out where to write the CSV rows, or null to only collect totals
+     * @return the totals of the batch
+     */
+    public Summary run(long games, long baseSeed, int threads, Writer out) {
+        Summary summary = new Summary();
+        long start = System.nanoTime();
+        ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new GameRange(0, games, baseSeed, workers, out, summary));
+        } finally {
+            pool.shutdown();
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    /**
+     * Plays a single game with a fresh board.
+     *
+     * @param gameIndex the index of the game
+     * @param baseSeed the seed of the batch
+     * @return the result of the game
+     */
+    public GameResult playOne(long gameIndex, long baseSeed) {
+        return new Worker().play(gameIndex, baseSeed);
+    }
+
+    /**
+     * The per-thread state reused for every game a worker plays.
+     */
+    private final class Worker {
+
+        private final PieceSequenceGenerator generator = randomizer.apply(0L);
+        private final GameSession session = new GameSession(new SimpleBoard(rows, columns, generator), linesPerLevel);
+        // Policies keep search state, so each worker has its own
+        private final PlacementPolicy policy = BatchRunner.this.policy.get();
+        private final StringBuilder csv = new StringBuilder();
+
+        GameResult play(long gameIndex, long baseSeed) {
+            long seed = seedFor(baseSeed, gameIndex);
+            generator.setSeed(seed);
+            return BotRunner.play(session, policy, gameIndex, seed, maxPieces);
+        }
+    }
+
+    /**
+     * Plays a range of game indices, splitting it while it is large.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private final class GameRange extends RecursiveAction {
+
+        private final long from;
+        private final long to;
+        private final long baseSeed;
+        private final ThreadLocal<Worker> workers;
+        private final Writer out;
+        private final Summary summary;
+
+        GameRange(long from, long to, long baseSeed, ThreadLocal<Worker> workers, Writer out, Summary summary) {
+            this.from = from;
+            this.to = to;
+            this.baseSeed = baseSeed;
+            this.workers = workers;
+            this.out = out;
+            this.summary = summary;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                long mid = (from + to) >>> 1;
+                invokeAll(new GameRange(from, mid, baseSeed, workers, out, summary),
+                        new GameRange(mid, to, baseSeed, workers, out, summary));
+                return;
+            }
+
+            Worker worker = workers.get();
+            StringBuilder csv = worker.csv;
+            csv.setLength(0);
+            long pieces = 0;
+            long lines = 0;
+            long score = 0;
+            for (long i = from; i < to; i++) {
+                GameResult result = worker.play(i, baseSeed);
+                pieces += result.getPieces();
+                lines += result.getLines();
+                score += result.getScore();
+                if (out != null) {
+                    csv.append(result.toCsv()).append('\n');
+                }
+            }
+            summary.games.addAndGet(to - from);
+            summary.pieces.addAndGet(pieces);
+            summary.lines.addAndGet(lines);
+            summary.score.addAndGet(score);
+
+            if (out != null) {
+                // One write per chunk keeps lock contention on the writer low
+                synchronized (out) {
+                    try {
+                        out.append(csv);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Totals and throughput of a finished batch.
+     */
+    public static final class Summary {
+
+        private final AtomicLong games = new AtomicLong();
+        private final AtomicLong pieces = new AtomicLong();
+        private final AtomicLong lines = new AtomicLong();
+        private final AtomicLong score = new AtomicLong();
+        private long elapsedNanos;
+
+        /**
+         * Gets the number of games played.
+         *
+         * @return games played
+         */
+        public long getGames() {
+            return games.get();
+        }
+
+        /**
+         * Gets the number of bricks locked over all games.
+         *
+         * @return pieces placed
+         */
+        public long getPieces() {
+            return pieces.get();
+        }
+
+        /**
+         * Gets the number of lines cleared over all games.
+         *
+         * @return lines cleared
+         */
+        public long getLines() {
+            return lines.get();
+        }
+
+        /**
+         * Gets the sum of the final scores of all games.
+         *
+         * @return total score
+         */
+        public long getScore() {
+            return score.get();
+        }
+
+        /**
+         * Gets the wall-clock time the batch took.
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Gets the number of games finished per second.
+         *
+         * @return games per second
+         */
+        public double getGamesPerSecond() {
+            return games.get() * 1e9 / Math.max(1, elapsedNanos);
+        }
+
+        /**
+         * Gets the number of bricks locked per second.
+         *
+         * @return pieces per second
+         */
+        public double getPiecesPerSecond() {
+            return pieces.get() * 1e9 / Math.max(1, elapsedNanos);
+        }
+    }
+
+    /**
+     * Runs a batch from the command line.
+     * Options: --games N, --seed S, --threads T, --out FILE, --policy NAME (see {@link Tournament#policy(String)}),
+     * --max-pieces N, --randomizer random|bag7|bag14|tgm. Without --out the CSV goes to standard output.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the output file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        long games = 1000;
+        long seed = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String outFile = null;
+        Supplier<PlacementPolicy> policy = Tournament.policy("lowest");
+        int maxPieces = 10_000;
+        LongFunction<PieceSequenceGenerator> randomizer = RandomBrickGenerator::new;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games" -> games = Long.parseLong(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--out" -> outFile = args[++i];
+                case "--policy" -> policy = Tournament.policy(args[++i]);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(args[++i]);
+                case "--randomizer" -> randomizer = Randomizer.byName(args[++i])::create;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        BatchRunner runner = new BatchRunner(BotRunner.ROWS, BotRunner.COLUMNS, BotRunner.LINES_PER_LEVEL, maxPieces, policy, randomizer);
+        Writer out = outFile == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Path.of(outFile), StandardCharsets.UTF_8);
+        Summary summary;
+        try (out) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+            summary = runner.run(games, seed, threads, out);
+        }
+
+        System.err.printf("%d games, %d pieces, %d lines in %.2f s on %d threads%n",
+                summary.getGames(), summary.getPieces(), summary.getLines(),
+                summary.getElapsedNanos() / 1e9, threads);
+        System.err.printf("%.0f games/s, %.0f pieces/s%n",
+                summary.getGamesPerSecond(), summary.getPiecesPerSecond());
+    }
+}
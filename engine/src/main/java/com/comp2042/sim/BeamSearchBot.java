@@ -0,0 +1,545 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.Zobrist;
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.service.BoardEvaluator;
+import com.comp2042.service.BoardFeatures;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays by searching several bricks ahead with a beam search.
+ * The current brick, the preview queue and the held brick make up the
+ * known sequence. Each level places the next brick of the sequence, or
+ * swaps it with the held one, in every reachable way on each position of
+ * the beam, and keeps the best {@code beamWidth} results by summed
+ * {@link BoardEvaluator} score. The move chosen is the first move of the
+ * best position at the deepest level finished.
+ *
+ * Each level's beam is split across a fork-join pool. The search stops
+ * early when every position left descends from the same first move, and
+ * a level still running when the time budget runs out is dropped. With no
+ * budget the chosen move does not depend on the number of threads. A bot
+ * searches for one board at a time.
+ *
+ * Positions are told apart by Zobrist hash of the stack, the held brick
+ * and the place in the sequence. When two ways of playing the same bricks
+ * reach one position, as a swap with hold and a different order often do,
+ * only the better scored copy stays in the beam. With a
+ * {@link TranspositionTable}, evaluations are cached across levels and
+ * moves: the next move's first levels are mostly this move's later ones.
+ */
+public class BeamSearchBot implements PlacementPolicy {
+
+    /** Default number of positions kept per level */
+    public static final int DEFAULT_BEAM_WIDTH = 64;
+
+    /** Default number of preview bricks the bot looks at, as many as the game shows */
+    public static final int DEFAULT_PREVIEWS = 3;
+
+    // Beam positions expanded by one task at the bottom of the split
+    private static final int NODES_PER_TASK = 4;
+
+    private static final int PLACE = 0;
+    private static final int SWAP = 1;
+
+    private final BoardEvaluator evaluator;
+    private final int beamWidth;
+    private final int previews;
+    private final long budgetNanos;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final ThreadLocal<Scratch> scratch;
+
+    private final Node root;
+    private Node[] beam;
+    private Node[] next;
+    private int beamSize;
+    private final PieceShape[][] sequence;
+    private int sequenceLength;
+    private boolean rootHoldAllowed;
+    private int startRotation;
+    private int startX;
+    private int startY;
+
+    // First moves of the search, which every beam position points back to
+    private final int[] moveOption;
+    private final int[] moveRotation;
+    private final int[] moveX;
+    private final int[] moveY;
+    private int moveCount;
+
+    // Open-addressed set of the positions in the beam being built
+    private final long[] seenKeys;
+    private final int[] seenSlots;
+
+    private long deadline;
+    private volatile boolean timedOut;
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private long transpositions;
+    private int lastDepth;
+
+    /**
+     * Creates a bot.
+     *
+     * @param rows the number of rows in the board matrix
+     * @param columns the number of columns in the board matrix
+     * @param evaluator scores positions
+     * @param beamWidth positions kept per level
+     * @param previews preview bricks to look at
+     * @param budgetNanos time allowed per move, or 0 for no limit
+     * @param pool the pool to split levels across, or null to search on the calling thread
+     */
+    public BeamSearchBot(int rows, int columns, BoardEvaluator evaluator, int beamWidth, int previews,
+                         long budgetNanos, ForkJoinPool pool) {
+        this(rows, columns, evaluator, beamWidth, previews, budgetNanos, pool, null);
+    }
+
+    /**
+     * Creates a bot that caches evaluations in a transposition table.
+     *
+     * @param rows the number of rows in the board matrix
+     * @param columns the number of columns in the board matrix
+     * @param evaluator scores positions
+     * @param beamWidth positions kept per level
+     * @param previews preview bricks to look at
+     * @param budgetNanos time allowed per move, or 0 for no limit
+     * @param pool the pool to split levels across, or null to search on the calling thread
+     * @param table the table the search threads share, or null to evaluate every position
+     */
+    public BeamSearchBot(int rows, int columns, BoardEvaluator evaluator, int beamWidth, int previews,
+                         long budgetNanos, ForkJoinPool pool, TranspositionTable table) {
+        this.evaluator = evaluator;
+        this.table = table;
+        this.beamWidth = beamWidth;
+        this.previews = previews;
+        this.budgetNanos = budgetNanos;
+        this.pool = pool;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(rows, columns));
+
+        root = new Node(rows, columns);
+        beam = new Node[beamWidth];
+        next = new Node[beamWidth];
+        for (int i = 0; i < beamWidth; i++) {
+            beam[i] = new Node(rows, columns);
+            next[i] = new Node(rows, columns);
+        }
+        sequence = new PieceShape[1 + previews][];
+
+        // Two options, each with at most one placement per state
+        int maxMoves = 2 * 4 * (rows + 3) * Integer.SIZE;
+        moveOption = new int[maxMoves];
+        moveRotation = new int[maxMoves];
+        moveX = new int[maxMoves];
+        moveY = new int[maxMoves];
+
+        int seenSize = Integer.highestOneBit(beamWidth * 4 - 1);
+        seenKeys = new long[seenSize];
+        seenSlots = new int[seenSize];
+    }
+
+    /**
+     * Searches for the best move of the board's falling brick.
+     *
+     * @param board the board, with its brick in play
+     * @return the move, or null if the brick cannot be placed anywhere
+     */
+    @Override
+    public Placement choose(Board board) {
+        deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        timedOut = false;
+        lastDepth = 0;
+        moveCount = 0;
+        if (table != null) {
+            table.newSearch();
+        }
+
+        sequenceLength = 0;
+        sequence[sequenceLength++] = board.getCurrentBrick().getRotations();
+        for (int i = 0; i < previews; i++) {
+            sequence[sequenceLength++] = board.peekBrick(i).getRotations();
+        }
+        Brick held = board.getHeldBrick();
+        root.features.load(board);
+        root.held = held == null ? null : held.getRotations();
+        root.nextIndex = 0;
+        root.score = 0;
+        rootHoldAllowed = !board.isHoldUsed();
+        startRotation = board.getCurrentRotation();
+        startX = board.getBrickX();
+        startY = board.getBrickY();
+
+        // The first level is one position, so it runs here
+        Candidates first = new Candidates(beamWidth);
+        expand(root, 0, true, scratch.get(), first);
+        if (first.size == 0) {
+            return null;
+        }
+        apply(first, true);
+
+        while (lastDepth < sequenceLength && !timedOut && !sameFirstMove()) {
+            Candidates level = pool == null
+                    ? expandRange(0, beamSize)
+                    : pool.invoke(new Expand(0, beamSize));
+            if (timedOut || level.size == 0) {
+                break;
+            }
+            apply(level, false);
+        }
+        return best();
+    }
+
+    /**
+     * Expands beam positions on the current thread, stopping if time runs out.
+     */
+    private Candidates expandRange(int from, int to) {
+        Scratch local = scratch.get();
+        Candidates out = new Candidates(beamWidth);
+        for (int i = from; i < to; i++) {
+            if (System.nanoTime() > deadline) {
+                timedOut = true;
+                break;
+            }
+            expand(beam[i], i, false, local, out);
+        }
+        return out;
+    }
+
+    /**
+     * Offers every child of one position: the next brick placed, and the
+     * brick swapped in from hold placed.
+     */
+    private void expand(Node node, int parent, boolean isRoot, Scratch local, Candidates out) {
+        if (node.nextIndex >= sequenceLength) {
+            return;
+        }
+        PieceShape[] piece = sequence[node.nextIndex];
+        if (isRoot) {
+            expandPiece(node, parent, PLACE, piece, startRotation, startX, startY, local, out);
+        } else {
+            expandPiece(node, parent, PLACE, piece, 0, SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y, local, out);
+        }
+
+        PieceShape[] swapped = swappedIn(node);
+        // Swapping a brick for an identical one gives the same positions again
+        if ((!isRoot || rootHoldAllowed) && swapped != null && !(node.held != null && swapped == piece)) {
+            expandPiece(node, parent, SWAP, swapped, 0, SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y, local, out);
+        }
+    }
+
+    private void expandPiece(Node node, int parent, int option, PieceShape[] piece,
+                             int rotation, int x, int y, Scratch local, Candidates out) {
+        PlacementEnumerator enumerator = local.enumerator;
+        BoardFeatures trial = local.trial;
+        enumerator.load(node.features);
+        int count = enumerator.enumerate(piece, rotation, x, y);
+        long stack = node.features.getHash();
+        // Later levels are worth more to the next move's search
+        int depth = lastDepth + 1;
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            int r = enumerator.getRotation(i);
+            int px = enumerator.getX(i);
+            int py = enumerator.getY(i);
+            // The stack and the brick's cells decide the result, landing height included
+            long key = stack ^ Zobrist.brick(piece[r], px, py);
+            double value = table == null ? Double.NaN : table.probe(key);
+            if (Double.isNaN(value)) {
+                trial.copyFrom(node.features);
+                trial.place(piece[r], px, py);
+                value = evaluator.evaluate(trial);
+                if (table != null) {
+                    table.store(key, value, depth);
+                }
+            } else {
+                hits++;
+            }
+            out.offer(node.score + value, parent, option, r, px, py);
+        }
+        evaluations.addAndGet(count);
+        if (hits > 0) {
+            cacheHits.addAndGet(hits);
+        }
+    }
+
+    /**
+     * Gets the brick a swap with hold would bring into play.
+     *
+     * @return its rotations, or null if the sequence runs out
+     */
+    private PieceShape[] swappedIn(Node node) {
+        if (node.held != null) {
+            return node.held;
+        }
+        // With nothing held, the brick after the current one comes into play
+        return node.nextIndex + 1 < sequenceLength ? sequence[node.nextIndex + 1] : null;
+    }
+
+    /**
+     * Builds the next beam from the kept candidates, keeping one copy of each position.
+     */
+    private void apply(Candidates kept, boolean fromRoot) {
+        Arrays.fill(seenSlots, -1);
+        int size = 0;
+        for (int k = 0; k < kept.size; k++) {
+            Node parent = fromRoot ? root : beam[kept.parent[k]];
+            Node child = next[size];
+            int option = kept.option[k];
+            PieceShape[] piece = option == PLACE ? sequence[parent.nextIndex] : swappedIn(parent);
+
+            child.features.copyFrom(parent.features);
+            child.features.place(piece[kept.rotation[k]], kept.x[k], kept.y[k]);
+            child.score = kept.score[k];
+            if (option == PLACE) {
+                child.held = parent.held;
+                child.nextIndex = parent.nextIndex + 1;
+            } else {
+                child.held = sequence[parent.nextIndex];
+                child.nextIndex = parent.nextIndex + (parent.held != null ? 1 : 2);
+            }
+
+            if (fromRoot) {
+                moveOption[moveCount] = option;
+                moveRotation[moveCount] = kept.rotation[k];
+                moveX[moveCount] = kept.x[k];
+                moveY[moveCount] = kept.y[k];
+                child.firstMove = moveCount++;
+            } else {
+                child.firstMove = parent.firstMove;
+            }
+
+            long key = child.features.getHash() ^ Zobrist.hold(child.held == null ? null : child.held[0])
+                    ^ Zobrist.queue(child.nextIndex);
+            int slot = findSeen(key, size);
+            if (slot == size) {
+                size++;
+                continue;
+            }
+            transpositions++;
+            // The better copy stays; on a tie, the one from the earlier first move
+            Node other = next[slot];
+            if (child.score > other.score || (child.score == other.score && child.firstMove < other.firstMove)) {
+                next[slot] = child;
+                next[size] = other;
+            }
+        }
+        Node[] swap = beam;
+        beam = next;
+        next = swap;
+        beamSize = size;
+        lastDepth++;
+    }
+
+    /**
+     * Finds a position in the beam being built, adding it if it is new.
+     *
+     * @return the slot of the copy already there, or {@code size} if it is new
+     */
+    private int findSeen(long key, int size) {
+        int mask = seenKeys.length - 1;
+        for (int i = (int) key & mask; ; i = (i + 1) & mask) {
+            if (seenSlots[i] < 0) {
+                seenKeys[i] = key;
+                seenSlots[i] = size;
+                return size;
+            }
+            if (seenKeys[i] == key) {
+                return seenSlots[i];
+            }
+        }
+    }
+
+    private boolean sameFirstMove() {
+        for (int i = 1; i < beamSize; i++) {
+            if (beam[i].firstMove != beam[0].firstMove) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Placement best() {
+        Node best = beam[0];
+        for (int i = 1; i < beamSize; i++) {
+            Node node = beam[i];
+            if (node.score > best.score || (node.score == best.score && node.firstMove < best.firstMove)) {
+                best = node;
+            }
+        }
+        int move = best.firstMove;
+        return new Placement(moveRotation[move], moveX[move], moveY[move], moveOption[move] == SWAP);
+    }
+
+    /**
+     * Gets the number of positions evaluated so far.
+     *
+     * @return evaluations over all searches
+     */
+    public long getEvaluations() {
+        return evaluations.get();
+    }
+
+    /**
+     * Gets the number of evaluations answered by the transposition table.
+     *
+     * @return cache hits over all searches
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Gets the number of positions dropped from a beam as a copy of another.
+     *
+     * @return transpositions over all searches
+     */
+    public long getTranspositions() {
+        return transpositions;
+    }
+
+    /**
+     * Gets how many bricks deep the last search got.
+     *
+     * @return levels finished in the last search
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * A position in the beam.
+     */
+    private static final class Node {
+        private final BoardFeatures features;
+        private PieceShape[] held;
+        // Index in the sequence of the next brick to come into play
+        private int nextIndex;
+        private double score;
+        private int firstMove;
+
+        Node(int rows, int columns) {
+            features = new BoardFeatures(rows, columns);
+        }
+    }
+
+    /**
+     * Per-thread search state.
+     */
+    private static final class Scratch {
+        private final PlacementEnumerator enumerator;
+        private final BoardFeatures trial;
+
+        Scratch(int rows, int columns) {
+            enumerator = new PlacementEnumerator(rows, columns);
+            trial = new BoardFeatures(rows, columns);
+        }
+    }
+
+    /**
+     * Expands a range of the beam, splitting it while it is large.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private final class Expand extends RecursiveTask<Candidates> {
+
+        private final int from;
+        private final int to;
+
+        Expand(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Candidates compute() {
+            if (to - from <= NODES_PER_TASK) {
+                return expandRange(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            Expand left = new Expand(from, mid);
+            left.fork();
+            Candidates right = new Expand(mid, to).compute();
+            Candidates merged = left.join();
+            merged.addAll(right);
+            return merged;
+        }
+    }
+
+    /**
+     * The best children found so far, kept in flat arrays.
+     * Ties in score are broken by the move itself, so the kept set does not
+     * depend on the order candidates arrive in.
+     */
+    private static final class Candidates {
+        private final double[] score;
+        private final int[] parent;
+        private final int[] option;
+        private final int[] rotation;
+        private final int[] x;
+        private final int[] y;
+        private int size = 0;
+        private int worst = -1;
+
+        Candidates(int capacity) {
+            score = new double[capacity];
+            parent = new int[capacity];
+            option = new int[capacity];
+            rotation = new int[capacity];
+            x = new int[capacity];
+            y = new int[capacity];
+        }
+
+        void offer(double s, int p, int o, int r, int px, int py) {
+            int slot;
+            if (size < score.length) {
+                slot = size++;
+            } else if (better(s, key(p, o, r, px, py), worst)) {
+                slot = worst;
+            } else {
+                return;
+            }
+            score[slot] = s;
+            parent[slot] = p;
+            option[slot] = o;
+            rotation[slot] = r;
+            x[slot] = px;
+            y[slot] = py;
+            if (size == score.length) {
+                findWorst();
+            }
+        }
+
+        void addAll(Candidates other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.score[i], other.parent[i], other.option[i], other.rotation[i], other.x[i], other.y[i]);
+            }
+        }
+
+        private void findWorst() {
+            worst = 0;
+            for (int i = 1; i < size; i++) {
+                if (better(score[worst], key(worst), i)) {
+                    worst = i;
+                }
+            }
+        }
+
+        private boolean better(double s, long k, int than) {
+            return s > score[than] || (s == score[than] && k < key(than));
+        }
+
+        private long key(int i) {
+            return key(parent[i], option[i], rotation[i], x[i], y[i]);
+        }
+
+        private static long key(int p, int o, int r, int px, int py) {
+            return ((((long) p * 2 + o) * 4 + r) * 64 + px + 8) * 64 + py + 8;
+        }
+    }
+}
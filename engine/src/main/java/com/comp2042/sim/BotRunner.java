@@ -0,0 +1,166 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.GameSession;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.PieceSequenceGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.Randomizer;
+import com.comp2042.service.BoardEvaluator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+
+/**
+ * Plays headless games with the beam search bot and measures its speed.
+ * Unlike {@link BatchRunner}, which runs many games side by side, each
+ * game here runs one search at a time and the threads split the search
+ * itself, so the numbers show how one bot scales with cores.
+ */
+public final class BotRunner {
+
+    /** Board height of the command line runners, hidden rows included. */
+    public static final int ROWS = 25;
+
+    /** Board width of the command line runners. */
+    public static final int COLUMNS = 10;
+
+    /** Lines per level of the command line runners. */
+    public static final int LINES_PER_LEVEL = 10;
+
+    private BotRunner() {
+    }
+
+    /**
+     * Plays one game with a bot on the standard board until it tops out or reaches a piece limit.
+     *
+     * @param bot the bot to play with
+     * @param generator the brick generator, which is reseeded
+     * @param seed the brick seed
+     * @param maxPieces the piece limit after which the game is stopped
+     * @return the result of the game
+     */
+    public static GameResult play(PlacementPolicy bot, PieceSequenceGenerator generator, long seed, int maxPieces) {
+        return play(bot, generator, ROWS, COLUMNS, LINES_PER_LEVEL, seed, maxPieces);
+    }
+
+    /**
+     * Plays one game with a bot on a new board until it tops out or reaches a piece limit.
+     *
+     * @param bot the bot to play with
+     * @param generator the brick generator, which is reseeded
+     * @param rows the board height in rows
+     * @param columns the board width in columns
+     * @param linesPerLevel how many lines are needed per level
+     * @param seed the brick seed
+     * @param maxPieces the piece limit after which the game is stopped
+     * @return the result of the game
+     */
+    public static GameResult play(PlacementPolicy bot, PieceSequenceGenerator generator,
+                                  int rows, int columns, int linesPerLevel, long seed, int maxPieces) {
+        generator.setSeed(seed);
+        GameSession session = new GameSession(new SimpleBoard(rows, columns, generator), linesPerLevel);
+        return play(session, bot, 0, seed, maxPieces);
+    }
+
+    /**
+     * Starts a new game on a session and lets a policy play it until it
+     * tops out or reaches a piece limit. The caller seeds the session's
+     * brick generator first, so a board can be reused between games.
+     *
+     * @param session the session to play on
+     * @param policy the policy to play with
+     * @param gameIndex the index of the game in its batch
+     * @param seed the brick seed, used to seed the policy and label the result
+     * @param maxPieces the piece limit after which the game is stopped
+     * @return the result of the game
+     */
+    public static GameResult play(GameSession session, PlacementPolicy policy, long gameIndex, long seed,
+                                  int maxPieces) {
+        policy.newGame(~seed);
+        session.newGame();
+        Board board = session.getBoard();
+        while (!session.isGameOver() && session.getPiecesPlaced() < maxPieces) {
+            apply(session, policy.choose(board));
+        }
+        return new GameResult(gameIndex, seed, board.getScore().getValue(),
+                session.getTotalLines(), session.getPiecesPlaced());
+    }
+
+    /**
+     * Locks the current brick where a policy chose, holding first if asked.
+     *
+     * @param session the session to play on
+     * @param placement the policy's choice, or null to hard drop where the brick is
+     * @return the rows the brick cleared
+     */
+    public static ClearRow apply(GameSession session, Placement placement) {
+        if (placement == null) {
+            return session.hardDrop();
+        }
+        if (placement.isHold()) {
+            session.hold();
+        }
+        return session.place(placement.getRotation(), placement.getX(), placement.getY());
+    }
+
+    /**
+     * Plays the same game once per thread count and prints a scaling table.
+     * Options: --threads 1,2,4 (1 searches on the calling thread), --width N,
+     * --previews N, --budget-ms N (0 for no limit), --pieces N, --seed S,
+     * --randomizer random|bag7|bag14|tgm, --table-mb N (0 for no transposition table).
+     *
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        String threadList = "1," + Runtime.getRuntime().availableProcessors();
+        int width = BeamSearchBot.DEFAULT_BEAM_WIDTH;
+        int previews = BeamSearchBot.DEFAULT_PREVIEWS;
+        long budgetMillis = 0;
+        int pieces = 1000;
+        long seed = 0;
+        int tableMegabytes = 2;
+        LongFunction<PieceSequenceGenerator> randomizer = RandomBrickGenerator::new;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--threads" -> threadList = args[++i];
+                case "--width" -> width = Integer.parseInt(args[++i]);
+                case "--previews" -> previews = Integer.parseInt(args[++i]);
+                case "--budget-ms" -> budgetMillis = Long.parseLong(args[++i]);
+                case "--pieces" -> pieces = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--randomizer" -> randomizer = Randomizer.byName(args[++i])::create;
+                case "--table-mb" -> tableMegabytes = Integer.parseInt(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        System.out.println("threads,pieces,lines,score,seconds,pieces_per_second,speedup,cache_hit_rate");
+        double baseline = 0;
+        for (String entry : threadList.split(",")) {
+            int threads = Integer.parseInt(entry.trim());
+            ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+            try {
+                TranspositionTable table = tableMegabytes > 0 ? TranspositionTable.ofMegabytes(tableMegabytes) : null;
+                BeamSearchBot bot = new BeamSearchBot(ROWS, COLUMNS, BoardEvaluator.elTetris(), width, previews,
+                        budgetMillis * 1_000_000L, pool, table);
+                long start = System.nanoTime();
+                GameResult result = play(bot, randomizer.apply(seed), seed, pieces);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                double rate = result.getPieces() / seconds;
+                if (baseline == 0) {
+                    baseline = rate;
+                }
+                System.out.printf("%d,%d,%d,%d,%.2f,%.0f,%.2f,%.3f%n", threads, result.getPieces(),
+                        result.getLines(), result.getScore(), seconds, rate, rate / baseline,
+                        (double) bot.getCacheHits() / Math.max(1, bot.getEvaluations()));
+            } finally {
+                if (pool != null) {
+                    pool.shutdown();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.sim;
+
+/**
+ * The outcome of one simulated game.
+ */
+public final class GameResult {
+
+    private final long gameIndex;
+    private final long seed;
+    private final int score;
+    private final int lines;
+    private final int pieces;
+
+    /**
+     * Creates a game result.
+     *
+     * @param gameIndex the index of the game in its batch
+     * @param seed the seed the brick sequence was generated from
+     * @param score the final score
+     * @param lines the number of lines cleared
+     * @param pieces the number of bricks locked
+     */
+    public GameResult(long gameIndex, long seed, int score, int lines, int pieces) {
+        this.gameIndex = gameIndex;
+        this.seed = seed;
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Gets the index of the game in its batch.
+     *
+     * @return the game index
+     */
+    public long getGameIndex() {
+        return gameIndex;
+    }
+
+    /**
+     * Gets the seed of the brick sequence.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of lines cleared.
+     *
+     * @return lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     *
+     * @return pieces placed
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Formats the result as one CSV row matching {@link BatchRunner#CSV_HEADER}.
+     *
+     * @return the CSV row without a line break
+     */
+    public String toCsv() {
+        return gameIndex + "," + seed + "," + score + "," + lines + "," + pieces;
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.MatrixOperations;
+import com.comp2042.model.bricks.PieceShape;
+
+/**
+ * Greedy policy that keeps the stack as low as possible.
+ * Tries every rotation and column, drops the brick straight down and picks
+ * the placement whose top ends lowest, breaking ties by the deepest bottom.
+ */
+public class LowestPlacementPolicy implements PlacementPolicy {
+
+    @Override
+    public Placement choose(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        int columns = matrix[0].length;
+        PieceShape[] rotations = board.getCurrentBrick().getRotations();
+
+        Placement best = null;
+        int bestTop = Integer.MIN_VALUE;
+        int bestBottom = Integer.MIN_VALUE;
+        for (int r = 0; r < rotations.length; r++) {
+            PieceShape shape = rotations[r];
+            int startY = -shape.getMinY();
+            for (int x = -shape.getMinX(); x + shape.getMaxX() < columns; x++) {
+                if (MatrixOperations.intersect(matrix, shape, x, startY)) {
+                    continue;
+                }
+                int y = startY;
+                while (!MatrixOperations.intersect(matrix, shape, x, y + 1)) {
+                    y++;
+                }
+                int top = y + shape.getMinY();
+                int bottom = y + shape.getMaxY();
+                if (top > bestTop || (top == bestTop && bottom > bestBottom)) {
+                    bestTop = top;
+                    bestBottom = bottom;
+                    best = new Placement(r, x, y);
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.sim;
+
+/**
+ * A final resting place for the falling brick.
+ * Holds the rotation index and the position the brick locks at, and
+ * whether to swap with the held brick first, in which case the position
+ * is for the brick that comes out of hold.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final boolean hold;
+
+    /**
+     * Creates a placement of the current brick.
+     *
+     * @param rotation the rotation index
+     * @param x the column offset of the brick
+     * @param y the row offset of the brick
+     */
+    public Placement(int rotation, int x, int y) {
+        this(rotation, x, y, false);
+    }
+
+    /**
+     * Creates a placement that may hold first.
+     *
+     * @param rotation the rotation index
+     * @param x the column offset of the brick
+     * @param y the row offset of the brick
+     * @param hold true to swap with the held brick before placing
+     */
+    public Placement(int rotation, int x, int y, boolean hold) {
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.hold = hold;
+    }
+
+    /**
+     * Gets the rotation index.
+     *
+     * @return the rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column offset.
+     *
+     * @return the x position
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row offset.
+     *
+     * @return the y position
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Checks whether the brick is swapped with the held brick first.
+     *
+     * @return true to hold before placing
+     */
+    public boolean isHold() {
+        return hold;
+    }
+}
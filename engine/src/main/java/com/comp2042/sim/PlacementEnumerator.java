@@ -0,0 +1,369 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.service.BoardFeatures;
+
+import java.util.Arrays;
+
+/**
+ * Finds every place the falling brick can come to rest.
+ * Searches the (rotation, x, y) states the brick can reach with the moves
+ * the game allows: left, right, one row down and rotating to the next
+ * state, as {@link com.comp2042.util.BrickRotator} does. Slides under
+ * overhangs and rotations deep in the stack are found along with plain
+ * drops. Rotations that cover the same cells, as a symmetric brick's can,
+ * are counted once.
+ *
+ * The visited states are a bitset with one int per rotation and row, bit
+ * x set when the brick has reached column x. No move goes up, so rows are
+ * settled top to bottom: a row is closed under sideways moves with a
+ * Kogge-Stone fill and under rotation, then carried one row down. This
+ * works on whole rows at a time, allocates nothing and takes a few
+ * microseconds on a 10-column board. An enumerator is used by one thread
+ * at a time.
+ */
+public class PlacementEnumerator {
+
+    /** Wall bits to the left of column 0; a 4x4 shape can hang 3 columns off the edge */
+    private static final int WALL = 3;
+
+    /** Widest board that still leaves room for the right wall inside an int */
+    public static final int MAX_COLUMNS = Integer.SIZE - 2 * WALL;
+
+    /** Most rotation states a brick can have */
+    private static final int MAX_ROTATIONS = 4;
+
+    private final int rows;
+    private final int columns;
+    private final int emptyRow;
+    // Bit x + WALL is a column a brick's left edge can be at
+    private final int columnMask;
+    private final int[] occupancy;
+    // Indexed [rotation][y + WALL]; bit x + WALL set where the brick fits or was reached
+    private final int[][] fits;
+    private final int[][] reached;
+    private final long[] landed;
+
+    // Rotations that cover the same cells as an earlier one, and the offset between them
+    private final int[] canonical = new int[MAX_ROTATIONS];
+    private final int[] shiftX = new int[MAX_ROTATIONS];
+    private final int[] shiftY = new int[MAX_ROTATIONS];
+
+    private final int[] placementRotation;
+    private final int[] placementX;
+    private final int[] placementY;
+    private int count = 0;
+    private int states = 0;
+
+    /**
+     * Creates an enumerator for boards of one size.
+     *
+     * @param rows the number of rows in the board matrix
+     * @param columns the number of columns in the board matrix
+     * @throws IllegalArgumentException if the board is too wide to fit a row mask
+     */
+    public PlacementEnumerator(int rows, int columns) {
+        if (columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("PlacementEnumerator supports at most " + MAX_COLUMNS + " columns");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.emptyRow = ~(((1 << columns) - 1) << WALL);
+        this.columnMask = (1 << (columns + WALL)) - 1;
+        this.occupancy = new int[rows];
+        this.fits = new int[MAX_ROTATIONS][rows + WALL];
+        this.reached = new int[MAX_ROTATIONS][rows + WALL];
+
+        int maxStates = MAX_ROTATIONS * (rows + WALL) * Integer.SIZE;
+        landed = new long[maxStates >>> 6];
+        placementRotation = new int[maxStates];
+        placementX = new int[maxStates];
+        placementY = new int[maxStates];
+    }
+
+    /**
+     * Finds every resting place of the board's falling brick from where it is now.
+     *
+     * @param board the board, with its brick in play
+     * @return the number of placements found
+     */
+    public int enumerate(Board board) {
+        load(board.getBoardMatrix());
+        return enumerate(board.getCurrentBrick().getRotations(), board.getCurrentRotation(),
+                board.getBrickX(), board.getBrickY());
+    }
+
+    /**
+     * Loads the stack to search from a board matrix.
+     *
+     * @param matrix the board matrix, indexed by [row][column]; non-zero cells are filled
+     */
+    public void load(int[][] matrix) {
+        for (int r = 0; r < rows; r++) {
+            int mask = emptyRow;
+            int[] row = matrix[r];
+            for (int c = 0; c < columns; c++) {
+                if (row[c] != 0) {
+                    mask |= 1 << (c + WALL);
+                }
+            }
+            occupancy[r] = mask;
+        }
+    }
+
+    /**
+     * Loads the stack to search from tracked board features.
+     *
+     * @param features the stack, of the same size as this enumerator
+     */
+    public void load(BoardFeatures features) {
+        for (int r = 0; r < rows; r++) {
+            occupancy[r] = emptyRow | (features.getRow(r) << WALL);
+        }
+    }
+
+    /**
+     * Finds every resting place of a brick on the loaded stack.
+     *
+     * @param rotations the brick's rotation states, in rotation order
+     * @param rotation the rotation the brick starts in
+     * @param x the column the brick starts at
+     * @param y the row the brick starts at
+     * @return the number of placements found, 0 if the start is blocked
+     */
+    public int enumerate(PieceShape[] rotations, int rotation, int x, int y) {
+        int rotationCount = rotations.length;
+        findSymmetries(rotations);
+        count = 0;
+        states = 0;
+        if (x < -WALL || x >= columns || y < -WALL || y >= rows) {
+            return 0;
+        }
+
+        int startRow = y + WALL;
+        int rowCount = rows + WALL;
+        for (int r = 0; r < rotationCount; r++) {
+            for (int row = startRow; row < rowCount; row++) {
+                fits[r][row] = fitMask(rotations[r], row - WALL);
+                reached[r][row] = 0;
+            }
+        }
+        reached[rotation][startRow] = fits[rotation][startRow] & (1 << (x + WALL));
+        Arrays.fill(landed, 0L);
+
+        for (int row = startRow; row < rowCount; row++) {
+            closeRow(rotationCount, row);
+            boolean last = row + 1 == rowCount;
+            for (int r = 0; r < rotationCount; r++) {
+                int here = reached[r][row];
+                states += Integer.bitCount(here);
+                int below = last ? 0 : fits[r][row + 1];
+                if (!last) {
+                    reached[r][row + 1] = here & below;
+                }
+                // Reached columns where the brick cannot move down are resting places
+                for (int rest = here & ~below; rest != 0; rest &= rest - 1) {
+                    addLanding(r, Integer.numberOfTrailingZeros(rest) - WALL, row - WALL);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds every state of a row reachable by sideways moves and rotations
+     * from the states already reached in it.
+     */
+    private void closeRow(int rotationCount, int row) {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int r = 0; r < rotationCount; r++) {
+                int fit = fits[r][row];
+                int spread = fill(reached[r][row], fit);
+                reached[r][row] = spread;
+                int next = r + 1 == rotationCount ? 0 : r + 1;
+                int rotated = spread & fits[next][row] & ~reached[next][row];
+                if (rotated != 0) {
+                    reached[next][row] |= rotated;
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Spreads reached columns left and right through columns where the brick fits.
+     * A Kogge-Stone fill in each direction takes five steps for any width.
+     *
+     * @param seeds reached columns, all inside fit
+     * @param fit columns where the brick fits
+     * @return every column connected to a seed
+     */
+    private static int fill(int seeds, int fit) {
+        int up = seeds;
+        int open = fit;
+        up |= open & (up << 1);
+        open &= open << 1;
+        up |= open & (up << 2);
+        open &= open << 2;
+        up |= open & (up << 4);
+        open &= open << 4;
+        up |= open & (up << 8);
+        open &= open << 8;
+        up |= open & (up << 16);
+
+        int down = seeds;
+        open = fit;
+        down |= open & (down >>> 1);
+        open &= open >>> 1;
+        down |= open & (down >>> 2);
+        open &= open >>> 2;
+        down |= open & (down >>> 4);
+        open &= open >>> 4;
+        down |= open & (down >>> 8);
+        open &= open >>> 8;
+        down |= open & (down >>> 16);
+        return up | down;
+    }
+
+    /**
+     * Works out every column a shape fits at in one row.
+     * Each filled bit of a shape row rules out the columns that would put it
+     * on a filled cell, so a whole row of positions costs a few shifts.
+     *
+     * @param shape the rotation state
+     * @param y the row of the shape's top edge
+     * @return bit x + WALL set where the shape fits with its left edge at x
+     */
+    private int fitMask(PieceShape shape, int y) {
+        int blocked = 0;
+        for (int r = 0; r < shape.getRowCount(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int targetY = y + r;
+            if (targetY < 0 || targetY >= rows) {
+                return 0;
+            }
+            int filled = occupancy[targetY];
+            for (; mask != 0; mask &= mask - 1) {
+                blocked |= filled >>> Integer.numberOfTrailingZeros(mask);
+            }
+        }
+        return ~blocked & columnMask;
+    }
+
+    /**
+     * Records a resting place unless a symmetric rotation already covered the same cells.
+     */
+    private void addLanding(int rotation, int x, int y) {
+        int key = ((canonical[rotation] * (rows + WALL) + y + shiftY[rotation] + WALL) << 5)
+                + x + shiftX[rotation] + WALL;
+        long bit = 1L << key;
+        if ((landed[key >>> 6] & bit) != 0) {
+            return;
+        }
+        landed[key >>> 6] |= bit;
+        placementRotation[count] = rotation;
+        placementX[count] = x;
+        placementY[count] = y;
+        count++;
+    }
+
+    /**
+     * Maps every rotation to the first rotation with the same cells,
+     * with the offset that lines the two up.
+     */
+    private void findSymmetries(PieceShape[] rotations) {
+        for (int r = 0; r < rotations.length; r++) {
+            canonical[r] = r;
+            shiftX[r] = 0;
+            shiftY[r] = 0;
+            for (int s = 0; s < r; s++) {
+                if (sameCells(rotations[s], rotations[r])) {
+                    canonical[r] = s;
+                    shiftX[r] = rotations[r].getMinX() - rotations[s].getMinX();
+                    shiftY[r] = rotations[r].getMinY() - rotations[s].getMinY();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether two shapes cover the same cells once moved to their top-left corners.
+     */
+    private static boolean sameCells(PieceShape a, PieceShape b) {
+        if (a.getCellCount() != b.getCellCount()
+                || a.getMaxY() - a.getMinY() != b.getMaxY() - b.getMinY()) {
+            return false;
+        }
+        for (int i = 0; i <= a.getMaxY() - a.getMinY(); i++) {
+            if (a.getRowMask(a.getMinY() + i) >>> a.getMinX() != b.getRowMask(b.getMinY() + i) >>> b.getMinX()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of placements the last search found.
+     *
+     * @return placement count
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of states the last search reached, a measure of its work.
+     *
+     * @return reachable states, placements included
+     */
+    public int getStatesVisited() {
+        return states;
+    }
+
+    /**
+     * Gets the rotation of a placement.
+     *
+     * @param i the placement index, below {@link #getCount()}
+     * @return the rotation index
+     */
+    public int getRotation(int i) {
+        return placementRotation[i];
+    }
+
+    /**
+     * Gets the column of a placement.
+     *
+     * @param i the placement index, below {@link #getCount()}
+     * @return the x position
+     */
+    public int getX(int i) {
+        return placementX[i];
+    }
+
+    /**
+     * Gets the resting row of a placement.
+     *
+     * @param i the placement index, below {@link #getCount()}
+     * @return the y position
+     */
+    public int getY(int i) {
+        return placementY[i];
+    }
+
+    /**
+     * Gets a placement as an object, for callers that keep it.
+     *
+     * @param i the placement index, below {@link #getCount()}
+     * @return the placement
+     */
+    public Placement getPlacement(int i) {
+        return new Placement(placementRotation[i], placementX[i], placementY[i]);
+    }
+}
@@ -0,0 +1,27 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+
+/**
+ * Decides where the falling brick should lock.
+ * Policies are used by one thread at a time, so they may keep scratch state.
+ */
+public interface PlacementPolicy {
+
+    /**
+     * Chooses a placement for the current brick.
+     *
+     * @param board the board with the brick to place
+     * @return the chosen placement, or null to hard-drop the brick where it is
+     */
+    Placement choose(Board board);
+
+    /**
+     * Tells the policy a new game is starting.
+     * Policies that make random choices reseed here, so a game played
+     * again from the same seeds makes the same choices.
+     *
+     * @param seed a seed for the policy's own choices
+     */
+    default void newGame(long seed) { }
+}
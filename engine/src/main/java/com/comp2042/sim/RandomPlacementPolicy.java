@@ -0,0 +1,60 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.MatrixOperations;
+import com.comp2042.model.bricks.PieceShape;
+
+import java.util.SplittableRandom;
+
+/**
+ * Policy that drops each brick in a random rotation and column.
+ * Useful as a cheap baseline and for stress-testing the rules.
+ */
+public class RandomPlacementPolicy implements PlacementPolicy {
+
+    private SplittableRandom random;
+
+    /**
+     * Creates a random policy.
+     *
+     * @param seed the seed for the choices
+     */
+    public RandomPlacementPolicy(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Restarts the choices from a new seed.
+     *
+     * @param seed the seed for the choices
+     */
+    public void setSeed(long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void newGame(long seed) {
+        setSeed(seed);
+    }
+
+    @Override
+    public Placement choose(Board board) {
+        int[][] matrix = board.getBoardMatrix();
+        int columns = matrix[0].length;
+        PieceShape[] rotations = board.getCurrentBrick().getRotations();
+
+        int r = random.nextInt(rotations.length);
+        PieceShape shape = rotations[r];
+        int minX = -shape.getMinX();
+        int maxX = columns - 1 - shape.getMaxX();
+        int x = minX + random.nextInt(maxX - minX + 1);
+        int y = -shape.getMinY();
+        if (MatrixOperations.intersect(matrix, shape, x, y)) {
+            return null;
+        }
+        while (!MatrixOperations.intersect(matrix, shape, x, y + 1)) {
+            y++;
+        }
+        return new Placement(r, x, y);
+    }
+}
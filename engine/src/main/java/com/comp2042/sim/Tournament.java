@@ -0,0 +1,406 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.bricks.PieceSequenceGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.model.bricks.Randomizer;
+import com.comp2042.service.BoardEvaluator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Plays bot policies against each other and rates them.
+ * In a match, both bots play a game from the same seed, so both get the
+ * same brick sequence and luck cancels out. The bot that clears more lines
+ * wins; on equal lines the one that lasted longer wins, and otherwise it
+ * is a draw. Every pair of entrants meets once per round.
+ *
+ * Each match runs on its own virtual thread. Policies keep search state,
+ * so every match makes new ones from the entrants' factories. Ratings are
+ * Elo, updated in schedule order once all matches are in, so a tournament
+ * gives the same table however its matches were interleaved.
+ */
+public class Tournament {
+
+    /** Header row of the match CSV. */
+    public static final String CSV_HEADER = "round,first,second,seed,first_lines,second_lines,first_pieces,second_pieces,outcome";
+
+    /** Rating every entrant starts at */
+    public static final double INITIAL_RATING = 1500;
+
+    /** Largest rating change one match can make */
+    public static final double K_FACTOR = 16;
+
+    private final int maxPieces;
+    private final LongFunction<PieceSequenceGenerator> randomizer;
+    private final List<String> names = new ArrayList<>();
+    private final List<Supplier<PlacementPolicy>> factories = new ArrayList<>();
+
+    private double[] ratings = new double[0];
+    private int[] wins = new int[0];
+    private int[] draws = new int[0];
+    private int[] losses = new int[0];
+    private long[] lines = new long[0];
+    private int[] games = new int[0];
+
+    /**
+     * Creates a tournament with no entrants.
+     *
+     * @param maxPieces the piece limit after which a game is stopped
+     * @param randomizer creates a brick generator from a seed
+     */
+    public Tournament(int maxPieces, LongFunction<PieceSequenceGenerator> randomizer) {
+        this.maxPieces = maxPieces;
+        this.randomizer = randomizer;
+    }
+
+    /**
+     * Adds an entrant.
+     *
+     * @param name the name shown in the table
+     * @param factory makes a fresh policy for each match
+     * @return the entrant's index
+     */
+    public int addEntrant(String name, Supplier<PlacementPolicy> factory) {
+        names.add(name);
+        factories.add(factory);
+        return names.size() - 1;
+    }
+
+    /**
+     * Makes an entrant factory from its name.
+     * Knows {@code lowest}, {@code random}, {@code greedy} (El-Tetris, one
+     * brick deep), {@code beam} (El-Tetris beam search with the preview)
+     * and {@code weights:w1;w2;...}, a greedy bot with tuned weights.
+     *
+     * @param spec the name
+     * @return the factory
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Supplier<PlacementPolicy> policy(String spec) {
+        if (spec.startsWith("weights:")) {
+            double[] weights = Arrays.stream(spec.substring("weights:".length()).split(";"))
+                    .mapToDouble(Double::parseDouble).toArray();
+            BoardEvaluator evaluator = new BoardEvaluator(weights);
+            return () -> new BeamSearchBot(BotRunner.ROWS, BotRunner.COLUMNS, evaluator, 1, 0, 0, null);
+        }
+        return switch (spec) {
+            case "lowest" -> LowestPlacementPolicy::new;
+            case "random" -> () -> new RandomPlacementPolicy(0L);
+            case "greedy" -> () -> new BeamSearchBot(BotRunner.ROWS, BotRunner.COLUMNS, BoardEvaluator.elTetris(), 1, 0, 0, null);
+            case "beam" -> () -> new BeamSearchBot(BotRunner.ROWS, BotRunner.COLUMNS, BoardEvaluator.elTetris(), 8,
+                    BeamSearchBot.DEFAULT_PREVIEWS, 0, null);
+            default -> throw new IllegalArgumentException("Unknown policy: " + spec);
+        };
+    }
+
+    /**
+     * Plays every pair of entrants once per round and rates the results.
+     * Ratings and records carry over from earlier runs.
+     *
+     * @param rounds how many times each pair meets
+     * @param seed the seed of the tournament; match i uses {@code BatchRunner.seedFor(seed, i)}
+     * @return the matches in schedule order
+     * @throws IllegalStateException if a match fails
+     */
+    public List<Match> run(int rounds, long seed) {
+        grow();
+        int entrants = names.size();
+        List<Future<Match>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long index = 0;
+            for (int round = 0; round < rounds; round++) {
+                for (int a = 0; a < entrants; a++) {
+                    for (int b = a + 1; b < entrants; b++) {
+                        long matchSeed = BatchRunner.seedFor(seed, index++);
+                        int r = round;
+                        int first = a;
+                        int second = b;
+                        futures.add(executor.submit(() -> play(r, first, second, matchSeed)));
+                    }
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(futures.size());
+            for (Future<Match> future : futures) {
+                matches.add(future.get());
+            }
+            for (Match match : matches) {
+                record(match);
+            }
+            return matches;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A match failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for matches", e);
+        }
+    }
+
+    /**
+     * Plays one match: both entrants get the same brick sequence.
+     */
+    private Match play(int round, int first, int second, long seed) {
+        GameResult a = BotRunner.play(factories.get(first).get(), randomizer.apply(seed), seed, maxPieces);
+        GameResult b = BotRunner.play(factories.get(second).get(), randomizer.apply(seed), seed, maxPieces);
+        return new Match(round, first, second, seed, a, b);
+    }
+
+    /**
+     * Updates the records and Elo ratings with one match.
+     */
+    private void record(Match match) {
+        int a = match.getFirst();
+        int b = match.getSecond();
+        double outcome = match.getOutcome();
+        double expected = 1 / (1 + Math.pow(10, (ratings[b] - ratings[a]) / 400));
+        double change = K_FACTOR * (outcome - expected);
+        ratings[a] += change;
+        ratings[b] -= change;
+
+        if (outcome == 1) {
+            wins[a]++;
+            losses[b]++;
+        } else if (outcome == 0) {
+            losses[a]++;
+            wins[b]++;
+        } else {
+            draws[a]++;
+            draws[b]++;
+        }
+        lines[a] += match.getFirstResult().getLines();
+        lines[b] += match.getSecondResult().getLines();
+        games[a]++;
+        games[b]++;
+    }
+
+    /**
+     * Makes room in the records for entrants added since the last run.
+     */
+    private void grow() {
+        int from = ratings.length;
+        int to = names.size();
+        ratings = Arrays.copyOf(ratings, to);
+        Arrays.fill(ratings, from, to, INITIAL_RATING);
+        wins = Arrays.copyOf(wins, to);
+        draws = Arrays.copyOf(draws, to);
+        losses = Arrays.copyOf(losses, to);
+        lines = Arrays.copyOf(lines, to);
+        games = Arrays.copyOf(games, to);
+    }
+
+    /**
+     * Gets the number of entrants.
+     *
+     * @return entrants added
+     */
+    public int getEntrantCount() {
+        return names.size();
+    }
+
+    /**
+     * Gets an entrant's name.
+     *
+     * @param entrant the entrant's index
+     * @return its name
+     */
+    public String getName(int entrant) {
+        return names.get(entrant);
+    }
+
+    /**
+     * Gets an entrant's Elo rating.
+     *
+     * @param entrant the entrant's index
+     * @return its rating, {@link #INITIAL_RATING} before it has played
+     */
+    public double getRating(int entrant) {
+        return entrant < ratings.length ? ratings[entrant] : INITIAL_RATING;
+    }
+
+    /**
+     * Formats the entrants as a table, best rated first.
+     *
+     * @return one line per entrant with rating, wins, draws, losses and mean lines
+     */
+    public String standings() {
+        grow();
+        Integer[] order = new Integer[names.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> Double.compare(ratings[y], ratings[x]));
+
+        StringBuilder sb = new StringBuilder(String.format("%-4s %-16s %7s %6s %6s %6s %10s%n",
+                "rank", "entrant", "elo", "won", "drawn", "lost", "mean_lines"));
+        for (int rank = 0; rank < order.length; rank++) {
+            int i = order[rank];
+            sb.append(String.format("%-4d %-16s %7.0f %6d %6d %6d %10.1f%n", rank + 1, names.get(i), ratings[i],
+                    wins[i], draws[i], losses[i], (double) lines[i] / Math.max(1, games[i])));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The result of one match.
+     */
+    public static final class Match {
+
+        private final int round;
+        private final int first;
+        private final int second;
+        private final long seed;
+        private final GameResult firstResult;
+        private final GameResult secondResult;
+
+        Match(int round, int first, int second, long seed, GameResult firstResult, GameResult secondResult) {
+            this.round = round;
+            this.first = first;
+            this.second = second;
+            this.seed = seed;
+            this.firstResult = firstResult;
+            this.secondResult = secondResult;
+        }
+
+        /**
+         * Gets the round the match was played in.
+         *
+         * @return the round, from 0
+         */
+        public int getRound() {
+            return round;
+        }
+
+        /**
+         * Gets the first entrant.
+         *
+         * @return its index
+         */
+        public int getFirst() {
+            return first;
+        }
+
+        /**
+         * Gets the second entrant.
+         *
+         * @return its index
+         */
+        public int getSecond() {
+            return second;
+        }
+
+        /**
+         * Gets the seed both games were played from.
+         *
+         * @return the brick seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Gets the first entrant's game.
+         *
+         * @return its result
+         */
+        public GameResult getFirstResult() {
+            return firstResult;
+        }
+
+        /**
+         * Gets the second entrant's game.
+         *
+         * @return its result
+         */
+        public GameResult getSecondResult() {
+            return secondResult;
+        }
+
+        /**
+         * Gets the result for the first entrant.
+         *
+         * @return 1 for a win, 0.5 for a draw, 0 for a loss
+         */
+        public double getOutcome() {
+            int byLines = Integer.compare(firstResult.getLines(), secondResult.getLines());
+            int result = byLines != 0 ? byLines : Integer.compare(firstResult.getPieces(), secondResult.getPieces());
+            return result > 0 ? 1 : result < 0 ? 0 : 0.5;
+        }
+
+        /**
+         * Formats the match as a CSV row.
+         *
+         * @param names the entrant names
+         * @return the CSV row, without a line break
+         */
+        public String toCsv(List<String> names) {
+            return round + "," + names.get(first) + "," + names.get(second) + "," + seed + ","
+                    + firstResult.getLines() + "," + secondResult.getLines() + ","
+                    + firstResult.getPieces() + "," + secondResult.getPieces() + "," + getOutcome();
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the standings.
+     * Options: --entrants lowest,greedy,beam,... (see {@link #policy(String)}),
+     * --rounds N, --max-pieces N, --seed S, --out FILE (match CSV),
+     * --randomizer random|bag7|bag14|tgm.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the match file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        String entrants = "random,lowest,greedy,beam";
+        int rounds = 100;
+        int maxPieces = 200;
+        long seed = 0;
+        String outFile = null;
+        LongFunction<PieceSequenceGenerator> randomizer = RandomBrickGenerator::new;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--entrants" -> entrants = args[++i];
+                case "--rounds" -> rounds = Integer.parseInt(args[++i]);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--out" -> outFile = args[++i];
+                case "--randomizer" -> randomizer = Randomizer.byName(args[++i])::create;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Tournament tournament = new Tournament(maxPieces, randomizer);
+        for (String spec : entrants.split(",")) {
+            tournament.addEntrant(spec, policy(spec));
+        }
+        long start = System.nanoTime();
+        List<Match> matches = tournament.run(rounds, seed);
+        double minutes = (System.nanoTime() - start) / 60e9;
+
+        if (outFile != null) {
+            try (Writer out = Files.newBufferedWriter(Path.of(outFile), StandardCharsets.UTF_8)) {
+                out.write(CSV_HEADER);
+                out.write('\n');
+                for (Match match : matches) {
+                    out.write(match.toCsv(tournament.names));
+                    out.write('\n');
+                }
+            }
+        }
+        System.out.print(tournament.standings());
+        System.err.printf("%d matches in %.2f s, %.0f matches/minute%n",
+                matches.size(), minutes * 60, matches.size() / Math.max(minutes, 1e-9));
+    }
+}
@@ -0,0 +1,148 @@
+package com.comp2042.sim;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A fixed-size table of search results keyed by Zobrist hash, kept off the heap.
+ * The table is one direct buffer of 64-byte buckets, each holding two
+ * 32-byte entries of a check word, a value and a depth/age word. Nothing
+ * is allocated after construction, so a large table adds nothing for the
+ * garbage collector to trace.
+ *
+ * Search threads read and write it without locks. The check word is the
+ * key XORed with the other two words, and each word is written atomically,
+ * so an entry torn by two threads writing at once no longer matches its
+ * key and reads as a miss. A new entry replaces one from an older search
+ * first, then the shallower of the two.
+ */
+public final class TranspositionTable {
+
+    /** Bytes one entry takes */
+    public static final int ENTRY_BYTES = 32;
+
+    private static final int BUCKET_BYTES = 64;
+    private static final int MAX_DEPTH = 0xFFFF;
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer buffer;
+    private final int bucketMask;
+    // Stamped on every entry; 0 marks an entry never written
+    private int age = 1;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param entries the number of entries, rounded down to a power of two
+     * @throws IllegalArgumentException if that is fewer than two entries or more than a buffer holds
+     */
+    public TranspositionTable(int entries) {
+        if (entries < 2 || entries > Integer.MAX_VALUE / ENTRY_BYTES) {
+            throw new IllegalArgumentException("Entries out of range: " + entries);
+        }
+        int buckets = Integer.highestOneBit(entries) / 2;
+        bucketMask = buckets - 1;
+        // One bucket per cache line
+        buffer = ByteBuffer.allocateDirect(buckets * BUCKET_BYTES + BUCKET_BYTES)
+                .alignedSlice(BUCKET_BYTES)
+                .order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Creates an empty table of about a given size.
+     *
+     * @param megabytes the size of the table
+     * @return the table
+     */
+    public static TranspositionTable ofMegabytes(int megabytes) {
+        return new TranspositionTable((int) Math.min((long) megabytes * (1 << 20) / ENTRY_BYTES,
+                Integer.MAX_VALUE / ENTRY_BYTES));
+    }
+
+    /**
+     * Looks up the value stored for a key.
+     *
+     * @param key the Zobrist hash
+     * @return the value, or NaN if the key is not in the table
+     */
+    public double probe(long key) {
+        int bucket = ((int) key & bucketMask) * BUCKET_BYTES;
+        for (int offset = bucket; offset < bucket + BUCKET_BYTES; offset += ENTRY_BYTES) {
+            long check = (long) LONGS.getAcquire(buffer, offset);
+            long value = (long) LONGS.getOpaque(buffer, offset + 8);
+            long meta = (long) LONGS.getOpaque(buffer, offset + 16);
+            if ((check ^ value ^ meta) == key && meta != 0) {
+                return Double.longBitsToDouble(value);
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the value of a key, replacing an entry from an older search
+     * or else the shallower entry of its bucket.
+     *
+     * @param key the Zobrist hash
+     * @param value the value, not NaN
+     * @param depth how much search went into the value; deeper entries are kept longer
+     */
+    public void store(long key, double value, int depth) {
+        int bucket = ((int) key & bucketMask) * BUCKET_BYTES;
+        int victim = -1;
+        int victimPriority = Integer.MAX_VALUE;
+        for (int offset = bucket; offset < bucket + BUCKET_BYTES; offset += ENTRY_BYTES) {
+            long check = (long) LONGS.getOpaque(buffer, offset);
+            long stored = (long) LONGS.getOpaque(buffer, offset + 8);
+            long meta = (long) LONGS.getOpaque(buffer, offset + 16);
+            if ((check ^ stored ^ meta) == key) {
+                victim = offset;
+                break;
+            }
+            // Entries from older searches go first, then the shallowest
+            int priority = (int) (meta >>> 16) == age ? 1 + (int) (meta & MAX_DEPTH) : 0;
+            if (priority < victimPriority) {
+                victim = offset;
+                victimPriority = priority;
+            }
+        }
+
+        long bits = Double.doubleToRawLongBits(value);
+        long meta = ((long) age << 16) | Math.min(Math.max(depth, 0), MAX_DEPTH);
+        LONGS.setOpaque(buffer, victim + 8, bits);
+        LONGS.setOpaque(buffer, victim + 16, meta);
+        // Written last, so a reader that sees it also sees the words it covers
+        LONGS.setRelease(buffer, victim, key ^ bits ^ meta);
+    }
+
+    /**
+     * Starts a new search, so entries stored before become the first to be replaced.
+     * Call between searches, not while threads are using the table.
+     */
+    public void newSearch() {
+        age = age == MAX_DEPTH ? 1 : age + 1;
+    }
+
+    /**
+     * Empties the table.
+     * Call between searches, not while threads are using the table.
+     */
+    public void clear() {
+        int end = (bucketMask + 1) * BUCKET_BYTES;
+        for (int offset = 0; offset < end; offset += Long.BYTES) {
+            LONGS.set(buffer, offset, 0L);
+        }
+        age = 1;
+    }
+
+    /**
+     * Gets the number of entries the table holds.
+     *
+     * @return the capacity in entries
+     */
+    public int getCapacity() {
+        return (bucketMask + 1) * 2;
+    }
+}
@@ -0,0 +1,512 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.bricks.Randomizer;
+import com.comp2042.service.BoardEvaluator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tunes {@link BoardEvaluator} weights with a genetic algorithm and headless self-play.
+ * Each generation, every candidate plays the same seeded games with a
+ * greedy bot, and its fitness is the mean number of lines cleared. The
+ * worst share of the population is then replaced by children of
+ * tournament winners: the parents' weights averaged by fitness, sometimes
+ * with one weight nudged. Weight vectors are kept at unit length, as only
+ * their direction changes which placement the bot picks.
+ *
+ * Candidates are played in parallel on a fork-join pool. Game seeds and
+ * breeding come from the tuner seed and the generation number, so a run
+ * gives the same population whatever the thread count, and a run resumed
+ * from a checkpoint continues exactly as it would have.
+ */
+public class WeightTuner {
+
+    /** Header row of the score curve CSV. */
+    public static final String CSV_HEADER = "generation,best,mean,elapsed_seconds";
+
+    // Share of the population replaced by children each generation
+    private static final double OFFSPRING_SHARE = 0.3;
+    // Share of the population drawn into each parent tournament
+    private static final double TOURNAMENT_SHARE = 0.1;
+    private static final double MUTATION_CHANCE = 0.05;
+    private static final double MUTATION_SIZE = 0.2;
+    private static final String CHECKPOINT_HEADER = "# weight tuner checkpoint";
+
+    private final int populationSize;
+    private final int gamesPerCandidate;
+    private final int maxPieces;
+    private final long seed;
+    private final Randomizer randomizer;
+
+    private final double[][] population;
+    private final double[] fitness;
+    private int generation = 0;
+    private long elapsedNanos = 0;
+    private final List<Generation> history = new ArrayList<>();
+
+    /**
+     * Creates a tuner with a random starting population.
+     *
+     * @param populationSize candidates per generation, at least 2
+     * @param gamesPerCandidate games each candidate plays per generation
+     * @param maxPieces the piece limit after which a game is stopped
+     * @param seed the seed of the run
+     * @param randomizer the brick generator the games are played with
+     */
+    public WeightTuner(int populationSize, int gamesPerCandidate, int maxPieces, long seed, Randomizer randomizer) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population must have at least 2 candidates");
+        }
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPieces = maxPieces;
+        this.seed = seed;
+        this.randomizer = randomizer;
+        population = new double[populationSize][BoardEvaluator.WEIGHT_COUNT];
+        fitness = new double[populationSize];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (double[] weights : population) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = random.nextDouble(-1, 1);
+            }
+            normalize(weights);
+        }
+    }
+
+    /**
+     * Plays one candidate's games for a generation.
+     *
+     * @param weights the candidate's weights
+     * @param generation the generation, which picks the game seeds
+     * @return the mean number of lines cleared
+     */
+    public double fitness(double[] weights, int generation) {
+        // A one-wide beam without previews is a greedy bot; with no next brick to swap in, it never holds
+        BeamSearchBot bot = new BeamSearchBot(BotRunner.ROWS, BotRunner.COLUMNS, new BoardEvaluator(weights), 1, 0, 0, null);
+        long lines = 0;
+        for (int g = 0; g < gamesPerCandidate; g++) {
+            long gameSeed = BatchRunner.seedFor(seed, (long) generation * gamesPerCandidate + g);
+            lines += BotRunner.play(bot, randomizer.create(gameSeed), gameSeed, maxPieces).getLines();
+        }
+        return (double) lines / gamesPerCandidate;
+    }
+
+    /**
+     * Plays one generation and breeds the next.
+     *
+     * @param pool the pool to play candidates on
+     * @return the scores of the generation played
+     */
+    public Generation step(ForkJoinPool pool) {
+        long start = System.nanoTime();
+        pool.invoke(new Evaluate(0, populationSize, generation));
+
+        int best = 0;
+        double sum = 0;
+        for (int i = 0; i < populationSize; i++) {
+            sum += fitness[i];
+            if (fitness[i] > fitness[best]) {
+                best = i;
+            }
+        }
+        elapsedNanos += System.nanoTime() - start;
+        Generation result = new Generation(generation, fitness[best], sum / populationSize,
+                population[best].clone(), elapsedNanos);
+        history.add(result);
+
+        breed(new SplittableRandom(BatchRunner.seedFor(~seed, generation)));
+        generation++;
+        return result;
+    }
+
+    /**
+     * Replaces the worst candidates with children of tournament winners.
+     */
+    private void breed(SplittableRandom random) {
+        Integer[] order = new Integer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            order[i] = i;
+        }
+        // Best first; ties keep population order so breeding stays deterministic
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        int children = Math.max(1, (int) (populationSize * OFFSPRING_SHARE));
+        int tournament = Math.max(2, (int) (populationSize * TOURNAMENT_SHARE));
+        double[][] offspring = new double[children][];
+        for (int c = 0; c < children; c++) {
+            // The two fittest of a random draw become the parents
+            int first = -1;
+            int second = -1;
+            for (int t = 0; t < tournament; t++) {
+                int pick = random.nextInt(populationSize);
+                if (first < 0 || fitness[pick] > fitness[first]) {
+                    second = first;
+                    first = pick;
+                } else if (pick != first && (second < 0 || fitness[pick] > fitness[second])) {
+                    second = pick;
+                }
+            }
+            if (second < 0) {
+                second = first;
+            }
+
+            double[] child = new double[BoardEvaluator.WEIGHT_COUNT];
+            // A tiny floor keeps two parents that cleared nothing from cancelling out
+            double a = fitness[first] + 1e-9;
+            double b = fitness[second] + 1e-9;
+            for (int i = 0; i < child.length; i++) {
+                child[i] = a * population[first][i] + b * population[second][i];
+            }
+            if (random.nextDouble() < MUTATION_CHANCE) {
+                child[random.nextInt(child.length)] += random.nextDouble(-MUTATION_SIZE, MUTATION_SIZE);
+            }
+            normalize(child);
+            offspring[c] = child;
+        }
+
+        for (int c = 0; c < children; c++) {
+            int worst = order[populationSize - 1 - c];
+            population[worst] = offspring[c];
+            fitness[worst] = 0;
+        }
+    }
+
+    private static void normalize(double[] weights) {
+        double length = 0;
+        for (double w : weights) {
+            length += w * w;
+        }
+        length = Math.sqrt(length);
+        if (length == 0) {
+            weights[0] = 1;
+            return;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] /= length;
+        }
+    }
+
+    /**
+     * Writes the population and score curve to a file.
+     * The file is written beside the old one and moved over it, so a
+     * crash while saving leaves the last checkpoint whole.
+     *
+     * @param path the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            out.write(CHECKPOINT_HEADER + "\n");
+            out.write("settings " + settings() + "\n");
+            out.write("generation " + generation + " " + elapsedNanos + "\n");
+            for (Generation g : history) {
+                out.write("history " + g.getIndex() + " " + g.getBest() + " " + g.getMean() + " "
+                        + g.getElapsedNanos() + " " + join(g.getBestWeights()) + "\n");
+            }
+            for (double[] weights : population) {
+                out.write("candidate " + join(weights) + "\n");
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores the population and score curve from a checkpoint.
+     *
+     * @param path the checkpoint file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if it was written by a run with other settings
+     */
+    public void load(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !CHECKPOINT_HEADER.equals(lines.get(0))) {
+            throw new IllegalArgumentException("Not a tuner checkpoint: " + path);
+        }
+        history.clear();
+        int candidate = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            String[] parts = line.split(" ");
+            switch (parts[0]) {
+                case "settings" -> {
+                    String expected = settings();
+                    String found = String.join(" ", Arrays.copyOfRange(parts, 1, parts.length));
+                    if (!expected.equals(found)) {
+                        throw new IllegalArgumentException("Checkpoint settings " + found + " do not match " + expected);
+                    }
+                }
+                case "generation" -> {
+                    generation = Integer.parseInt(parts[1]);
+                    elapsedNanos = Long.parseLong(parts[2]);
+                }
+                case "history" -> history.add(new Generation(Integer.parseInt(parts[1]),
+                        Double.parseDouble(parts[2]), Double.parseDouble(parts[3]),
+                        parse(parts, 5), Long.parseLong(parts[4])));
+                case "candidate" -> population[candidate++] = parse(parts, 1);
+                default -> throw new IllegalArgumentException("Unknown checkpoint line: " + line);
+            }
+        }
+        if (candidate != populationSize) {
+            throw new IllegalArgumentException("Checkpoint has " + candidate + " candidates, expected " + populationSize);
+        }
+        Arrays.fill(fitness, 0);
+    }
+
+    /**
+     * Formats the settings a checkpoint must match to be resumed.
+     */
+    private String settings() {
+        return populationSize + " " + gamesPerCandidate + " " + maxPieces + " " + seed + " " + randomizer.getName();
+    }
+
+    private static String join(double[] weights) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < weights.length; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            // Double.toString reads back to the same value
+            sb.append(weights[i]);
+        }
+        return sb.toString();
+    }
+
+    private static double[] parse(String[] parts, int from) {
+        double[] weights = new double[BoardEvaluator.WEIGHT_COUNT];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = Double.parseDouble(parts[from + i]);
+        }
+        return weights;
+    }
+
+    /**
+     * Gets the number of generations played, including those before a resume.
+     *
+     * @return the index of the next generation
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the time spent playing generations, including before a resume.
+     *
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of generations finished per hour of playing.
+     *
+     * @return generations per hour
+     */
+    public double getGenerationsPerHour() {
+        return generation * 3600e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Gets the scores of every generation played so far.
+     *
+     * @return the score curve, oldest first
+     */
+    public List<Generation> getHistory() {
+        return history;
+    }
+
+    /**
+     * Gets a copy of one candidate's weights.
+     *
+     * @param index the candidate
+     * @return its weights
+     */
+    public double[] getCandidate(int index) {
+        return population[index].clone();
+    }
+
+    /**
+     * Plays a range of candidates, splitting it down to one candidate per task.
+     */
+    @SuppressWarnings("serial") // Fork-join tasks are never serialized
+    private final class Evaluate extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int generation;
+
+        Evaluate(int from, int to, int generation) {
+            this.from = from;
+            this.to = to;
+            this.generation = generation;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Evaluate(from, mid, generation), new Evaluate(mid, to, generation));
+                return;
+            }
+            fitness[from] = fitness(population[from], generation);
+        }
+    }
+
+    /**
+     * The scores of one generation.
+     */
+    public static final class Generation {
+
+        private final int index;
+        private final double best;
+        private final double mean;
+        private final double[] bestWeights;
+        private final long elapsedNanos;
+
+        Generation(int index, double best, double mean, double[] bestWeights, long elapsedNanos) {
+            this.index = index;
+            this.best = best;
+            this.mean = mean;
+            this.bestWeights = bestWeights;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the generation number.
+         *
+         * @return the index, from 0
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the fitness of the best candidate.
+         *
+         * @return mean lines cleared by the best candidate
+         */
+        public double getBest() {
+            return best;
+        }
+
+        /**
+         * Gets the mean fitness of the population.
+         *
+         * @return mean lines cleared over all candidates
+         */
+        public double getMean() {
+            return mean;
+        }
+
+        /**
+         * Gets the weights of the best candidate.
+         *
+         * @return a copy of its weights
+         */
+        public double[] getBestWeights() {
+            return bestWeights.clone();
+        }
+
+        /**
+         * Gets the total tuning time when the generation finished.
+         *
+         * @return elapsed time in nanoseconds
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Formats the generation as a row of the score curve CSV.
+         *
+         * @return the CSV row, without a line break
+         */
+        public String toCsv() {
+            return String.format("%d,%.3f,%.3f,%.1f", index, best, mean, elapsedNanos / 1e9);
+        }
+    }
+
+    /**
+     * Runs the tuner from the command line, resuming from the checkpoint if it exists.
+     * Options: --population N, --games N, --max-pieces N, --generations N
+     * (to reach, counting earlier runs), --threads T, --seed S,
+     * --checkpoint FILE, --out FILE (score curve CSV), --randomizer random|bag7|bag14|tgm.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the checkpoint or curve cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int populationSize = 50;
+        int games = 8;
+        int maxPieces = 500;
+        int generations = 20;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 0;
+        Path checkpoint = Path.of("tuner.ckpt");
+        Path outFile = null;
+        Randomizer randomizer = Randomizer.RANDOM;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--population" -> populationSize = Integer.parseInt(args[++i]);
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(args[++i]);
+                case "--generations" -> generations = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--checkpoint" -> checkpoint = Path.of(args[++i]);
+                case "--out" -> outFile = Path.of(args[++i]);
+                case "--randomizer" -> randomizer = Randomizer.byName(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        WeightTuner tuner = new WeightTuner(populationSize, games, maxPieces, seed, randomizer);
+        if (Files.exists(checkpoint)) {
+            tuner.load(checkpoint);
+            System.err.printf("Resumed at generation %d%n", tuner.getGeneration());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            while (tuner.getGeneration() < generations) {
+                Generation g = tuner.step(pool);
+                tuner.save(checkpoint);
+                System.err.printf("generation %d: best %.1f lines, mean %.1f, %.1f generations/hour%n",
+                        g.getIndex(), g.getBest(), g.getMean(), tuner.getGenerationsPerHour());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        if (outFile != null) {
+            try (Writer out = Files.newBufferedWriter(outFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.write(CSV_HEADER);
+                out.write('\n');
+                for (Generation g : tuner.getHistory()) {
+                    out.write(g.toCsv());
+                    out.write('\n');
+                }
+            }
+        }
+        List<Generation> history = tuner.getHistory();
+        if (!history.isEmpty()) {
+            System.out.println("best weights: " + join(history.get(history.size() - 1).getBestWeights()));
+        }
+    }
+}
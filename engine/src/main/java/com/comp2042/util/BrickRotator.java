@@ -0,0 +1,112 @@
+package com.comp2042.util;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.NextShapeInfo;
+import com.comp2042.model.bricks.PieceShape;
+
+/**
+ * Manages brick rotation states.
+ * Keeps track of current brick and its rotation.
+ * The rotation states come from the shared shape registry, so looking up
+ * the current or next rotation is a plain array index.
+ */
+public class BrickRotator {
+
+    private Brick brick;
+    private PieceShape[] rotations;
+    private int currentShape = 0;
+
+    /**
+     * Gets the next rotation state of the current brick.
+     *
+     * @return information about the next shape
+     */
+    public NextShapeInfo getNextShape() {
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(rotations[nextShape].getMatrix(), nextShape);
+    }
+
+    /**
+     * Gets the index of the rotation state that follows the current one.
+     *
+     * @return the next rotation index
+     */
+    public int getNextPosition() {
+        return (currentShape + 1) % rotations.length;
+    }
+
+    /**
+     * Gets the current rotation state of the brick.
+     *
+     * @return 2D array representing the current shape
+     */
+    public int[][] getCurrentShape() {
+        return rotations[currentShape].getMatrix();
+    }
+
+    /**
+     * Gets the precomputed shape of the current rotation.
+     *
+     * @return the current rotation state
+     */
+    public PieceShape getCurrentPieceShape() {
+        return rotations[currentShape];
+    }
+
+    /**
+     * Gets the precomputed shape of a rotation of the current brick.
+     *
+     * @param position the rotation index
+     * @return that rotation state
+     */
+    public PieceShape getPieceShape(int position) {
+        return rotations[position];
+    }
+
+    /**
+     * Gets the number of rotation states of the current brick.
+     *
+     * @return rotation count
+     */
+    public int getRotationCount() {
+        return rotations.length;
+    }
+
+    /**
+     * Sets the current rotation state.
+     *
+     * @param currentShape the rotation index to set
+     */
+    public void setCurrentShape(int currentShape) {
+        this.currentShape = currentShape;
+    }
+
+    /**
+     * Gets the index of the current rotation state.
+     *
+     * @return the current rotation index
+     */
+    public int getCurrentPosition() {
+        return currentShape;
+    }
+
+    /**
+     * Sets a new brick and resets rotation to 0.
+     *
+     * @param brick the brick to set
+     */
+    public void setBrick(Brick brick) {
+        this.brick = brick;
+        this.rotations = brick.getRotations();
+        currentShape = 0;
+    }
+
+    /**
+     * Gets the current brick object.
+     *
+     * @return the current brick
+     */
+    public Brick getCurrentBrick() {
+        return brick;
+    }
+}
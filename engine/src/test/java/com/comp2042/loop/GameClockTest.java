@@ -0,0 +1,68 @@
+package com.comp2042.loop;
+
+import com.comp2042.service.LevelService;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the game clocks and Gravity.
+ */
+class GameClockTest {
+
+    @Test
+    void testVirtualClock_EachCallIsOneTick() {
+        VirtualClock clock = new VirtualClock(100);
+
+        assertEquals(1, clock.pendingTicks());
+        assertEquals(1, clock.pendingTicks());
+        assertEquals(20_000_000L, clock.nanoTime());
+    }
+
+    @Test
+    void testNanoClock_PaysOutWholeTicks() throws InterruptedException {
+        NanoClock clock = new NanoClock(1000);
+        Thread.sleep(20);
+
+        int ticks = clock.pendingTicks();
+        assertTrue(ticks >= 1 && ticks <= NanoClock.MAX_CATCH_UP, "Got " + ticks);
+    }
+
+    @Test
+    void testNanoClock_Reset_DropsElapsedTime() throws InterruptedException {
+        NanoClock clock = new NanoClock(10);
+        Thread.sleep(150);
+        clock.reset();
+
+        assertEquals(0, clock.pendingTicks());
+    }
+
+    @Test
+    void testGravity_LevelOne_MatchesOldTimelineSpeed() {
+        Gravity gravity = new Gravity(new VirtualClock(120).getTickNanos());
+        int drops = 0;
+        for (int i = 0; i < 480; i++) {
+            drops += gravity.tick(1);
+        }
+
+        assertEquals(10, drops, "One row every 400 ms is 10 rows in 4 seconds");
+    }
+
+    @Test
+    void testGravity_20G_FallsTenRowsPerTickAt120Hz() {
+        Gravity gravity = new Gravity(new VirtualClock(120).getTickNanos());
+
+        assertEquals(10, gravity.tick(LevelService.MAX_GRAVITY_LEVEL));
+        assertEquals(10, gravity.tick(LevelService.MAX_GRAVITY_LEVEL + 5));
+    }
+
+    @Test
+    void testGravity_Reset_DropsPartialRow() {
+        Gravity gravity = new Gravity(new VirtualClock(120).getTickNanos());
+        for (int i = 0; i < 47; i++) {
+            assertEquals(0, gravity.tick(1));
+        }
+        gravity.reset();
+
+        assertEquals(0, gravity.tick(1));
+    }
+}
@@ -0,0 +1,240 @@
+package com.comp2042.loop;
+
+import com.comp2042.model.GameSession;
+import com.comp2042.model.LockDelay;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.sim.LowestPlacementPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GameLoop.
+ * Runs ticks on the test thread with a virtual clock instead of starting the thread.
+ */
+class GameLoopTest {
+
+    private GameSession session;
+    private VirtualClock clock;
+    private GameLoop loop;
+
+    @BeforeEach
+    void setUp() {
+        session = newSession(42);
+        clock = new VirtualClock(120);
+        loop = new GameLoop(session, clock);
+    }
+
+    private static GameSession newSession(long seed) {
+        GameSession session = new GameSession(new SimpleBoard(25, 10, new RandomBrickGenerator(seed)), 10);
+        session.start();
+        return session;
+    }
+
+    @Test
+    void testLatestFrame_BeforeFirstTick_IsEmpty() {
+        assertEquals(-1, loop.latestFrame().getTick());
+    }
+
+    @Test
+    void testAdvance_PublishesFrame() {
+        loop.advance(1);
+        FrameSnapshot frame = loop.latestFrame();
+
+        assertEquals(1, frame.getTick());
+        assertEquals(session.getBoard().getBrickX(), frame.getBrickX());
+        assertEquals(session.getBoard().getBrickY(), frame.getBrickY());
+        assertEquals(GameLoop.PREVIEW_COUNT, frame.getNextCount());
+        assertNotNull(frame.getBrick());
+    }
+
+    @Test
+    void testAdvance_AppliesInputInOrder() {
+        int x = session.getBoard().getBrickX();
+        loop.submit(InputAction.LEFT);
+        loop.submit(InputAction.LEFT);
+        loop.submit(InputAction.RIGHT);
+        loop.advance(1);
+
+        assertEquals(x - 1, loop.latestFrame().getBrickX());
+    }
+
+    @Test
+    void testAdvance_GravityCountsTicks() {
+        // One row every 400 ms at 120 ticks per second
+        int perDrop = 48;
+        int y = session.getBoard().getBrickY();
+
+        loop.advance(perDrop - 1);
+        assertEquals(y, loop.latestFrame().getBrickY(), "Should not drop before the interval");
+
+        loop.advance(1);
+        assertEquals(y + 1, loop.latestFrame().getBrickY());
+    }
+
+    @Test
+    void testAdvance_SameInputsGiveSameGame() {
+        GameLoop other = new GameLoop(newSession(42), new VirtualClock(120));
+        for (GameLoop l : new GameLoop[] {loop, other}) {
+            for (int i = 0; i < 40; i++) {
+                l.submit(i % 3 == 0 ? InputAction.LEFT : InputAction.HARD_DROP, 0);
+                l.advance(i % 7 + 1);
+            }
+            l.advance(5_000);
+        }
+
+        FrameSnapshot a = loop.latestFrame();
+        FrameSnapshot b = other.latestFrame();
+        assertEquals(a.getTick(), b.getTick());
+        assertEquals(a.getScore(), b.getScore());
+        assertArrayEquals(a.getCells(), b.getCells());
+    }
+
+    @Test
+    void testLockDelay_LocksAfterDelayTicks() {
+        session.setLockDelay(new LockDelay(clock.getTickNanos() * 30, 15));
+        // Land the brick without locking it
+        while (session.getBoard().getBrickY() != session.getBoard().getGhostY()) {
+            loop.submit(InputAction.SOFT_DROP);
+            loop.advance(1);
+        }
+
+        loop.advance(29);
+        assertEquals(0, session.getPiecesPlaced(), "Should wait out the lock delay");
+        loop.advance(2);
+        assertEquals(1, session.getPiecesPlaced());
+    }
+
+    @Test
+    void testPause_StopsGravityAndMoves() {
+        loop.advance(1);
+        int y = loop.latestFrame().getBrickY();
+        int x = loop.latestFrame().getBrickX();
+
+        loop.submit(InputAction.PAUSE);
+        loop.submit(InputAction.LEFT);
+        loop.advance(1_000);
+        FrameSnapshot frame = loop.latestFrame();
+
+        assertTrue(frame.isPaused());
+        assertEquals(y, frame.getBrickY());
+        assertEquals(x, frame.getBrickX());
+    }
+
+    @Test
+    void testHardDrop_CopiesLockedRows() {
+        loop.advance(1);
+        loop.submit(InputAction.HARD_DROP);
+        loop.advance(1);
+        FrameSnapshot frame = loop.latestFrame();
+
+        int[][] matrix = session.getBoard().getBoardMatrix();
+        for (int r = 0; r < matrix.length; r++) {
+            assertArrayEquals(matrix[r], frame.getCells()[r], "Row " + r + " should match the board");
+        }
+        assertTrue(frame.getRowStamp(matrix.length - 1) > frame.getRowStamp(0),
+                "Bottom row changed after the top row");
+    }
+
+    @Test
+    void testDroppedFrames_StillCopyChangedRows() {
+        // Drop several pieces without reading any frame in between
+        for (int i = 0; i < 6; i++) {
+            loop.submit(InputAction.HARD_DROP);
+            loop.advance(1);
+        }
+        FrameSnapshot frame = loop.latestFrame();
+
+        int[][] matrix = session.getBoard().getBoardMatrix();
+        for (int r = 0; r < matrix.length; r++) {
+            assertArrayEquals(matrix[r], frame.getCells()[r], "Row " + r + " should match the board");
+        }
+    }
+
+    @Test
+    void testNewGame_ResetsBoardAndCountsGame() {
+        loop.submit(InputAction.HARD_DROP);
+        loop.advance(1);
+        loop.submit(InputAction.NEW_GAME);
+        loop.advance(1);
+        FrameSnapshot frame = loop.latestFrame();
+
+        assertEquals(1, frame.getGameId());
+        for (int[] row : frame.getCells()) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    void testSubmit_MeasuresInputLatency() {
+        loop.submit(InputAction.LEFT, 1_000);
+        loop.submit(InputAction.RIGHT, 4_000);
+        clock.advance(5_000);
+        loop.advance(1);
+        FrameSnapshot frame = loop.latestFrame();
+
+        assertEquals(2, loop.getInputCount());
+        assertEquals(1_000, frame.getLastInputLatency());
+        assertEquals(4_000, frame.getMaxInputLatency());
+    }
+
+    @Test
+    void testSubmit_WhenQueueFull_DropsInput() {
+        for (int i = 0; i < GameLoop.INPUT_CAPACITY; i++) {
+            assertTrue(loop.submit(InputAction.ROTATE, 0));
+        }
+
+        assertFalse(loop.submit(InputAction.ROTATE, 0));
+        loop.advance(1);
+        assertTrue(loop.submit(InputAction.ROTATE, 0), "A tick should drain the queue");
+    }
+
+    @Test
+    void testStartStop_RunsTicksOnThread() throws InterruptedException {
+        GameLoop realTime = new GameLoop(newSession(7), 120);
+        realTime.start();
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (realTime.latestFrame().getTick() < 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        realTime.stop();
+
+        assertTrue(realTime.latestFrame().getTick() >= 0, "Loop thread should publish frames");
+    }
+
+    @Test
+    void testStartStop_VirtualClockRunsFasterThanRealTime() throws InterruptedException {
+        loop.start();
+        Thread.sleep(100);
+        loop.stop();
+
+        // 100 ms of real time is 12 ticks at 120 per second
+        assertTrue(loop.getTick() > 12, "Virtual ticks should not wait for real time");
+    }
+
+    @Test
+    void testAutopilot_PlacesOneBrickPerInterval() {
+        loop.setAutopilot(new LowestPlacementPolicy(), 10);
+        loop.submit(InputAction.AUTOPLAY);
+        loop.advance(100);
+
+        assertTrue(loop.isAutopilot());
+        assertEquals(10, session.getPiecesPlaced());
+
+        loop.submit(InputAction.AUTOPLAY);
+        loop.advance(100);
+        assertFalse(loop.isAutopilot());
+        assertEquals(10, session.getPiecesPlaced(), "Gravity alone should not lock a brick this fast");
+    }
+
+    @Test
+    void testAutopilot_WithoutPolicy_StaysOff() {
+        loop.submit(InputAction.AUTOPLAY);
+        loop.advance(1);
+
+        assertFalse(loop.isAutopilot());
+    }
+}
@@ -0,0 +1,91 @@
+package com.comp2042.loop;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for InputRing.
+ * Tests ordering, capacity and hand-over between two threads.
+ */
+class InputRingTest {
+
+    @Test
+    void testConstructor_RoundsCapacityUp() {
+        assertEquals(8, new InputRing(5).capacity());
+        assertEquals(8, new InputRing(8).capacity());
+    }
+
+    @Test
+    void testConstructor_InvalidCapacity_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new InputRing(0));
+    }
+
+    @Test
+    void testDrain_ReturnsEventsInOrder() {
+        InputRing ring = new InputRing(4);
+        ring.offer(1);
+        ring.offer(2);
+        ring.offer(3);
+
+        long[] seen = new long[3];
+        int[] count = {0};
+        int drained = ring.drain(e -> seen[count[0]++] = e);
+
+        assertEquals(3, drained);
+        assertArrayEquals(new long[] {1, 2, 3}, seen);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void testOffer_WhenFull_ReturnsFalse() {
+        InputRing ring = new InputRing(2);
+        assertTrue(ring.offer(1));
+        assertTrue(ring.offer(2));
+        assertFalse(ring.offer(3));
+
+        ring.drain(e -> { });
+        assertTrue(ring.offer(3), "Draining should free the slots");
+    }
+
+    @Test
+    void testPack_KeepsActionAndTime() {
+        long event = InputAction.HARD_DROP.pack(123_456_789L);
+
+        assertEquals(InputAction.HARD_DROP, InputAction.actionOf(event));
+        assertEquals(123_456_789L, InputAction.timeOf(event));
+    }
+
+    @Test
+    void testPack_NegativeTime() {
+        long event = InputAction.NEW_GAME.pack(-42L);
+
+        assertEquals(InputAction.NEW_GAME, InputAction.actionOf(event));
+        assertEquals(-42L, InputAction.timeOf(event));
+    }
+
+    @Test
+    void testConcurrent_ConsumerSeesEveryEventInOrder() throws InterruptedException {
+        InputRing ring = new InputRing(64);
+        int total = 100_000;
+        Thread producer = new Thread(() -> {
+            for (long i = 0; i < total; i++) {
+                while (!ring.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        long[] expected = {0};
+        while (expected[0] < total) {
+            int drained = ring.drain(e -> {
+                assertEquals(expected[0], e);
+                expected[0]++;
+            });
+            if (drained == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+    }
+}
@@ -0,0 +1,79 @@
+package com.comp2042.loop;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for TripleBuffer.
+ * Tests slot hand-over between the producer and consumer sides.
+ */
+class TripleBufferTest {
+
+    @Test
+    void testLatest_BeforePublish_ReturnsUnwrittenSlot() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+
+        assertEquals(0, buffer.latest()[0]);
+    }
+
+    @Test
+    void testPublish_ThenLatest_ReturnsPublishedSlot() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        int[] slot = buffer.back();
+        slot[0] = 7;
+        buffer.publish();
+
+        assertSame(slot, buffer.latest());
+        assertNotSame(slot, buffer.back(), "Producer should write a different slot next");
+    }
+
+    @Test
+    void testPublishTwice_DropsOlderFrame() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        buffer.back()[0] = 1;
+        assertFalse(buffer.publish());
+        buffer.back()[0] = 2;
+        assertTrue(buffer.publish(), "First frame was never read");
+
+        assertEquals(2, buffer.latest()[0]);
+    }
+
+    @Test
+    void testLatest_WithoutNewFrame_KeepsSameSlot() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(() -> new int[1]);
+        buffer.back()[0] = 1;
+        buffer.publish();
+        int[] first = buffer.latest();
+
+        assertSame(first, buffer.latest());
+        // The producer must never be handed the slot the consumer holds
+        for (int i = 0; i < 5; i++) {
+            assertNotSame(first, buffer.back());
+            buffer.publish();
+        }
+    }
+
+    @Test
+    void testConcurrent_ConsumerSeesIncreasingFrames() throws InterruptedException {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(() -> new long[2]);
+        int frames = 200_000;
+        Thread producer = new Thread(() -> {
+            for (long i = 1; i <= frames; i++) {
+                long[] slot = buffer.back();
+                slot[0] = i;
+                slot[1] = -i;
+                buffer.publish();
+            }
+        });
+        producer.start();
+
+        long last = 0;
+        while (last < frames) {
+            long[] slot = buffer.latest();
+            assertEquals(slot[0], -slot[1], "Frame should never be torn");
+            assertTrue(slot[0] >= last, "Frames should never go backwards");
+            last = slot[0];
+        }
+        producer.join();
+    }
+}
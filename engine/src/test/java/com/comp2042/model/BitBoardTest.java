@@ -0,0 +1,33 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickGenerator;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BitBoard.
+ * Runs the shared board tests, plus the limits of the bitmask layout.
+ */
+class BitBoardTest extends BoardContractTest {
+
+    @Override
+    protected Board createBoard(BrickGenerator generator) {
+        return new BitBoard(25, 10, generator);
+    }
+
+    @Test
+    void testConstructor_TooWide_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(25, 40));
+    }
+
+    @Test
+    void testMoveBrickTo_FarRight_Collides() {
+        BitBoard wide = new BitBoard(25, 26);
+        wide.createNewBrick();
+
+        // Far enough right that shifting the mask would wrap it past bit 31
+        for (int x = 26; x < 40; x++) {
+            assertFalse(wide.moveBrickTo(0, x, 5), "x = " + x);
+        }
+    }
+}
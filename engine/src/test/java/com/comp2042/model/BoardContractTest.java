@@ -0,0 +1,442 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.Brick;
+import com.comp2042.model.bricks.BrickGenerator;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests every Board implementation must pass.
+ * Subclasses supply the board; cases that only hold for one implementation
+ * stay in its own test class.
+ */
+abstract class BoardContractTest {
+
+    protected Board board;
+
+    // 2x2 square brick so rows can be filled predictably
+    private static class SquareBrick implements Brick {
+        private final List<int[][]> shapes = new ArrayList<>();
+
+        SquareBrick() {
+            shapes.add(new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            });
+        }
+
+        @Override
+        public List<int[][]> getShapeMatrix() {
+            return shapes;
+        }
+    }
+
+    // Generator that only ever hands out square bricks
+    private static class SquareGenerator implements BrickGenerator {
+        private final Brick brick = new SquareBrick();
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick peekBrick(int ahead) {
+            return brick;
+        }
+    }
+
+    /**
+     * Creates an empty 25x10 board of the implementation under test.
+     *
+     * @param generator the source of new bricks
+     * @return the board
+     */
+    protected abstract Board createBoard(BrickGenerator generator);
+
+    @BeforeEach
+    void setUp() {
+        board = createBoard(new RandomBrickGenerator());
+        board.createNewBrick();
+    }
+
+    @Test
+    void testInitialization_CreatesEmptyBoard() {
+        int[][] matrix = board.getBoardMatrix();
+
+        assertNotNull(matrix);
+        assertEquals(25, matrix.length);
+        assertEquals(10, matrix[0].length);
+    }
+
+    @Test
+    void testInitialization_ScoreIsZero() {
+        assertEquals(0, board.getScore().getValue());
+    }
+
+    @Test
+    void testCreateNewBrick_ReturnsGameOverStatus() {
+        // On empty board, should not be game over
+        boolean gameOver = board.createNewBrick();
+        assertFalse(gameOver);
+    }
+
+    @Test
+    void testMoveBrickDown_OnEmptyBoard_ReturnsTrue() {
+        boolean moved = board.moveBrickDown();
+        assertTrue(moved, "Brick should be able to move down on empty board");
+    }
+
+    @Test
+    void testMoveBrickLeft_OnEmptyBoard_ReturnsTrue() {
+        boolean moved = board.moveBrickLeft();
+        // May return true or false depending on spawn position
+        // Just verify no exception is thrown
+        assertNotNull(board.getViewData());
+    }
+
+    @Test
+    void testMoveBrickRight_OnEmptyBoard_ReturnsTrue() {
+        boolean moved = board.moveBrickRight();
+        assertNotNull(board.getViewData());
+    }
+
+    @Test
+    void testRotateLeftBrick_OnEmptyBoard() {
+        boolean rotated = board.rotateLeftBrick();
+        // Just verify no exception is thrown
+        assertNotNull(board.getViewData());
+    }
+
+    @Test
+    void testGetViewData_ReturnsValidData() {
+        ViewData data = board.getViewData();
+
+        assertNotNull(data);
+        assertNotNull(data.getBrickData());
+        assertTrue(data.getxPosition() >= 0);
+        assertTrue(data.getyPosition() >= 0);
+    }
+
+    @Test
+    void testGetNextQueueShapes_ReturnsThreeShapes() {
+        var shapes = board.getNextQueueShapes();
+
+        assertNotNull(shapes);
+        assertEquals(3, shapes.size());
+    }
+
+    @Test
+    void testMergeBrickToBackground_UpdatesMatrix() {
+        // Move brick to bottom
+        while (board.moveBrickDown()) {
+            // Keep moving down
+        }
+
+        int[][] beforeMerge = board.getBoardMatrix();
+        board.mergeBrickToBackground();
+        int[][] afterMerge = board.getBoardMatrix();
+
+        // Matrix should have changed (brick merged)
+        boolean hasNonZero = false;
+        for (int[] row : afterMerge) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    hasNonZero = true;
+                    break;
+                }
+            }
+        }
+        assertTrue(hasNonZero, "Board should have non-zero values after merge");
+    }
+
+    @Test
+    void testClearRows_NoFullRows_ReturnsZero() {
+        ClearRow result = board.clearRows();
+        assertEquals(0, result.getLinesRemoved());
+    }
+
+    @Test
+    void testHoldBrick_FirstTime_StoresBrick() {
+        ViewData before = board.getViewData();
+        ViewData after = board.holdBrick();
+
+        assertNotNull(board.getHeldBrick());
+        assertNotNull(after);
+    }
+
+    @Test
+    void testHoldBrick_CanHoldAndSwap() {
+        // Hold the first time - should store current brick
+        board.holdBrick();
+        var held = board.getHeldBrick();
+        assertNotNull(held, "Should have a held brick after first hold");
+
+        // Hold second time in the same turn - should NOT swap (holdUsed = true)
+        board.holdBrick();
+        var stillHeld = board.getHeldBrick();
+        assertSame(held, stillHeld, "Holding twice in same turn should not swap");
+
+        // Spawn new brick (resets holdUsed flag)
+        board.createNewBrick();
+
+        // Now holding should swap
+        board.holdBrick();
+        var afterSwap = board.getHeldBrick();
+        assertNotNull(afterSwap, "Should still have a held brick after swap");
+    }
+
+    @Test
+    void testHoldBrick_WhenAlreadyUsed_DoesNotSwap() {
+        ViewData first = board.holdBrick();
+        ViewData second = board.holdBrick();
+
+        // Second hold should return same data (no swap)
+        assertEquals(first.getxPosition(), second.getxPosition());
+    }
+
+    @Test
+    void testGetHeldBrickShape_InitiallyNull() {
+        board = createBoard(new RandomBrickGenerator());
+        assertNull(board.getHeldBrickShape());
+    }
+
+    @Test
+    void testGetHeldBrickShape_AfterHold_ReturnsShape() {
+        board.createNewBrick();
+        board.holdBrick();
+
+        int[][] shape = board.getHeldBrickShape();
+        assertNotNull(shape);
+    }
+
+    @Test
+    void testResetHold_ClearsHeldBrick() {
+        board.holdBrick();
+        board.resetHold();
+
+        assertNull(board.getHeldBrickShape());
+    }
+
+    @Test
+    void testHardDrop_ReturnsRowsDropped() {
+        int rowsDropped = board.hardDrop();
+
+        assertTrue(rowsDropped >= 0);
+    }
+
+    @Test
+    void testNewGame_ResetsScore() {
+        board.getScore().add(1000);
+        board.newGame();
+
+        assertEquals(0, board.getScore().getValue());
+    }
+
+    @Test
+    void testNewGame_ClearsBoard() {
+        // Fill some cells
+        board.mergeBrickToBackground();
+
+        board.newGame();
+        int[][] matrix = board.getBoardMatrix();
+
+        // Check if board is empty (except for current brick)
+        boolean isEmpty = true;
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    isEmpty = false;
+                    break;
+                }
+            }
+        }
+        assertTrue(isEmpty, "Board should be empty after new game");
+    }
+
+    @Test
+    void testSequentialMoves_MaintainsConsistency() {
+        ViewData data1 = board.getViewData();
+        board.moveBrickRight();
+        ViewData data2 = board.getViewData();
+
+        // X position should have changed
+        assertTrue(data2.getxPosition() != data1.getxPosition() ||
+                !board.moveBrickRight()); // or couldn't move
+    }
+
+    @Test
+    void testMoveBrickLeft_StopsAtWall() {
+        board = createBoard(new SquareGenerator());
+        board.createNewBrick();
+
+        // Square occupies shape columns 1-2, spawning at x = 4
+        int moves = 0;
+        while (board.moveBrickLeft()) {
+            moves++;
+        }
+
+        assertEquals(5, moves);
+        assertEquals(-1, board.getViewData().getxPosition());
+    }
+
+    @Test
+    void testClearRows_FullRowsAreRemoved() {
+        board = createBoard(new SquareGenerator());
+        board.createNewBrick();
+
+        // Five squares side by side fill the bottom two rows
+        for (int target = -1; target <= 7; target += 2) {
+            while (board.getViewData().getxPosition() > target) {
+                board.moveBrickLeft();
+            }
+            while (board.getViewData().getxPosition() < target) {
+                board.moveBrickRight();
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.createNewBrick();
+        }
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(2, result.getLinesRemoved());
+        assertEquals(200, result.getScoreBonus());
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    void testClearRows_RowsAboveShiftDown() {
+        board = createBoard(new SquareGenerator());
+        board.createNewBrick();
+
+        // Leave one square resting on the cleared rows
+        for (int target = -1; target <= 7; target += 2) {
+            while (board.getViewData().getxPosition() > target) {
+                board.moveBrickLeft();
+            }
+            while (board.getViewData().getxPosition() < target) {
+                board.moveBrickRight();
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.createNewBrick();
+        }
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        board.clearRows();
+        int[][] matrix = board.getBoardMatrix();
+
+        assertEquals(4, matrix[24][5]);
+        assertEquals(4, matrix[23][6]);
+        assertEquals(0, matrix[22][5]);
+        assertFalse(board.createNewBrick());
+    }
+
+    @Test
+    void testPollDirtyRows_ClearMarksShiftedRows() {
+        board = createBoard(new SquareGenerator());
+        board.createNewBrick();
+        assertEquals(DirtyRows.ALL, board.pollDirtyRows());
+
+        for (int target = -1; target <= 7; target += 2) {
+            while (board.getViewData().getxPosition() > target) {
+                board.moveBrickLeft();
+            }
+            while (board.getViewData().getxPosition() < target) {
+                board.moveBrickRight();
+            }
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.createNewBrick();
+        }
+        assertEquals(DirtyRows.range(23, 24), board.pollDirtyRows());
+
+        board.clearRows();
+
+        assertEquals(DirtyRows.range(0, 24), board.pollDirtyRows());
+    }
+
+    @Test
+    void testGhost_MatchesStepwiseDrop() {
+        java.util.Random random = new java.util.Random(42);
+
+        for (int piece = 0; piece < 200; piece++) {
+            // Shuffle the brick around before checking the ghost
+            for (int i = 0; i < 6; i++) {
+                switch (random.nextInt(4)) {
+                    case 0 -> board.moveBrickLeft();
+                    case 1 -> board.moveBrickRight();
+                    case 2 -> board.rotateLeftBrick();
+                    default -> board.moveBrickDown();
+                }
+            }
+
+            ViewData data = board.getViewData();
+            int expected = data.getyPosition();
+            while (!MatrixOperations.intersect(board.getBoardMatrix(), data.getBrickData(),
+                    data.getxPosition(), expected + 1)) {
+                expected++;
+            }
+            assertEquals(expected, data.getGhostyPosition());
+
+            board.hardDrop();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    void testPollDirtyRows_NewBoardIsAllDirtyThenClean() {
+        assertEquals(DirtyRows.ALL, board.pollDirtyRows());
+        assertEquals(DirtyRows.NONE, board.pollDirtyRows());
+
+        board.moveBrickLeft();
+        board.moveBrickDown();
+        assertEquals(DirtyRows.NONE, board.pollDirtyRows(), "Moving the brick changes no board rows");
+    }
+
+    @Test
+    void testPollDirtyRows_MergeMarksOnlyCoveredRows() {
+        board.pollDirtyRows();
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        long dirty = board.pollDirtyRows();
+        int[][] matrix = board.getBoardMatrix();
+        for (int r = 0; r < matrix.length; r++) {
+            boolean filled = false;
+            for (int cell : matrix[r]) {
+                filled |= cell != 0;
+            }
+            if (filled) {
+                assertTrue(DirtyRows.isDirty(dirty, r), "Row " + r + " received blocks");
+            }
+        }
+        assertTrue(Long.bitCount(dirty) <= 4, "A brick covers at most four rows");
+    }
+
+    @Test
+    void testPollDirtyRows_NewGameMarksEverything() {
+        board.pollDirtyRows();
+
+        board.newGame();
+
+        assertEquals(DirtyRows.ALL, board.pollDirtyRows());
+    }
+}
@@ -0,0 +1,35 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for DirtyRows.
+ * Tests building and reading dirty-row masks.
+ */
+class DirtyRowsTest {
+
+    @Test
+    void testRange_CoversInclusiveRows() {
+        assertEquals(0b11100L, DirtyRows.range(2, 4));
+        assertEquals(1L, DirtyRows.range(0, 0));
+    }
+
+    @Test
+    void testRange_EmptyOrNegative() {
+        assertEquals(DirtyRows.NONE, DirtyRows.range(5, 4));
+        assertEquals(0b11L, DirtyRows.range(-3, 1));
+    }
+
+    @Test
+    void testRange_FullWidth() {
+        assertEquals(DirtyRows.ALL, DirtyRows.range(0, 63));
+    }
+
+    @Test
+    void testRowsPastSixtyThree_ShareLastBit() {
+        assertEquals(Long.MIN_VALUE, DirtyRows.range(70, 80));
+        assertTrue(DirtyRows.isDirty(Long.MIN_VALUE, 100));
+        assertFalse(DirtyRows.isDirty(Long.MIN_VALUE, 10));
+    }
+}
@@ -0,0 +1,153 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for GameSession.
+ * Tests the game rules without any user interface.
+ */
+class GameSessionTest {
+
+    private GameSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new GameSession(new SimpleBoard(25, 10), 10);
+        session.start();
+    }
+
+    @Test
+    void testMoveDown_ByUser_AwardsOnePoint() {
+        ClearRow result = session.moveDown(EventSource.USER);
+
+        assertNull(result, "Brick should move down on an empty board");
+        assertEquals(1, session.getBoard().getScore().getValue());
+    }
+
+    @Test
+    void testMoveDown_ByThread_AwardsNothing() {
+        session.moveDown(EventSource.THREAD);
+
+        assertEquals(0, session.getBoard().getScore().getValue());
+    }
+
+    @Test
+    void testMoveDown_WhenLanded_LocksBrick() {
+        ClearRow result = null;
+        while (result == null) {
+            result = session.moveDown(EventSource.THREAD);
+        }
+
+        assertEquals(1, session.getPiecesPlaced());
+        assertEquals(0, result.getLinesRemoved());
+    }
+
+    @Test
+    void testHardDrop_UntilGameOver() {
+        int drops = 0;
+        while (!session.isGameOver() && drops < 1000) {
+            session.hardDrop();
+            drops++;
+        }
+
+        assertTrue(session.isGameOver(), "Stacking in the middle should end the game");
+        assertEquals(drops, session.getPiecesPlaced());
+    }
+
+    @Test
+    void testNewGame_ResetsCounters() {
+        session.hardDrop();
+        session.getBoard().getScore().add(100);
+
+        session.newGame();
+
+        assertEquals(0, session.getPiecesPlaced());
+        assertEquals(0, session.getTotalLines());
+        assertEquals(1, session.getLevel());
+        assertEquals(0, session.getBoard().getScore().getValue());
+        assertFalse(session.isGameOver());
+    }
+
+    @Test
+    void testPlace_LocksAtTargetColumn() {
+        Board board = session.getBoard();
+        int rotation = board.getCurrentRotation();
+
+        session.place(rotation, 0, 1);
+
+        assertEquals(1, session.getPiecesPlaced());
+        int[][] matrix = board.getBoardMatrix();
+        boolean found = false;
+        for (int[] row : matrix) {
+            for (int col = 0; col < 4; col++) {
+                found |= row[col] != 0;
+            }
+        }
+        assertTrue(found, "Brick should lock on the left edge");
+    }
+
+    @Test
+    void testPlace_BlockedTarget_DropsInPlace() {
+        Board board = session.getBoard();
+
+        session.place(board.getCurrentRotation(), -10, 1);
+
+        assertEquals(1, session.getPiecesPlaced());
+        assertFalse(session.isGameOver());
+    }
+
+    @Test
+    void testFall_MovesSeveralRows() {
+        int y = session.getBoard().getBrickY();
+
+        assertNull(session.fall(5));
+        assertEquals(y + 5, session.getBoard().getBrickY());
+        assertEquals(0, session.getBoard().getScore().getValue(), "Gravity should not score");
+    }
+
+    @Test
+    void testFall_StopsOnStackThenLocks() {
+        Board board = session.getBoard();
+
+        assertNull(session.fall(100), "First fall should land the brick");
+        assertEquals(board.getGhostY(), board.getBrickY());
+
+        ClearRow result = session.fall(100);
+        assertNotNull(result, "A resting brick should lock");
+        assertEquals(1, session.getPiecesPlaced());
+    }
+
+    @Test
+    void testLockDelay_GroundedBrickWaitsForTimer() {
+        session.setLockDelay(new LockDelay(1_000, 15));
+        session.fall(100);
+
+        assertNull(session.fall(1), "A blocked fall should not lock with lock delay");
+        assertNull(session.update(0), "Touching down starts the timer");
+        assertNull(session.update(999));
+        assertNotNull(session.update(1_000));
+        assertEquals(1, session.getPiecesPlaced());
+    }
+
+    @Test
+    void testLockDelay_SlideRestartsTimer() {
+        session.setLockDelay(new LockDelay(1_000, 15));
+        session.fall(100);
+        session.update(0);
+
+        session.update(900);
+        assertTrue(session.moveLeft());
+        assertNull(session.update(1_500), "Sliding should restart the timer");
+        assertNotNull(session.update(1_900));
+    }
+
+    @Test
+    void testLockDelay_Off_LocksOnBlockedFall() {
+        session.fall(100);
+
+        assertNull(session.update(1_000_000), "Without lock delay update does nothing");
+        assertNotNull(session.fall(1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LockDelay.
+ * Tests the timer, move resets and step resets.
+ */
+class LockDelayTest {
+
+    private static final long DELAY = 500;
+
+    private LockDelay lockDelay;
+
+    @BeforeEach
+    void setUp() {
+        lockDelay = new LockDelay(DELAY, 3);
+        lockDelay.start(1);
+    }
+
+    @Test
+    void testShouldLock_Airborne_NeverLocks() {
+        assertFalse(lockDelay.shouldLock(false, 0));
+        assertFalse(lockDelay.shouldLock(false, 10_000));
+    }
+
+    @Test
+    void testShouldLock_AfterDelay_Locks() {
+        assertFalse(lockDelay.shouldLock(true, 100), "Touching down starts the timer");
+        assertFalse(lockDelay.shouldLock(true, 100 + DELAY - 1));
+        assertTrue(lockDelay.shouldLock(true, 100 + DELAY));
+    }
+
+    @Test
+    void testMoved_RestartsTimer() {
+        lockDelay.shouldLock(true, 0);
+        lockDelay.moved(1, 400);
+
+        assertFalse(lockDelay.shouldLock(true, DELAY));
+        assertTrue(lockDelay.shouldLock(true, 400 + DELAY));
+        assertEquals(1, lockDelay.getResets());
+    }
+
+    @Test
+    void testMoved_AfterCap_StopsRestarting() {
+        lockDelay.shouldLock(true, 0);
+        for (int i = 1; i <= 5; i++) {
+            lockDelay.moved(1, i * 100);
+        }
+
+        assertEquals(3, lockDelay.getResets());
+        // The third reset at 300 was the last one
+        assertTrue(lockDelay.shouldLock(true, 300 + DELAY));
+    }
+
+    @Test
+    void testMoved_LowerRow_ResetsCount() {
+        lockDelay.shouldLock(true, 0);
+        lockDelay.moved(1, 100);
+        lockDelay.moved(1, 200);
+        lockDelay.moved(2, 300);
+
+        assertEquals(0, lockDelay.getResets());
+        assertFalse(lockDelay.shouldLock(true, 300), "Landing on the new row starts a fresh timer");
+        assertTrue(lockDelay.shouldLock(true, 300 + DELAY));
+    }
+
+    @Test
+    void testMoved_BeforeTouchDown_DoesNotCount() {
+        lockDelay.moved(1, 100);
+        lockDelay.moved(1, 200);
+
+        assertEquals(0, lockDelay.getResets());
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.model;
 
+import com.comp2042.model.bricks.BrickShapes;
+import com.comp2042.model.bricks.PieceShape;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
@@ -190,4 +192,71 @@ class MatrixOperationsTest {
         assertEquals(1, originalList.get(0)[0][0]);
         assertEquals(999, copiedList.get(0)[0][0]);
     }
+
+    @Test
+    void testClearFullRows_ReturnsMaskOfClearedRows() {
+        // Fill rows 7 and 9, leave row 8 with a gap
+        for (int j = 0; j < testMatrix[0].length; j++) {
+            testMatrix[7][j] = 1;
+            testMatrix[9][j] = 1;
+            testMatrix[8][j] = j == 0 ? 0 : 3;
+        }
+
+        int cleared = MatrixOperations.clearFullRows(testMatrix, 6, 9);
+
+        // Bit i stands for row 6 + i
+        assertEquals(0b1010, cleared);
+    }
+
+    @Test
+    void testClearFullRows_CompactsRowsByReference() {
+        int[] survivor = testMatrix[8];
+        int[] fullRow = testMatrix[9];
+        testMatrix[8][4] = 3;
+        for (int j = 0; j < testMatrix[0].length; j++) {
+            testMatrix[9][j] = 1;
+        }
+
+        MatrixOperations.clearFullRows(testMatrix, 8, 9);
+
+        // The surviving row moved down and the cleared row was reused empty at the top
+        assertSame(survivor, testMatrix[9]);
+        assertSame(fullRow, testMatrix[0]);
+        assertEquals(3, testMatrix[9][4]);
+        for (int cell : testMatrix[0]) {
+            assertEquals(0, cell);
+        }
+    }
+
+    @Test
+    void testClearFullRows_OnlyScansGivenRange() {
+        for (int j = 0; j < testMatrix[0].length; j++) {
+            testMatrix[9][j] = 1;
+        }
+
+        int cleared = MatrixOperations.clearFullRows(testMatrix, 5, 8);
+
+        assertEquals(0, cleared);
+        assertEquals(1, testMatrix[9][0]);
+    }
+
+    @Test
+    void testClearFullRows_RangeWiderThanMask_Throws() {
+        int[][] tall = new int[40][10];
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixOperations.clearFullRows(tall, 0, 39));
+    }
+
+    @Test
+    void testMergeInPlace_WritesBrickCells() {
+        PieceShape shape = BrickShapes.shape(BrickShapes.O, 0);
+
+        MatrixOperations.mergeInPlace(testMatrix, shape, 2, 2);
+
+        assertEquals(4, testMatrix[3][3]);
+        assertEquals(4, testMatrix[3][4]);
+        assertEquals(4, testMatrix[4][3]);
+        assertEquals(4, testMatrix[4][4]);
+        assertEquals(0, testMatrix[2][2]);
+    }
 }
@@ -6,7 +6,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Test class for Score model.
- * Tests score tracking and property binding functionality.
+ * Tests score tracking and change notification.
  */
 class ScoreTest {
 
@@ -19,13 +19,13 @@ class ScoreTest {
 
     @Test
     void testInitialScore_IsZero() {
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getValue());
     }
 
     @Test
     void testAdd_IncreasesScore() {
         score.add(100);
-        assertEquals(100, score.scoreProperty().get());
+        assertEquals(100, score.getValue());
     }
 
     @Test
@@ -34,7 +34,7 @@ class ScoreTest {
         score.add(30);
         score.add(20);
 
-        assertEquals(100, score.scoreProperty().get());
+        assertEquals(100, score.getValue());
     }
 
     @Test
@@ -42,7 +42,7 @@ class ScoreTest {
         score.add(100);
         score.add(-30);
 
-        assertEquals(70, score.scoreProperty().get());
+        assertEquals(70, score.getValue());
     }
 
     @Test
@@ -50,20 +50,20 @@ class ScoreTest {
         score.add(500);
         score.reset();
 
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getValue());
     }
 
     @Test
-    void testScoreProperty_IsObservable() {
+    void testListener_IsNotifiedOfChanges() {
         final int[] observedValue = {0};
 
-        score.scoreProperty().addListener((obs, oldVal, newVal) -> {
-            observedValue[0] = newVal.intValue();
-        });
+        score.setListener(value -> observedValue[0] = value);
 
         score.add(250);
-
         assertEquals(250, observedValue[0]);
+
+        score.reset();
+        assertEquals(0, observedValue[0]);
     }
 
     @Test
@@ -73,7 +73,7 @@ class ScoreTest {
         score.add(200);
         score.reset();
 
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getValue());
     }
 
     @Test
@@ -81,6 +81,6 @@ class ScoreTest {
         score.add(100);
         score.add(0);
 
-        assertEquals(100, score.scoreProperty().get());
+        assertEquals(100, score.getValue());
     }
 }
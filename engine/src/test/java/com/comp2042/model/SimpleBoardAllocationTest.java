@@ -0,0 +1,130 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class for the allocation behaviour of SimpleBoard.
+ * Uses the per-thread allocation counters to check that moving and rotating
+ * the brick does not create garbage once the brick has spawned, and that
+ * view data does not copy the brick shapes.
+ */
+class SimpleBoardAllocationTest {
+
+    private static final int MOVES = 10_000;
+    // Windows measured per test; the quietest one is checked, as JIT compiler
+    // and TLAB work on the thread can land in any single window
+    private static final int WINDOWS = 5;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private SimpleBoard board;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Allocation counters are not available on this JVM");
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        board = new SimpleBoard(25, 10);
+        board.createNewBrick();
+
+        // Warm up every measured path, so class loading, compilation and the
+        // first counter read are not measured
+        playMoves(MOVES);
+        playDrops(MOVES);
+        readViews(MOVES);
+        allocatedBytes();
+    }
+
+    @Test
+    void testMoves_AllocateNothing() {
+        assertEquals(0, fewestBytes(() -> playMoves(MOVES)), "Moving and rotating the brick should not allocate");
+    }
+
+    @Test
+    void testMoveDown_AllocatesNothing() {
+        assertEquals(0, fewestBytes(() -> playDrops(MOVES)), "Moving the brick down should not allocate");
+    }
+
+    @Test
+    void testGetViewData_CopiesNoShapes() {
+        // One small ViewData per call; copying the brick matrices would cost hundreds of bytes
+        long perCall = fewestBytes(() -> readViews(MOVES)) / MOVES;
+        assertTrue(perCall <= 64, "View data should share the brick shapes, allocated " + perCall);
+    }
+
+    /**
+     * Measures a run of moves several times.
+     *
+     * @param moves the moves to measure
+     * @return the fewest bytes allocated by one run
+     */
+    private long fewestBytes(Runnable moves) {
+        long fewest = Long.MAX_VALUE;
+        for (int i = 0; i < WINDOWS; i++) {
+            long before = allocatedBytes();
+            moves.run();
+            fewest = Math.min(fewest, allocatedBytes() - before);
+        }
+        return fewest;
+    }
+
+    /**
+     * Plays a mix of sideways moves and rotations in place.
+     *
+     * @param count number of moves to make
+     */
+    private void playMoves(int count) {
+        for (int i = 0; i < count; i++) {
+            switch (i & 3) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.rotateLeftBrick();
+                case 2 -> board.moveBrickRight();
+                default -> board.rotateLeftBrick();
+            }
+        }
+    }
+
+    /**
+     * Moves the brick down, putting it back at the spawn when it lands,
+     * so the ghost is recomputed along the way.
+     *
+     * @param count number of moves to make
+     */
+    private void playDrops(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!board.moveBrickDown()) {
+                board.moveBrickTo(board.getCurrentRotation(), SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y);
+            }
+        }
+    }
+
+    /**
+     * Reads the view data the GUI asks for after every move.
+     *
+     * @param count number of reads
+     */
+    private void readViews(int count) {
+        for (int i = 0; i < count; i++) {
+            if (board.getViewData().getBrickShape() == null) {
+                fail("The brick should have a shape");
+            }
+        }
+    }
+
+    /**
+     * Reads the number of bytes allocated so far by the test thread.
+     *
+     * @return allocated bytes
+     */
+    private long allocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
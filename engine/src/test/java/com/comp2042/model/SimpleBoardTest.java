@@ -0,0 +1,63 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SimpleBoard.
+ * Runs the shared board tests, plus the column tops and row scans only
+ * SimpleBoard keeps.
+ */
+class SimpleBoardTest extends BoardContractTest {
+
+    @Override
+    protected Board createBoard(BrickGenerator generator) {
+        return new SimpleBoard(25, 10, generator);
+    }
+
+    @Test
+    void testClearRows_NoMerge_ScansEveryRow() {
+        int[][] matrix = board.getBoardMatrix();
+        Arrays.fill(matrix[24], 1);
+
+        ClearRow result = board.clearRows();
+
+        assertEquals(1, result.getLinesRemoved());
+        assertEquals(1 << 24, result.getClearedRows() << result.getFirstRow());
+        for (int cell : board.getBoardMatrix()[24]) {
+            assertEquals(0, cell);
+        }
+    }
+
+    @Test
+    void testGetColumnHeight_TracksMergeAndNewGame() {
+        SimpleBoard simple = (SimpleBoard) board;
+        for (int c = 0; c < 10; c++) {
+            assertEquals(0, simple.getColumnHeight(c));
+        }
+
+        board.hardDrop();
+        board.mergeBrickToBackground();
+
+        int[][] matrix = board.getBoardMatrix();
+        for (int c = 0; c < 10; c++) {
+            int expected = 0;
+            for (int r = 0; r < matrix.length; r++) {
+                if (matrix[r][c] != 0) {
+                    expected = matrix.length - r;
+                    break;
+                }
+            }
+            assertEquals(expected, simple.getColumnHeight(c));
+        }
+
+        board.newGame();
+        for (int c = 0; c < 10; c++) {
+            assertEquals(0, simple.getColumnHeight(c));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042.model;
+
+import com.comp2042.model.bricks.BrickShapes;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Zobrist.
+ * Tests that hashes follow the cells and tell positions apart.
+ */
+class ZobristTest {
+
+    @Test
+    void testRow_MatchesCellKeys() {
+        assertEquals(0, Zobrist.row(3, 0));
+        assertEquals(Zobrist.cell(3, 0) ^ Zobrist.cell(3, 5), Zobrist.row(3, 0b100001));
+    }
+
+    @Test
+    void testStack_FillingAndEmptyingACellIsOneXor() {
+        int[][] matrix = new int[25][10];
+        long empty = Zobrist.stack(matrix);
+        matrix[20][4] = 2;
+
+        assertEquals(empty ^ Zobrist.cell(20, 4), Zobrist.stack(matrix));
+        matrix[20][4] = 0;
+        assertEquals(empty, Zobrist.stack(matrix));
+    }
+
+    @Test
+    void testBrick_DiffersFromSameCellsLocked() {
+        PieceShape o = BrickShapes.shape(BrickShapes.O, 0);
+        int[][] matrix = new int[25][10];
+        MatrixOperations.mergeInPlace(matrix, o, 3, 20);
+
+        assertNotEquals(Zobrist.stack(matrix), Zobrist.brick(o, 3, 20));
+        assertNotEquals(Zobrist.brick(o, 3, 20), Zobrist.brick(o, 4, 20));
+    }
+
+    @Test
+    void testHash_FollowsBrickAndHold() {
+        SimpleBoard board = new SimpleBoard(25, 10, new RandomBrickGenerator(7));
+        board.newGame();
+        long start = Zobrist.hash(board);
+
+        assertEquals(start, Zobrist.hash(board), "Hashing must not change with time");
+        board.moveBrickLeft();
+        long moved = Zobrist.hash(board);
+        assertNotEquals(start, moved);
+        board.moveBrickRight();
+        assertEquals(start, Zobrist.hash(board));
+
+        board.holdBrick();
+        assertNotEquals(start, Zobrist.hash(board));
+    }
+
+    @Test
+    void testQueueAndHold_HaveDistinctKeys() {
+        assertNotEquals(Zobrist.queue(1), Zobrist.queue(2));
+        assertEquals(0, Zobrist.hold(null));
+        assertNotEquals(Zobrist.hold(BrickShapes.shape(BrickShapes.T, 0)), Zobrist.hold(BrickShapes.shape(BrickShapes.S, 0)));
+    }
+}
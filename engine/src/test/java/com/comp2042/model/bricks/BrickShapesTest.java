@@ -0,0 +1,72 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BrickShapes registry and PieceShape tables.
+ * Tests that the precomputed data matches the brick matrices.
+ */
+class BrickShapesTest {
+
+    @Test
+    void testRotationCounts_MatchBrickMatrices() {
+        assertEquals(2, BrickShapes.rotationCount(BrickShapes.I));
+        assertEquals(4, BrickShapes.rotationCount(BrickShapes.J));
+        assertEquals(4, BrickShapes.rotationCount(BrickShapes.L));
+        assertEquals(1, BrickShapes.rotationCount(BrickShapes.O));
+        assertEquals(2, BrickShapes.rotationCount(BrickShapes.S));
+        assertEquals(4, BrickShapes.rotationCount(BrickShapes.T));
+        assertEquals(2, BrickShapes.rotationCount(BrickShapes.Z));
+    }
+
+    @Test
+    void testEveryRotation_HasFourCells() {
+        for (int id = 0; id < BrickShapes.PIECE_COUNT; id++) {
+            for (PieceShape shape : BrickShapes.rotations(id)) {
+                assertEquals(4, shape.getCellCount());
+                assertEquals(id + 1, shape.getColorId());
+            }
+        }
+    }
+
+    @Test
+    void testCells_MatchMatrix() {
+        PieceShape shape = BrickShapes.shape(BrickShapes.T, 0);
+        int[][] matrix = shape.getMatrix();
+
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            assertEquals(6, matrix[shape.getCellY(i)][shape.getCellX(i)]);
+        }
+    }
+
+    @Test
+    void testBoundingBoxAndBottom_TBrickPointingUp() {
+        // {0,0,0,0}, {6,6,6,0}, {0,6,0,0}, {0,0,0,0}
+        PieceShape shape = BrickShapes.shape(BrickShapes.T, 0);
+
+        assertEquals(0, shape.getMinX());
+        assertEquals(2, shape.getMaxX());
+        assertEquals(1, shape.getMinY());
+        assertEquals(2, shape.getMaxY());
+        assertEquals(1, shape.getBottom(0));
+        assertEquals(2, shape.getBottom(1));
+        assertEquals(1, shape.getBottom(2));
+        assertEquals(-1, shape.getBottom(3));
+        assertEquals(0b0111, shape.getRowMask(1));
+        assertEquals(0b0010, shape.getRowMask(2));
+    }
+
+    @Test
+    void testGetRotations_SharedBetweenInstances() {
+        assertSame(new IBrick().getRotations(), new IBrick().getRotations());
+    }
+
+    @Test
+    void testGetMatrix_ReturnsCopy() {
+        PieceShape shape = BrickShapes.shape(BrickShapes.O, 0);
+        shape.getMatrix()[1][1] = 0;
+
+        assertEquals(4, shape.getMatrix()[1][1]);
+    }
+}
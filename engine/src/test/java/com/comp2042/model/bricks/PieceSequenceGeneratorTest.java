@@ -0,0 +1,166 @@
+package com.comp2042.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the seeded brick generators.
+ * Tests determinism, look-ahead and the rules of each strategy.
+ */
+class PieceSequenceGeneratorTest {
+
+    private static int[] take(PieceSequenceGenerator generator, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = generator.nextPieceId();
+        }
+        return ids;
+    }
+
+    @Test
+    void testSameSeed_GivesSameSequence() {
+        assertArrayEquals(take(BagBrickGenerator.sevenBag(5), 500), take(BagBrickGenerator.sevenBag(5), 500));
+        assertArrayEquals(take(new HistoryBrickGenerator(6, 5), 500), take(new HistoryBrickGenerator(6, 5), 500));
+        assertArrayEquals(take(new RandomBrickGenerator(5), 500), take(new RandomBrickGenerator(5), 500));
+    }
+
+    @Test
+    void testSameSeed_OnOtherThreads_GivesSameSequence() throws Exception {
+        int[] expected = take(BagBrickGenerator.fourteenBag(11), 1000);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = pool.submit(() -> take(BagBrickGenerator.fourteenBag(11), 1000));
+            }
+            for (Future<?> future : futures) {
+                assertArrayEquals(expected, (int[]) future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSetSeed_RestartsSequence() {
+        PieceSequenceGenerator generator = new HistoryBrickGenerator(6, 3);
+        int[] first = take(generator, 100);
+
+        generator.setSeed(3);
+
+        assertArrayEquals(first, take(generator, 100));
+        assertEquals(3, generator.getSeed());
+    }
+
+    @Test
+    void testPeek_MatchesLaterDraws() {
+        PieceSequenceGenerator generator = BagBrickGenerator.sevenBag(9);
+        generator.nextPieceId();
+
+        int[] peeked = new int[1000];
+        for (int i = 0; i < peeked.length; i++) {
+            peeked[i] = generator.peekPieceId(i);
+        }
+
+        assertArrayEquals(peeked, take(generator, peeked.length));
+    }
+
+    @Test
+    void testGetBrick_ReturnsSharedInstances() {
+        PieceSequenceGenerator generator = new RandomBrickGenerator(1);
+        int id = generator.peekPieceId(0);
+
+        assertSame(BrickShapes.brick(id), generator.getBrick());
+        assertSame(generator.peekBrick(0), generator.getNextBrick());
+    }
+
+    @Test
+    void testSevenBag_DealsEachPieceOncePerBag() {
+        int[] ids = take(BagBrickGenerator.sevenBag(42), 7 * 50);
+
+        for (int bag = 0; bag < 50; bag++) {
+            int seen = 0;
+            for (int i = 0; i < 7; i++) {
+                seen |= 1 << ids[bag * 7 + i];
+            }
+            assertEquals(0x7F, seen, "Bag " + bag + " should hold all seven pieces");
+        }
+    }
+
+    @Test
+    void testFourteenBag_DealsEachPieceTwicePerBag() {
+        int[] ids = take(BagBrickGenerator.fourteenBag(42), 14 * 50);
+
+        for (int bag = 0; bag < 50; bag++) {
+            int[] counts = new int[BrickShapes.PIECE_COUNT];
+            for (int i = 0; i < 14; i++) {
+                counts[ids[bag * 14 + i]]++;
+            }
+            for (int count : counts) {
+                assertEquals(2, count);
+            }
+        }
+    }
+
+    @Test
+    void testHistory_NeverOpensWithSZOrO() {
+        for (long seed = 0; seed < 200; seed++) {
+            int first = new HistoryBrickGenerator(4, seed).nextPieceId();
+
+            assertNotEquals(BrickShapes.S, first);
+            assertNotEquals(BrickShapes.Z, first);
+            assertNotEquals(BrickShapes.O, first);
+        }
+    }
+
+    @Test
+    void testHistory_RepeatsLessThanUniform() {
+        int[] history = take(new HistoryBrickGenerator(6, 8), 10000);
+        int[] uniform = take(new RandomBrickGenerator(8), 10000);
+
+        assertTrue(repeats(history) * 3 < repeats(uniform),
+                "History generator should rarely repeat the previous piece");
+    }
+
+    @Test
+    void testCopyFrom_ContinuesSameSequence() {
+        PieceSequenceGenerator[][] pairs = {
+                {new RandomBrickGenerator(4), new RandomBrickGenerator(99)},
+                {BagBrickGenerator.fourteenBag(4), BagBrickGenerator.fourteenBag(99)},
+                {new HistoryBrickGenerator(6, 4), new HistoryBrickGenerator(6, 99)}
+        };
+        for (PieceSequenceGenerator[] pair : pairs) {
+            PieceSequenceGenerator original = pair[0];
+            take(original, 1003);
+            // Look far ahead so the copy has to take a grown buffer
+            original.peekPieceId(700);
+
+            PieceSequenceGenerator copy = pair[1];
+            copy.copyFrom(original);
+
+            assertEquals(original.getPiecesDrawn(), copy.getPiecesDrawn());
+            assertArrayEquals(take(original, 2000), take(copy, 2000), original.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void testCopyFrom_OtherBagSize_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BagBrickGenerator.sevenBag(1).copyFrom(BagBrickGenerator.fourteenBag(1)));
+    }
+
+    private static int repeats(int[] ids) {
+        int count = 0;
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,129 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.loop.InputAction;
+import com.comp2042.loop.VirtualClock;
+import com.comp2042.model.GameSession;
+import com.comp2042.model.LockDelay;
+import com.comp2042.model.bricks.Randomizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ReplayPlayer.
+ * Checks that seeking through keyframes lands on the same game as playing
+ * straight through.
+ */
+class ReplayPlayerTest {
+
+    private static final InputAction[] MOVES = {
+            InputAction.LEFT, InputAction.RIGHT, InputAction.ROTATE,
+            InputAction.SOFT_DROP, InputAction.HARD_DROP, InputAction.HOLD
+    };
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private FrameSnapshot recorded;
+
+    @BeforeEach
+    void record() throws IOException {
+        file = dir.resolve("game" + ReplayFormat.EXTENSION);
+        ReplayHeader header = new ReplayHeader(Randomizer.BAG7, 99L, 25, 10, 120, 10,
+                LockDelay.DEFAULT_DELAY_NANOS, LockDelay.DEFAULT_MAX_RESETS);
+        GameSession session = header.createSession();
+        GameLoop loop = new GameLoop(session, new VirtualClock(120));
+
+        Random random = new Random(11);
+        try (ReplayRecorder recorder = ReplayRecorder.open(file, header)) {
+            loop.setRecorder(recorder);
+            for (int i = 0; i < 1_500; i++) {
+                // Start over on game over so the replay spans several games
+                loop.submit(session.isGameOver() ? InputAction.NEW_GAME : MOVES[random.nextInt(MOVES.length)], 0);
+                loop.advance(1 + random.nextInt(20));
+            }
+            // End on an input so the replay is exactly as long as the recording
+            loop.submit(InputAction.LEFT, 0);
+            loop.advance(1);
+        }
+        recorded = loop.latestFrame();
+    }
+
+    private static void assertSameGame(FrameSnapshot expected, FrameSnapshot actual) {
+        assertEquals(expected.getTick(), actual.getTick());
+        assertEquals(expected.getGameId(), actual.getGameId());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getLines(), actual.getLines());
+        assertEquals(expected.getBrickX(), actual.getBrickX());
+        assertEquals(expected.getBrickY(), actual.getBrickY());
+        assertSame(expected.getBrick(), actual.getBrick());
+        assertSame(expected.getNext(0), actual.getNext(0));
+        assertSame(expected.getHeld(), actual.getHeld());
+        assertArrayEquals(expected.getCells(), actual.getCells());
+    }
+
+    @Test
+    void testOpen_BuildsKeyframes() throws IOException {
+        ReplayPlayer player = ReplayPlayer.open(file, 10);
+
+        assertTrue(player.getKeyframeCount() > 2, "Expected a keyframe every 10 pieces");
+        assertEquals(0, player.getTick());
+        assertEquals(recorded.getTick(), player.getLength());
+    }
+
+    @Test
+    void testSeek_ToEnd_MatchesRecordedGame() throws IOException {
+        ReplayPlayer player = ReplayPlayer.open(file, 10);
+
+        player.seek(player.getLength() / 2);
+        player.seek(player.getLength());
+
+        assertTrue(player.isAtEnd());
+        assertSameGame(recorded, player.latestFrame());
+    }
+
+    @Test
+    void testSeek_BackAndForth_MatchesStraightPlaythrough() throws IOException {
+        ReplayPlayer player = ReplayPlayer.open(file, 10);
+        // A single keyframe means every seek forward just plays on
+        ReplayPlayer straight = ReplayPlayer.open(file, Integer.MAX_VALUE);
+        assertEquals(1, straight.getKeyframeCount());
+
+        long length = player.getLength();
+        long[] targets = {length / 2, length / 5, length - 1, 3, length / 3, length / 3 + 1, 0};
+        for (long target : targets) {
+            player.seek(target);
+            ReplayPlayer reference = ReplayPlayer.open(file, Integer.MAX_VALUE);
+            reference.seek(target);
+            assertSameGame(reference.latestFrame(), player.latestFrame());
+        }
+    }
+
+    @Test
+    void testUpdate_PlaysAtSpeed() throws IOException {
+        ReplayPlayer player = ReplayPlayer.open(file, 10);
+
+        player.setSpeed(4);
+        player.update(1_000_000_000L);
+        assertEquals(4 * 120, player.getTick());
+
+        player.setPlaying(false);
+        player.update(1_000_000_000L);
+        assertEquals(4 * 120, player.getTick());
+
+        player.setSpeed(1e9);
+        assertEquals(ReplayPlayer.MAX_SPEED, player.getSpeed());
+        player.setPlaying(true);
+        player.update(60_000_000_000L);
+        assertTrue(player.isAtEnd());
+    }
+}
@@ -0,0 +1,144 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.loop.InputAction;
+import com.comp2042.loop.VirtualClock;
+import com.comp2042.model.LockDelay;
+import com.comp2042.model.bricks.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for replay recording and reading.
+ * Records a game played through a GameLoop and plays it back.
+ */
+class ReplayRecorderTest {
+
+    private static final InputAction[] MOVES = {
+            InputAction.LEFT, InputAction.RIGHT, InputAction.ROTATE,
+            InputAction.SOFT_DROP, InputAction.HARD_DROP, InputAction.HOLD
+    };
+
+    @TempDir
+    Path dir;
+
+    private static ReplayHeader header() {
+        return new ReplayHeader(Randomizer.BAG7, 1234L, 25, 10, 120, 10,
+                LockDelay.DEFAULT_DELAY_NANOS, LockDelay.DEFAULT_MAX_RESETS);
+    }
+
+    @Test
+    void testVarLong_RoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        long[] values = {0, 1, 127, 128, 300, Long.MAX_VALUE, -1};
+        for (long value : values) {
+            ReplayFormat.putVarLong(buffer, value);
+        }
+        buffer.flip();
+
+        for (long value : values) {
+            assertEquals(value, ReplayFormat.getVarLong(buffer));
+        }
+        assertEquals(1 + 1 + 1 + 2 + 2 + 9 + 10, buffer.limit());
+    }
+
+    @Test
+    void testHeader_RoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(ReplayHeader.BYTES);
+        header().write(buffer);
+        assertFalse(buffer.hasRemaining(), "BYTES should match what is written");
+        buffer.flip();
+
+        ReplayHeader read = ReplayHeader.read(buffer);
+        assertEquals(Randomizer.BAG7, read.getRandomizer());
+        assertEquals(1234L, read.getSeed());
+        assertEquals(LockDelay.DEFAULT_DELAY_NANOS, read.getLockDelayNanos());
+    }
+
+    @Test
+    void testHeader_NotAReplay_Throws() {
+        ByteBuffer buffer = ByteBuffer.allocate(ReplayHeader.BYTES);
+
+        assertThrows(IllegalArgumentException.class, () -> ReplayHeader.read(buffer));
+    }
+
+    @Test
+    void testRecord_ThenPlayBack_GivesSameGame() throws IOException {
+        Path file = dir.resolve("game" + ReplayFormat.EXTENSION);
+        ReplayHeader header = header();
+        GameLoop loop = new GameLoop(header.createSession(), new VirtualClock(120));
+
+        Random random = new Random(5);
+        try (ReplayRecorder recorder = ReplayRecorder.open(file, header)) {
+            loop.setRecorder(recorder);
+            for (int i = 0; i < 2_000; i++) {
+                loop.submit(MOVES[random.nextInt(MOVES.length)], 0);
+                loop.advance(1 + random.nextInt(20));
+            }
+        }
+        FrameSnapshot recorded = loop.latestFrame();
+
+        ReplayReader reader = new ReplayReader(ByteBuffer.wrap(Files.readAllBytes(file)));
+        GameLoop replay = new GameLoop(reader.getHeader().createSession(), new VirtualClock(120));
+        int events = 0;
+        while (reader.next()) {
+            replay.advance((int) (reader.getTick() - replay.getTick()));
+            replay.submit(reader.getAction(), 0);
+            events++;
+        }
+        replay.advance((int) (recorded.getTick() - replay.getTick()));
+        FrameSnapshot played = replay.latestFrame();
+
+        assertEquals(2_000, events);
+        assertEquals(recorded.getTick(), played.getTick());
+        assertEquals(recorded.getScore(), played.getScore());
+        assertEquals(recorded.getLines(), played.getLines());
+        assertArrayEquals(recorded.getCells(), played.getCells());
+        // Ticks are at most 20 apart, so each event should fit in one or two bytes
+        assertTrue(Files.size(file) < ReplayHeader.BYTES + 2 * events);
+    }
+
+    @Test
+    void testClose_AfterWriteFailed_Throws() throws Exception {
+        FileChannel channel = FileChannel.open(dir.resolve("broken" + ReplayFormat.EXTENSION),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        ReplayRecorder recorder = new ReplayRecorder(channel, header());
+        // The writer's next flush hits a closed channel
+        channel.close();
+        for (int tick = 0; tick < 100; tick++) {
+            recorder.record(tick, InputAction.LEFT);
+        }
+        Thread.sleep(ReplayRecorder.FLUSH_NANOS * 3 / 1_000_000);
+
+        assertThrows(IOException.class, recorder::close);
+        // Only the first close reports
+        recorder.close();
+    }
+
+    @Test
+    void testReader_TruncatedFile_StopsAtLastCompleteEvent() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        header().write(buffer);
+        ReplayFormat.putVarLong(buffer, ReplayFormat.encodeEvent(3, InputAction.LEFT));
+        // Start of a two-byte value with its second byte missing
+        buffer.put((byte) 0x80);
+        buffer.flip();
+
+        ReplayReader reader = new ReplayReader(buffer);
+        assertTrue(reader.next());
+        assertEquals(3, reader.getTick());
+        assertEquals(InputAction.LEFT, reader.getAction());
+        assertFalse(reader.next());
+    }
+}
@@ -0,0 +1,152 @@
+package com.comp2042.replay;
+
+import com.comp2042.loop.GameLoop;
+import com.comp2042.loop.InputAction;
+import com.comp2042.loop.VirtualClock;
+import com.comp2042.model.GameSession;
+import com.comp2042.model.LockDelay;
+import com.comp2042.model.bricks.Randomizer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ReplayVerifier.
+ * Records games, some with false claims, and checks the verdicts.
+ */
+class ReplayVerifierTest {
+
+    private static final InputAction[] MOVES = {
+            InputAction.LEFT, InputAction.RIGHT, InputAction.ROTATE,
+            InputAction.SOFT_DROP, InputAction.HARD_DROP, InputAction.HOLD
+    };
+
+    @TempDir
+    Path dir;
+
+    private final ReplayVerifier verifier = new ReplayVerifier(ReplayVerifier.DEFAULT_MAX_HOURS);
+
+    /**
+     * Plays random moves until the game ends and records it.
+     *
+     * @param name the file name
+     * @param seed the brick and move seed
+     * @param scoreBonus added to the claimed score, 0 for an honest claim
+     * @param withResult false to leave the result out, as after a crash
+     * @return the true result
+     */
+    private ReplayResult record(String name, long seed, int scoreBonus, boolean withResult) throws IOException {
+        ReplayHeader header = new ReplayHeader(Randomizer.BAG7, seed, 25, 10, 120, 10,
+                LockDelay.DEFAULT_DELAY_NANOS, LockDelay.DEFAULT_MAX_RESETS);
+        GameSession session = header.createSession();
+        GameLoop loop = new GameLoop(session, new VirtualClock(120));
+
+        Random random = new Random(seed);
+        try (ReplayRecorder recorder = ReplayRecorder.open(dir.resolve(name + ReplayFormat.EXTENSION), header)) {
+            loop.setRecorder(recorder);
+            while (!session.isGameOver()) {
+                loop.submit(MOVES[random.nextInt(MOVES.length)], 0);
+                loop.advance(1 + random.nextInt(20));
+            }
+            // Idle a little after the end, as a player reading the score would
+            loop.advance(30);
+            ReplayResult result = ReplayResult.of(loop);
+            if (withResult) {
+                recorder.setResult(new ReplayResult(result.getTicks(), result.getScore() + scoreBonus,
+                        result.getLines(), result.getGameOverTick()));
+            }
+            return result;
+        }
+    }
+
+    @Test
+    void testVerify_HonestReplay_IsVerified() throws IOException {
+        ReplayResult recorded = record("honest", 1, 0, true);
+
+        ReplayVerifier.Report report = verifier.verify(dir.resolve("honest" + ReplayFormat.EXTENSION));
+
+        assertEquals(ReplayVerifier.Verdict.VERIFIED, report.getVerdict());
+        assertEquals(recorded.getScore(), report.getActual().getScore());
+        assertEquals(recorded.getGameOverTick(), report.getClaimed().getGameOverTick());
+        assertTrue(recorded.getGameOverTick() >= 0);
+    }
+
+    @Test
+    void testVerify_InflatedScore_IsMismatch() throws IOException {
+        record("cheat", 2, 1000, true);
+
+        ReplayVerifier.Report report = verifier.verify(dir.resolve("cheat" + ReplayFormat.EXTENSION));
+
+        assertEquals(ReplayVerifier.Verdict.MISMATCH, report.getVerdict());
+        assertEquals(report.getActual().getScore() + 1000, report.getClaimed().getScore());
+    }
+
+    @Test
+    void testVerify_NoResult_IsReported() throws IOException {
+        record("crash", 3, 0, false);
+
+        ReplayVerifier.Report report = verifier.verify(dir.resolve("crash" + ReplayFormat.EXTENSION));
+
+        assertEquals(ReplayVerifier.Verdict.NO_RESULT, report.getVerdict());
+        assertNull(report.getClaimed());
+    }
+
+    @Test
+    void testVerify_Garbage_IsUnreadable() throws IOException {
+        Path file = dir.resolve("junk" + ReplayFormat.EXTENSION);
+        Files.write(file, new byte[] {1, 2, 3});
+
+        assertEquals(ReplayVerifier.Verdict.UNREADABLE, verifier.verify(file).getVerdict());
+    }
+
+    @Test
+    void testRun_Directory_StreamsEveryReport() throws IOException {
+        for (int i = 0; i < 12; i++) {
+            record("game" + i, 10 + i, i % 4 == 0 ? 5 : 0, true);
+        }
+        Files.write(dir.resolve("junk" + ReplayFormat.EXTENSION), new byte[] {1, 2, 3});
+        Files.writeString(dir.resolve("notes.txt"), "not a replay");
+
+        StringWriter out = new StringWriter();
+        ReplayVerifier.Summary summary = verifier.run(dir, 3, out);
+
+        assertEquals(13, summary.getReplays());
+        assertEquals(9, summary.getCount(ReplayVerifier.Verdict.VERIFIED));
+        assertEquals(3, summary.getCount(ReplayVerifier.Verdict.MISMATCH));
+        assertEquals(1, summary.getCount(ReplayVerifier.Verdict.UNREADABLE));
+        assertEquals(13, out.toString().lines().count());
+        assertTrue(summary.getReplaysPerSecond() > 0);
+    }
+
+    @Test
+    void testRun_WriteFails_Throws() throws IOException {
+        for (int i = 0; i < 12; i++) {
+            record("game" + i, 10 + i, 0, true);
+        }
+        IOException diskFull = new IOException("disk full");
+        Writer out = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw diskFull;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        assertSame(diskFull, assertThrows(IOException.class, () -> verifier.run(dir, 3, out)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.comp2042.service;
+
+import com.comp2042.model.bricks.BrickShapes;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.service.BoardFeatures.Feature;
+import com.comp2042.sim.PlacementEnumerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BoardEvaluator.
+ * Checks the weighted sum and that the El-Tetris weights play well.
+ */
+class BoardEvaluatorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testConstructor_WrongWeightCount_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new BoardEvaluator(1.0, 2.0));
+    }
+
+    @Test
+    void testEvaluate_IsWeightedSumOfFeatures() {
+        double[] weights = new double[BoardEvaluator.WEIGHT_COUNT];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = i + 1;
+        }
+        BoardEvaluator evaluator = new BoardEvaluator(weights);
+        weights[0] = 100;
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        PieceShape s = BrickShapes.shape(BrickShapes.S, 0);
+        features.place(s, 3, ROWS - 1 - s.getMaxY());
+
+        double expected = 0;
+        for (Feature feature : Feature.values()) {
+            expected += evaluator.getWeight(feature) * features.get(feature);
+        }
+        assertEquals(expected, evaluator.evaluate(features), 1e-9);
+        assertEquals(1, evaluator.getWeight(Feature.LANDING_HEIGHT), "Weights should be copied");
+    }
+
+    @Test
+    void testElTetris_GreedyPlayClearsManyLines() {
+        BoardEvaluator evaluator = BoardEvaluator.elTetris();
+        BoardFeatures board = new BoardFeatures(ROWS, COLUMNS);
+        BoardFeatures trial = new BoardFeatures(ROWS, COLUMNS);
+        PlacementEnumerator enumerator = new PlacementEnumerator(ROWS, COLUMNS);
+        int[][] matrix = new int[ROWS][COLUMNS];
+        Random random = new Random(4);
+
+        int lines = 0;
+        for (int piece = 0; piece < 500; piece++) {
+            for (int r = 0; r < ROWS; r++) {
+                for (int c = 0; c < COLUMNS; c++) {
+                    matrix[r][c] = (board.getRow(r) >>> c) & 1;
+                }
+            }
+            PieceShape[] rotations = BrickShapes.rotations(random.nextInt(BrickShapes.PIECE_COUNT));
+            enumerator.load(matrix);
+            int count = enumerator.enumerate(rotations, 0, 4, 1);
+            assertTrue(count > 0, "El-Tetris should not top out in 500 pieces");
+
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                trial.copyFrom(board);
+                trial.place(rotations[enumerator.getRotation(i)], enumerator.getX(i), enumerator.getY(i));
+                double score = evaluator.evaluate(trial);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            lines += board.place(rotations[enumerator.getRotation(best)], enumerator.getX(best), enumerator.getY(best));
+        }
+        assertTrue(lines > 150, "Expected most pieces to end in cleared lines, got " + lines + " lines");
+    }
+}
@@ -0,0 +1,199 @@
+package com.comp2042.service;
+
+import com.comp2042.model.bricks.BrickShapes;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.sim.PlacementEnumerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class for BoardFeatures.
+ * Checks feature values on small stacks and that incremental updates match
+ * counting from scratch.
+ */
+class BoardFeaturesTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    /**
+     * Builds a board matrix from rows drawn as strings, bottom row last.
+     */
+    private static int[][] matrix(String... bottomRows) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int i = 0; i < bottomRows.length; i++) {
+            String row = bottomRows[i];
+            for (int c = 0; c < COLUMNS; c++) {
+                matrix[ROWS - bottomRows.length + i][c] = row.charAt(c) == '#' ? 1 : 0;
+            }
+        }
+        return matrix;
+    }
+
+    private static int[][] matrixOf(BoardFeatures features) {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int r = 0; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                matrix[r][c] = (features.getRow(r) >>> c) & 1;
+            }
+        }
+        return matrix;
+    }
+
+    @Test
+    void testLoad_EmptyBoard() {
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+
+        assertEquals(0, features.getHoles());
+        assertEquals(0, features.getAggregateHeight());
+        assertEquals(2 * ROWS, features.getRowTransitions(), "Each empty row meets both walls");
+        assertEquals(COLUMNS, features.getColumnTransitions(), "Each empty column meets the floor");
+        assertEquals(0, features.getWellSums());
+    }
+
+    @Test
+    void testLoad_CountsHeightsAndHoles() {
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.load(matrix(
+                "##........",
+                "#.#......#",
+                "###.....##"));
+
+        assertEquals(1, features.getHoles());
+        assertEquals(3, features.getHeight(1));
+        assertEquals(2, features.getHeight(2));
+        assertEquals(3 + 3 + 2 + 1 + 2, features.getAggregateHeight());
+        assertEquals(1 + 2 + 1 + 1, features.getBumpiness());
+    }
+
+    @Test
+    void testLoad_CountsWellsAndTransitions() {
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.load(matrix(
+                "##.#######",
+                "##.#######"));
+
+        assertEquals(1 + 2, features.getWellSums());
+        assertEquals(2 * (ROWS - 2) + 2 + 2, features.getRowTransitions());
+        assertEquals(9 + 1, features.getColumnTransitions(), "Nine stack tops and the open floor of the well");
+        assertEquals(0, features.getHoles());
+    }
+
+    @Test
+    void testPlace_ClearsLinesAndCountsErodedCells() {
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.load(matrix(
+                "##.#######",
+                "##.#######"));
+        PieceShape vertical = BrickShapes.shape(BrickShapes.I, 1);
+        int x = 2 - vertical.getMinX();
+        int y = ROWS - 1 - vertical.getMaxY();
+        assertTrue(features.fits(vertical, x, y));
+
+        assertEquals(2, features.place(vertical, x, y));
+
+        assertEquals(2, features.getLinesCleared());
+        assertEquals(2 * 2, features.getErodedCells());
+        assertEquals(2.5, features.getLandingHeight());
+        assertEquals(2, features.getAggregateHeight(), "Two cells of the I-brick are left");
+        assertEquals(0, features.getHoles());
+    }
+
+    @Test
+    void testPlace_MatchesCountingFromScratch() {
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        BoardFeatures fresh = new BoardFeatures(ROWS, COLUMNS);
+        PlacementEnumerator enumerator = new PlacementEnumerator(ROWS, COLUMNS);
+        Random random = new Random(21);
+
+        for (int move = 0; move < 2_000; move++) {
+            int piece = random.nextInt(BrickShapes.PIECE_COUNT);
+            enumerator.load(matrixOf(features));
+            int count = enumerator.enumerate(BrickShapes.rotations(piece), 0, 4, 1);
+            if (count == 0) {
+                features.load(new int[ROWS][COLUMNS]);
+                continue;
+            }
+            int i = random.nextInt(count);
+            features.place(BrickShapes.shape(piece, enumerator.getRotation(i)), enumerator.getX(i), enumerator.getY(i));
+
+            fresh.load(matrixOf(features));
+            for (BoardFeatures.Feature feature : BoardFeatures.Feature.values()) {
+                if (feature == BoardFeatures.Feature.LANDING_HEIGHT || feature == BoardFeatures.Feature.ERODED_CELLS
+                        || feature == BoardFeatures.Feature.LINES_CLEARED) {
+                    continue;
+                }
+                assertEquals(fresh.get(feature), features.get(feature), feature + " after move " + move);
+            }
+            assertEquals(fresh.getHash(), features.getHash(), "Hash after move " + move);
+        }
+    }
+
+    @Test
+    void testCopyFrom_GivesSameFeatures() {
+        BoardFeatures features = new BoardFeatures(ROWS, COLUMNS);
+        features.load(matrix(
+                "##........",
+                "#.#......#",
+                "###.....##"));
+        BoardFeatures copy = new BoardFeatures(ROWS, COLUMNS);
+
+        copy.copyFrom(features);
+
+        for (BoardFeatures.Feature feature : BoardFeatures.Feature.values()) {
+            assertEquals(features.get(feature), copy.get(feature), feature.name());
+        }
+        PieceShape o = BrickShapes.shape(BrickShapes.O, 0);
+        copy.place(o, 4 - o.getMinX(), ROWS - 1 - o.getMaxY());
+        assertNotEquals(features.getAggregateHeight(), copy.getAggregateHeight(), "The copy must not share rows");
+    }
+
+    @Test
+    void testPlaceAndEvaluate_AllocateNothing() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Allocation counters are not available on this JVM");
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        BoardFeatures start = new BoardFeatures(ROWS, COLUMNS);
+        start.load(matrix(
+                "##........",
+                "#.#......#",
+                "###.....##"));
+        BoardFeatures work = new BoardFeatures(ROWS, COLUMNS);
+        BoardEvaluator evaluator = BoardEvaluator.elTetris();
+        PieceShape t = BrickShapes.shape(BrickShapes.T, 0);
+        int y = 10 - t.getMinY();
+
+        // Warm up so class loading and the first counter read are not measured
+        long id = Thread.currentThread().threadId();
+        double total = 0;
+        for (int i = 0; i < 3; i++) {
+            total += placeAll(start, work, evaluator, t, y);
+        }
+        threadBean.getThreadAllocatedBytes(id);
+        long before = threadBean.getThreadAllocatedBytes(id);
+        total += placeAll(start, work, evaluator, t, y);
+        long after = threadBean.getThreadAllocatedBytes(id);
+
+        assertEquals(0, after - before, "Placing and evaluating should not allocate");
+        assertTrue(total < 0);
+    }
+
+    private static double placeAll(BoardFeatures start, BoardFeatures work, BoardEvaluator evaluator,
+                                   PieceShape shape, int y) {
+        double total = 0;
+        for (int i = 0; i < 10_000; i++) {
+            work.copyFrom(start);
+            work.place(shape, i % 8 - shape.getMinX(), y);
+            total += evaluator.evaluate(work);
+        }
+        return total;
+    }
+}
@@ -68,4 +68,24 @@ class LevelServiceTest {
         int level = LevelService.calculateLevel(100, 10);
         assertEquals(11, level, "Level should be 11 with 100 lines cleared");
     }
+
+    @Test
+    void testGravityFor_LevelOne_IsOneRowPer400Ms() {
+        // 400 ms is 24 frames at 60 per second
+        assertEquals(LevelService.GRAVITY_ONE / 24.0, LevelService.gravityFor(1), 1.0);
+    }
+
+    @Test
+    void testGravityFor_NeverSlowsDown() {
+        for (int level = 2; level <= LevelService.MAX_GRAVITY_LEVEL; level++) {
+            assertTrue(LevelService.gravityFor(level) >= LevelService.gravityFor(level - 1),
+                    "Level " + level + " should not be slower than the one before");
+        }
+    }
+
+    @Test
+    void testGravityFor_HighLevels_Are20G() {
+        assertEquals(LevelService.GRAVITY_20G, LevelService.gravityFor(LevelService.MAX_GRAVITY_LEVEL));
+        assertEquals(LevelService.GRAVITY_20G, LevelService.gravityFor(500));
+    }
 }
@@ -0,0 +1,93 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BatchRunner.
+ * Tests that batches are complete and deterministic.
+ */
+class BatchRunnerTest {
+
+    @Test
+    void testRun_WritesOneRowPerGame() {
+        BatchRunner runner = new BatchRunner(25, 10, 10, 500, LowestPlacementPolicy::new);
+        StringWriter out = new StringWriter();
+
+        BatchRunner.Summary summary = runner.run(200, 42L, 2, out);
+
+        assertEquals(200, summary.getGames());
+        assertEquals(200, out.toString().lines().count());
+        assertTrue(summary.getPieces() > 0, "Games should place pieces");
+    }
+
+    @Test
+    void testRun_SameSeed_GivesSameResults() {
+        BatchRunner runner = new BatchRunner(25, 10, 10, 500, LowestPlacementPolicy::new);
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+
+        runner.run(150, 7L, 1, first);
+        runner.run(150, 7L, 3, second);
+
+        assertArrayEquals(sortedRows(first), sortedRows(second),
+                "Thread count should not change the results");
+    }
+
+    @Test
+    void testPlayOne_MatchesBatchRow() {
+        BatchRunner runner = new BatchRunner(25, 10, 10, 500, Tournament.policy("random"));
+        StringWriter out = new StringWriter();
+        runner.run(10, 99L, 1, out);
+
+        String row = runner.playOne(3, 99L).toCsv();
+
+        assertTrue(out.toString().lines().anyMatch(row::equals));
+    }
+
+    @Test
+    void testPlayOne_MatchesBotRunnerOnSameBoard() {
+        BatchRunner runner = new BatchRunner(20, 8, 5, 300, LowestPlacementPolicy::new);
+        long seed = BatchRunner.seedFor(5L, 2);
+
+        GameResult batch = runner.playOne(2, 5L);
+        GameResult single = BotRunner.play(new LowestPlacementPolicy(), new RandomBrickGenerator(), 20, 8, 5, seed, 300);
+
+        assertEquals(single.getLines(), batch.getLines());
+        assertEquals(single.getPieces(), batch.getPieces());
+        assertEquals(single.getScore(), batch.getScore());
+    }
+
+    @Test
+    void testLowestPolicy_ClearsLines() {
+        BatchRunner runner = new BatchRunner(25, 10, 10, 1000, LowestPlacementPolicy::new);
+
+        GameResult result = runner.playOne(0, 1L);
+
+        assertTrue(result.getLines() > 0, "Greedy policy should clear some lines");
+    }
+
+    @Test
+    void testRun_TakesAnyPolicy() {
+        BatchRunner runner = new BatchRunner(25, 10, 10, 200, Tournament.policy("greedy"));
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+
+        BatchRunner.Summary summary = runner.run(8, 5L, 2, first);
+        runner.run(8, 5L, 1, second);
+
+        assertTrue(summary.getLines() > 8 * 20, "El-Tetris should clear far more lines than the lowest policy");
+        assertArrayEquals(sortedRows(first), sortedRows(second));
+    }
+
+    private static String[] sortedRows(StringWriter out) {
+        String[] rows = out.toString().lines().toArray(String[]::new);
+        Arrays.sort(rows);
+        return rows;
+    }
+}
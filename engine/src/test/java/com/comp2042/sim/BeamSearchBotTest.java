@@ -0,0 +1,119 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.GameSession;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import com.comp2042.service.BoardEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for BeamSearchBot.
+ * Tests that it plays well, that threads do not change its moves and that
+ * it keeps to its time budget.
+ */
+class BeamSearchBotTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private BeamSearchBot bot(int width, long budgetNanos, ForkJoinPool pool) {
+        return new BeamSearchBot(ROWS, COLUMNS, BoardEvaluator.elTetris(), width, BeamSearchBot.DEFAULT_PREVIEWS,
+                budgetNanos, pool);
+    }
+
+    @Test
+    void testPlay_ClearsLinesWithoutToppingOut() {
+        GameResult result = BotRunner.play(bot(16, 0, null), new RandomBrickGenerator(), 5, 300);
+
+        assertEquals(300, result.getPieces());
+        // 300 bricks are 1200 cells, so a bot that keeps the stack low clears over 100 lines
+        assertTrue(result.getLines() > 100, "lines: " + result.getLines());
+    }
+
+    @Test
+    void testChoose_SameMoveWithAndWithoutThreads() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            BeamSearchBot serial = bot(32, 0, null);
+            BeamSearchBot parallel = bot(32, 0, pool);
+            SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(11));
+            GameSession session = new GameSession(board, 10);
+            session.newGame();
+
+            for (int i = 0; i < 60 && !session.isGameOver(); i++) {
+                Placement a = serial.choose(board);
+                Placement b = parallel.choose(board);
+                assertEquals(a.getRotation(), b.getRotation());
+                assertEquals(a.getX(), b.getX());
+                assertEquals(a.getY(), b.getY());
+                assertEquals(a.isHold(), b.isHold());
+                assertEquals(serial.getLastDepth(), parallel.getLastDepth());
+
+                if (a.isHold()) {
+                    session.hold();
+                }
+                session.place(a.getRotation(), a.getX(), a.getY());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testTable_DoesNotChangePlay() {
+        TranspositionTable table = TranspositionTable.ofMegabytes(1);
+        BeamSearchBot cached = new BeamSearchBot(ROWS, COLUMNS, BoardEvaluator.elTetris(), 16,
+                BeamSearchBot.DEFAULT_PREVIEWS, 0, null, table);
+
+        GameResult plain = BotRunner.play(bot(16, 0, null), new RandomBrickGenerator(), 9, 150);
+        GameResult withTable = BotRunner.play(cached, new RandomBrickGenerator(), 9, 150);
+
+        assertEquals(plain.getScore(), withTable.getScore());
+        assertEquals(plain.getLines(), withTable.getLines());
+        assertTrue(cached.getCacheHits() > 0, "The next move should reuse this move's deeper levels");
+    }
+
+    @Test
+    void testChoose_DropsTransposedPositions() {
+        BeamSearchBot bot = bot(64, 0, null);
+        GameResult result = BotRunner.play(bot, new RandomBrickGenerator(), 13, 50);
+
+        assertEquals(50, result.getPieces());
+        assertTrue(bot.getTranspositions() > 0, "Hold and move order should reach some positions twice");
+    }
+
+    @Test
+    void testChoose_LooksPastCurrentBrick() {
+        BeamSearchBot bot = bot(16, 0, null);
+        // A seed whose beam still disagrees on the first move after the last preview brick
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(1));
+        new GameSession(board, 10).newGame();
+
+        assertNotNull(bot.choose(board));
+        // Without a budget or an early agreement every preview brick is searched
+        assertEquals(BeamSearchBot.DEFAULT_PREVIEWS + 1, bot.getLastDepth());
+        assertTrue(bot.getEvaluations() > 0);
+    }
+
+    @Test
+    void testChoose_StaysNearBudget() {
+        long budget = 2_000_000L;
+        BeamSearchBot bot = bot(1024, budget, null);
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(4));
+        new GameSession(board, 10).newGame();
+        bot.choose(board);
+
+        long start = System.nanoTime();
+        Placement placement = bot.choose(board);
+        long elapsed = System.nanoTime() - start;
+
+        assertNotNull(placement);
+        // The first level always finishes, and a level is dropped once time runs out
+        assertTrue(bot.getLastDepth() < BeamSearchBot.DEFAULT_PREVIEWS + 1);
+        assertTrue(elapsed < budget * 25, "elapsed: " + elapsed);
+    }
+}
@@ -0,0 +1,148 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.MatrixOperations;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.bricks.BrickShapes;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PlacementEnumerator.
+ * Tests plain drops, slides under overhangs and symmetric rotations.
+ */
+class PlacementEnumeratorTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private final PlacementEnumerator enumerator = new PlacementEnumerator(ROWS, COLUMNS);
+
+    private int enumerate(int[][] matrix, int pieceId) {
+        enumerator.load(matrix);
+        return enumerator.enumerate(BrickShapes.rotations(pieceId), 0, 4, 1);
+    }
+
+    /**
+     * Checks whether a placement fills a cell.
+     */
+    private boolean fills(int pieceId, int i, int row, int column) {
+        PieceShape shape = BrickShapes.shape(pieceId, enumerator.getRotation(i));
+        for (int c = 0; c < shape.getCellCount(); c++) {
+            if (enumerator.getY(i) + shape.getCellY(c) == row && enumerator.getX(i) + shape.getCellX(c) == column) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void testEnumerate_EmptyBoard_OnePlacementPerRotationAndColumn() {
+        int[][] empty = new int[ROWS][COLUMNS];
+
+        assertEquals(17, enumerate(empty, BrickShapes.I));
+        assertEquals(34, enumerate(empty, BrickShapes.T));
+        assertEquals(34, enumerate(empty, BrickShapes.J));
+        assertEquals(9, enumerate(empty, BrickShapes.O));
+        assertEquals(17, enumerate(empty, BrickShapes.S));
+        assertEquals(17, enumerate(empty, BrickShapes.Z));
+    }
+
+    @Test
+    void testEnumerate_EveryPlacementRestsAndIsDistinct() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        Random random = new Random(3);
+        for (int r = 12; r < ROWS; r++) {
+            for (int c = 0; c < COLUMNS; c++) {
+                matrix[r][c] = random.nextInt(3) == 0 ? 1 : 0;
+            }
+        }
+
+        for (int piece = 0; piece < BrickShapes.PIECE_COUNT; piece++) {
+            int count = enumerate(matrix, piece);
+            Set<String> cells = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                PieceShape shape = BrickShapes.shape(piece, enumerator.getRotation(i));
+                int x = enumerator.getX(i);
+                int y = enumerator.getY(i);
+                assertFalse(MatrixOperations.intersect(matrix, shape, x, y), "Placement must fit");
+                assertTrue(MatrixOperations.intersect(matrix, shape, x, y + 1), "Placement must rest");
+
+                StringBuilder key = new StringBuilder();
+                for (int c = 0; c < shape.getCellCount(); c++) {
+                    key.append(y + shape.getCellY(c)).append(':').append(x + shape.getCellX(c)).append(' ');
+                }
+                assertTrue(cells.add(key.toString()), "Placements must cover different cells");
+            }
+        }
+    }
+
+    @Test
+    void testEnumerate_FindsTuckUnderOverhang() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        // A roof over columns 0-5, open underneath and to the right
+        for (int c = 0; c <= 5; c++) {
+            matrix[20][c] = 1;
+        }
+
+        int count = enumerate(matrix, BrickShapes.O);
+
+        boolean tucked = false;
+        for (int i = 0; i < count; i++) {
+            tucked |= fills(BrickShapes.O, i, 24, 0);
+        }
+        assertTrue(tucked, "The O-brick should slide under the roof to the far wall");
+    }
+
+    @Test
+    void testEnumerate_SkipsClosedCavity() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        // Columns 0-3 of the bottom rows are walled in on every side
+        for (int c = 0; c <= 4; c++) {
+            matrix[20][c] = 1;
+        }
+        for (int r = 20; r < ROWS; r++) {
+            matrix[r][4] = 1;
+        }
+
+        for (int piece = 0; piece < BrickShapes.PIECE_COUNT; piece++) {
+            int count = enumerate(matrix, piece);
+            for (int i = 0; i < count; i++) {
+                for (int r = 21; r < ROWS; r++) {
+                    for (int c = 0; c < 4; c++) {
+                        assertFalse(fills(piece, i, r, c), "Nothing can get into a closed cavity");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testEnumerate_BlockedStart_FindsNothing() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int c = 0; c < COLUMNS; c++) {
+            matrix[2][c] = 1;
+        }
+
+        assertEquals(0, enumerate(matrix, BrickShapes.T));
+    }
+
+    @Test
+    void testEnumerate_Board_PlacementsCanBeLocked() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS, new RandomBrickGenerator(8L));
+        board.createNewBrick();
+
+        int count = enumerator.enumerate(board);
+
+        assertTrue(count > 0);
+        Placement last = enumerator.getPlacement(count - 1);
+        assertTrue(board.moveBrickTo(last.getRotation(), last.getX(), last.getY()));
+        assertEquals(board.getBrickY(), board.getGhostY(), "The placement should already be resting");
+    }
+}
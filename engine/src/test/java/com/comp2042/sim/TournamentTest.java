@@ -0,0 +1,73 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Tournament.
+ * Tests shared brick sequences, ratings and repeatability.
+ */
+class TournamentTest {
+
+    private static Tournament tournament() {
+        Tournament tournament = new Tournament(80, RandomBrickGenerator::new);
+        tournament.addEntrant("random", Tournament.policy("random"));
+        tournament.addEntrant("lowest", Tournament.policy("lowest"));
+        tournament.addEntrant("greedy", Tournament.policy("greedy"));
+        return tournament;
+    }
+
+    @Test
+    void testRun_PlaysEveryPairEachRound() {
+        List<Tournament.Match> matches = tournament().run(4, 1);
+
+        assertEquals(4 * 3, matches.size());
+        assertEquals(0, matches.get(0).getFirst());
+        assertEquals(1, matches.get(0).getSecond());
+        assertEquals(3, matches.get(matches.size() - 1).getRound());
+    }
+
+    @Test
+    void testRun_SamePolicyOnSameSequenceDraws() {
+        Tournament tournament = new Tournament(80, RandomBrickGenerator::new);
+        tournament.addEntrant("a", Tournament.policy("lowest"));
+        tournament.addEntrant("b", Tournament.policy("lowest"));
+
+        for (Tournament.Match match : tournament.run(10, 2)) {
+            assertEquals(0.5, match.getOutcome(), "Both games see the same bricks");
+        }
+        assertEquals(Tournament.INITIAL_RATING, tournament.getRating(0), 1e-9);
+    }
+
+    @Test
+    void testRun_StrongerPolicyRatesHigher() {
+        Tournament tournament = tournament();
+        tournament.run(10, 3);
+
+        assertTrue(tournament.getRating(2) > tournament.getRating(1));
+        assertTrue(tournament.getRating(1) > tournament.getRating(0));
+        assertTrue(tournament.standings().lines().skip(1).findFirst().orElseThrow().contains("greedy"));
+    }
+
+    @Test
+    void testRun_SameSeedGivesSameRatings() {
+        Tournament first = tournament();
+        Tournament second = tournament();
+        first.run(6, 4);
+        second.run(6, 4);
+
+        for (int i = 0; i < first.getEntrantCount(); i++) {
+            assertEquals(first.getRating(i), second.getRating(i));
+        }
+    }
+
+    @Test
+    void testPolicy_UnknownNameThrows() {
+        assertThrows(IllegalArgumentException.class, () -> Tournament.policy("nope"));
+        assertNotNull(Tournament.policy("weights:-4.5;3.4;-3.2;-9.3;-7.9;-3.4;0;0;0").get());
+    }
+}
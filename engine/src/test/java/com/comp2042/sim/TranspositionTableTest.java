@@ -0,0 +1,103 @@
+package com.comp2042.sim;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for TranspositionTable.
+ * Tests lookups, replacement by age and depth, and sharing between threads.
+ */
+class TranspositionTableTest {
+
+    @Test
+    void testProbe_ReturnsStoredValue() {
+        TranspositionTable table = new TranspositionTable(1024);
+        table.store(12345L, -3.25, 1);
+
+        assertEquals(-3.25, table.probe(12345L));
+        assertTrue(Double.isNaN(table.probe(54321L)));
+        assertEquals(1024, table.getCapacity());
+    }
+
+    @Test
+    void testConstructor_RoundsDownToPowerOfTwo() {
+        assertEquals(512, new TranspositionTable(1000).getCapacity());
+        assertEquals(2 * 1024 * 1024 / TranspositionTable.ENTRY_BYTES,
+                TranspositionTable.ofMegabytes(2).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(1));
+    }
+
+    @Test
+    void testStore_ReplacesShallowerEntryInFullBucket() {
+        // Two entries, one bucket: every key shares it
+        TranspositionTable table = new TranspositionTable(2);
+        table.store(1L, 1.0, 5);
+        table.store(2L, 2.0, 1);
+        table.store(3L, 3.0, 3);
+
+        assertEquals(1.0, table.probe(1L));
+        assertTrue(Double.isNaN(table.probe(2L)), "The shallowest entry goes");
+        assertEquals(3.0, table.probe(3L));
+    }
+
+    @Test
+    void testStore_ReplacesOlderSearchFirst() {
+        TranspositionTable table = new TranspositionTable(2);
+        table.store(1L, 1.0, 9);
+        table.store(2L, 2.0, 9);
+        table.newSearch();
+        table.store(3L, 3.0, 1);
+        table.store(4L, 4.0, 1);
+
+        assertEquals(3.0, table.probe(3L));
+        assertEquals(4.0, table.probe(4L));
+    }
+
+    @Test
+    void testClear_EmptiesTable() {
+        TranspositionTable table = new TranspositionTable(64);
+        table.store(7L, 7.0, 1);
+        table.clear();
+
+        assertTrue(Double.isNaN(table.probe(7L)));
+    }
+
+    @Test
+    void testSharedBetweenThreads_NeverReturnsWrongValue() throws Exception {
+        TranspositionTable table = new TranspositionTable(256);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        AtomicInteger wrong = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(pool.submit(() -> {
+                    // Many keys per bucket, so threads keep overwriting each other
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = BatchRunner.seedFor(seed, i % 5_000);
+                        double value = table.probe(key);
+                        if (Double.isNaN(value)) {
+                            table.store(key, key % 1000, i & 7);
+                        } else if (value != key % 1000) {
+                            wrong.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, wrong.get());
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042.sim;
+
+import com.comp2042.model.bricks.Randomizer;
+import com.comp2042.service.BoardEvaluator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for WeightTuner.
+ * Tests that tuning is repeatable across thread counts and checkpoints.
+ */
+class WeightTunerTest {
+
+    private static WeightTuner tuner() {
+        return new WeightTuner(6, 2, 60, 3, Randomizer.RANDOM);
+    }
+
+    private static void assertSamePopulation(WeightTuner expected, WeightTuner actual) {
+        for (int i = 0; i < 6; i++) {
+            assertArrayEquals(expected.getCandidate(i), actual.getCandidate(i), "Candidate " + i);
+        }
+    }
+
+    @Test
+    void testFitness_GoodWeightsBeatBadOnes() {
+        WeightTuner tuner = tuner();
+        double[] good = new double[BoardEvaluator.WEIGHT_COUNT];
+        double[] bad = new double[BoardEvaluator.WEIGHT_COUNT];
+        for (int i = 0; i < good.length; i++) {
+            good[i] = BoardEvaluator.elTetris().getWeights()[i];
+            bad[i] = -good[i];
+        }
+
+        assertEquals(tuner.fitness(good, 0), tuner.fitness(good, 0), "Same generation, same games");
+        assertTrue(tuner.fitness(good, 0) > tuner.fitness(bad, 0));
+    }
+
+    @Test
+    void testStep_SameResultOnAnyThreadCount() {
+        WeightTuner serial = tuner();
+        WeightTuner parallel = tuner();
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool three = new ForkJoinPool(3);
+        try {
+            for (int g = 0; g < 2; g++) {
+                assertEquals(serial.step(one).getBest(), parallel.step(three).getBest());
+            }
+        } finally {
+            one.shutdown();
+            three.shutdown();
+        }
+        assertSamePopulation(serial, parallel);
+        assertEquals(2, serial.getHistory().size());
+    }
+
+    @Test
+    void testLoad_ResumesWhereCheckpointLeftOff(@TempDir Path dir) throws IOException {
+        Path checkpoint = dir.resolve("tuner.ckpt");
+        WeightTuner straight = tuner();
+        WeightTuner interrupted = tuner();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            straight.step(pool);
+            straight.step(pool);
+
+            interrupted.step(pool);
+            interrupted.save(checkpoint);
+            WeightTuner resumed = tuner();
+            resumed.load(checkpoint);
+            assertEquals(1, resumed.getGeneration());
+            assertEquals(1, resumed.getHistory().size());
+            resumed.step(pool);
+
+            assertSamePopulation(straight, resumed);
+            assertEquals(straight.getHistory().get(1).getBest(), resumed.getHistory().get(1).getBest());
+        } finally {
+            pool.shutdown();
+        }
+        assertFalse(Files.exists(dir.resolve("tuner.ckpt.tmp")));
+    }
+
+    @Test
+    void testLoad_RejectsOtherSettings(@TempDir Path dir) throws IOException {
+        Path checkpoint = dir.resolve("tuner.ckpt");
+        tuner().save(checkpoint);
+        WeightTuner other = new WeightTuner(6, 2, 60, 4, Randomizer.RANDOM);
+        WeightTuner otherBricks = new WeightTuner(6, 2, 60, 3, Randomizer.BAG7);
+
+        assertThrows(IllegalArgumentException.class, () -> other.load(checkpoint));
+        assertThrows(IllegalArgumentException.class, () -> otherBricks.load(checkpoint));
+    }
+}
@@ -2,6 +2,8 @@ package com.comp2042.app;
 
 import com.comp2042.controller.GameController;
 import com.comp2042.controller.GuiController;
+import com.comp2042.controller.ReplayController;
+import com.comp2042.controller.ThreadedGameController;
 import com.comp2042.config.GameConfig;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -10,6 +12,7 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ResourceBundle;
 
 /**
@@ -41,7 +44,13 @@ public class Main extends Application {
         primaryStage.setMaximized(false);
         primaryStage.setFullScreen(false);
         primaryStage.show();
-        new GameController(c);
+        if (!GameConfig.REPLAY_FILE.isEmpty()) {
+            ReplayController.start(c, Path.of(GameConfig.REPLAY_FILE));
+        } else if ("thread".equals(GameConfig.GAME_LOOP) || GameConfig.AUTOPLAY) {
+            ThreadedGameController.start(c);
+        } else {
+            new GameController(c);
+        }
     }
 
     /**
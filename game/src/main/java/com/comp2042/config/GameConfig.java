@@ -0,0 +1,67 @@
+package com.comp2042.config;
+
+/**
+ * Stores all game configuration constants.
+ * Contains settings for window size, brick size, and level progression.
+ */
+public final class GameConfig {
+
+    /** Width of the game window in pixels */
+    public static final int WINDOW_WIDTH = 500;
+
+    /** Height of the game window in pixels */
+    public static final int WINDOW_HEIGHT = 510;
+
+    /** Size of each brick block in pixels */
+    public static final int BRICK_SIZE = 20;
+
+    /** Corner arc of each brick block in pixels */
+    public static final double BRICK_ARC = 9;
+
+    /** Number of lines needed to advance to the next level */
+    public static final int LINES_PER_LEVEL = 10;
+
+    /**
+     * Board renderer to use: "canvas" draws each board on one Canvas,
+     * anything else uses one Rectangle node per cell.
+     * Set with -Dtetris.renderer=canvas.
+     */
+    public static final String RENDERER = System.getProperty("tetris.renderer", "nodes");
+
+    /**
+     * Where the game rules run: "thread" runs them on a game loop thread and
+     * hands frames to the FX thread, anything else runs them on the FX thread.
+     * Set with -Dtetris.loop=thread.
+     */
+    public static final String GAME_LOOP = System.getProperty("tetris.loop", "fx");
+
+    /** Ticks per second of the game clock that drives gravity */
+    public static final int TICKS_PER_SECOND = 120;
+
+    /**
+     * Folder that games on the game loop thread are recorded to as replays.
+     * Set with -Dtetris.replays=DIR, or to an empty string to turn recording off.
+     */
+    public static final String REPLAY_DIR = System.getProperty("tetris.replays", "replays");
+
+    /**
+     * Replay file to play back instead of starting a game, or empty to play.
+     * Set with -Dtetris.replay=FILE.
+     */
+    public static final String REPLAY_FILE = System.getProperty("tetris.replay", "");
+
+    /**
+     * Whether the bot plays from the start, as an attract mode.
+     * Always runs the game on the game loop thread. Set with -Dtetris.autoplay=true.
+     */
+    public static final boolean AUTOPLAY = Boolean.getBoolean("tetris.autoplay");
+
+    /** Bricks the bot places per second when it plays */
+    public static final int AUTOPLAY_PIECES_PER_SECOND = 8;
+
+    /** Time the bot may search per brick, in nanoseconds, kept under one tick of the loop */
+    public static final long AUTOPLAY_BUDGET_NANOS = 5_000_000L;
+
+    // Private constructor to prevent instantiation
+    private GameConfig() { }
+}
\ No newline at end of file
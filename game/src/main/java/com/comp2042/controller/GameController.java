@@ -0,0 +1,218 @@
+package com.comp2042.controller;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.*;
+import com.comp2042.service.BoardEvaluator;
+import com.comp2042.sim.BeamSearchBot;
+import com.comp2042.sim.Placement;
+import com.comp2042.sim.TranspositionTable;
+import com.comp2042.view.ObservableScore;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Main game controller that handles game logic and user input.
+ * Acts as a bridge between the game rules (GameSession) and the view.
+ * A beam search bot can take over on the clock ticks; it plays until the
+ * game is over.
+ */
+public class GameController implements InputEventListener {
+
+    private final GameSession session = new GameSession(new SimpleBoard(25, 10), GameConfig.LINES_PER_LEVEL);
+    private final Board board = session.getBoard();
+    private final GameView viewGuiController;
+    private final int ticksPerPiece = GameConfig.TICKS_PER_SECOND / GameConfig.AUTOPLAY_PIECES_PER_SECOND;
+    // Built the first time the bot is turned on
+    private BeamSearchBot bot;
+    private boolean autoplay = false;
+    private int autoplayWait = 0;
+
+    /**
+     * Creates a new game controller and initializes the game.
+     *
+     * @param c the view that handles the display
+     */
+    public GameController(GameView c) {
+        viewGuiController = c;
+        session.setLockDelay(new LockDelay());
+        session.start();
+        viewGuiController.setEventListener(this);
+        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
+        viewGuiController.bindScore(new ObservableScore(board.getScore()).scoreProperty());
+        viewGuiController.updateNextQueue(board.getNextQueueShapes());
+    }
+
+    /**
+     * Handles downward movement of the falling brick.
+     * If the brick cannot move down, it merges with the board and a new brick is created.
+     *
+     * @param event the movement event containing source information
+     * @return DownData containing cleared row info and updated view data
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        return afterDown(session.moveDown(event.getEventSource()));
+    }
+
+    /**
+     * Handles one clock tick.
+     * Locks a grounded brick whose lock delay ran out, otherwise lets gravity
+     * move it down.
+     *
+     * @param rows how many rows gravity moves the brick
+     * @param playNanos time played so far
+     * @return DownData containing cleared row info and updated view data, or null if nothing changed
+     */
+    @Override
+    public DownData onTickEvent(int rows, long playNanos) {
+        if (autoplay && !session.isGameOver()) {
+            return autoplayTick();
+        }
+        ClearRow clearRow = session.update(playNanos);
+        if (clearRow == null) {
+            if (rows == 0) {
+                return null;
+            }
+            clearRow = session.fall(rows);
+        }
+        return afterDown(clearRow);
+    }
+
+    /**
+     * Lets the bot place a brick once every few ticks.
+     * Gravity and lock delay are skipped while it plays.
+     *
+     * @return DownData containing cleared row info and updated view data, or null if nothing changed
+     */
+    private DownData autoplayTick() {
+        if (--autoplayWait > 0) {
+            return null;
+        }
+        autoplayWait = ticksPerPiece;
+        Placement placement = bot.choose(board);
+        if (placement == null) {
+            return afterDown(session.hardDrop());
+        }
+        if (placement.isHold()) {
+            onHoldEvent();
+        }
+        // The view counts the cleared lines when it handles the tick
+        return afterDown(session.place(placement.getRotation(), placement.getX(), placement.getY()));
+    }
+
+    /**
+     * Turns the bot on or off.
+     * The bot searches on the common fork-join pool within a few milliseconds,
+     * so the view keeps drawing while it plays.
+     */
+    @Override
+    public void onAutoplay() {
+        if (bot == null) {
+            bot = new BeamSearchBot(25, 10, BoardEvaluator.elTetris(), BeamSearchBot.DEFAULT_BEAM_WIDTH,
+                    BeamSearchBot.DEFAULT_PREVIEWS, GameConfig.AUTOPLAY_BUDGET_NANOS, ForkJoinPool.commonPool(),
+                    TranspositionTable.ofMegabytes(2));
+        }
+        autoplay = !autoplay;
+        autoplayWait = 0;
+    }
+
+    /**
+     * Redraws the board after a downward move that may have locked the brick.
+     *
+     * @param clearRow the clear result, or null if the brick only moved
+     * @return DownData containing cleared row info and updated view data
+     */
+    private DownData afterDown(ClearRow clearRow) {
+        if (clearRow != null) {
+            // Brick has landed
+            if (session.isGameOver()) {
+                viewGuiController.gameOver();
+            }
+
+            viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.pollDirtyRows());
+            viewGuiController.updateNextQueue(board.getNextQueueShapes());
+        }
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * Handles left movement of the brick.
+     *
+     * @param event the movement event
+     * @return updated view data for rendering
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        session.moveLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles right movement of the brick.
+     *
+     * @param event the movement event
+     * @return updated view data for rendering
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        session.moveRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles rotation of the brick.
+     *
+     * @param event the movement event
+     * @return updated view data for rendering
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        session.rotate();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the hold action where player swaps current brick with held brick.
+     *
+     * @return updated view data for rendering
+     */
+    @Override
+    public ViewData onHoldEvent() {
+        session.hold();
+        viewGuiController.updateHold(board.getHeldBrickShape());
+        // The first hold takes the next brick, which moves the queue on
+        viewGuiController.updateNextQueue(board.getNextQueueShapes());
+        return board.getViewData();
+    }
+
+    /**
+     * Handles hard drop action where brick instantly drops to the bottom.
+     * Awards bonus points based on distance dropped.
+     *
+     * @return DownData containing cleared row info and updated view data
+     */
+    @Override
+    public DownData onHardDropEvent() {
+        ClearRow clearRow = session.hardDrop();
+        viewGuiController.addLinesCleared(clearRow.getLinesRemoved());
+
+        if (session.isGameOver()) {
+            viewGuiController.gameOver();
+        }
+
+        viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.pollDirtyRows());
+        viewGuiController.updateNextQueue(board.getNextQueueShapes());
+
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * Resets the game state and starts a new game.
+     */
+    @Override
+    public void createNewGame() {
+        session.newGame();
+        viewGuiController.updateNextQueue(board.getNextQueueShapes());
+        viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.pollDirtyRows());
+    }
+}
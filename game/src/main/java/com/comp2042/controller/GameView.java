@@ -0,0 +1,86 @@
+package com.comp2042.controller;
+
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.model.ViewData;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+
+import java.util.List;
+
+/**
+ * Interface for the screen that displays a game.
+ * Lets GameController drive any view, not just GuiController.
+ */
+public interface GameView {
+
+    /**
+     * Sets the listener that receives player input.
+     *
+     * @param eventListener the listener to handle input events
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Builds the board display and starts the game timer.
+     *
+     * @param boardMatrix the game board state
+     * @param brick initial brick view data
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Shows the score and follows its changes.
+     *
+     * @param scoreProperty the score property to display
+     */
+    void bindScore(ReadOnlyIntegerProperty scoreProperty);
+
+    /**
+     * Redraws the rows of the background board that changed.
+     *
+     * @param board the current board matrix
+     * @param dirtyRows mask of the rows to redraw, see {@link com.comp2042.model.DirtyRows}
+     */
+    void refreshGameBackground(int[][] board, long dirtyRows);
+
+    /**
+     * Updates the preview of the next pieces.
+     *
+     * @param nextShapes list of upcoming brick shapes
+     */
+    void updateNextQueue(List<int[][]> nextShapes);
+
+    /**
+     * Updates the held piece display.
+     *
+     * @param shape the held brick shape, or null if no piece is held
+     */
+    void updateHold(int[][] shape);
+
+    /**
+     * Adds to the displayed lines cleared count.
+     *
+     * @param lines number of lines to add
+     */
+    void addLinesCleared(int lines);
+
+    /**
+     * Shows the game over state.
+     */
+    void gameOver();
+
+    /**
+     * Turns the view's own gravity timer on or off.
+     * Must be called before {@link #initGameView} to take effect at start.
+     *
+     * @param autoDrop false when something else drives gravity
+     */
+    void setAutoDrop(boolean autoDrop);
+
+    /**
+     * Draws a frame published by a game loop running on another thread.
+     * Only the parts that differ from the last drawn frame are redrawn.
+     *
+     * @param frame the frame to draw
+     */
+    void renderFrame(FrameSnapshot frame);
+}
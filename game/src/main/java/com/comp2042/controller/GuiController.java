@@ -1,16 +1,24 @@
 package com.comp2042.controller;
 
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.loop.GameClock;
+import com.comp2042.loop.Gravity;
+import com.comp2042.loop.NanoClock;
 import com.comp2042.media.BackgroundMusicService;
 import com.comp2042.model.*;
+import com.comp2042.model.bricks.PieceShape;
+import com.comp2042.view.BoardRenderer;
+import com.comp2042.view.CanvasBoardRenderer;
 import com.comp2042.view.GameOverPanel;
+import com.comp2042.view.NodeBoardRenderer;
 import com.comp2042.view.NotificationPanel;
+import com.comp2042.view.Palette;
 import com.comp2042.config.GameConfig;
 import com.comp2042.service.LevelService;
 import com.comp2042.media.BackgroundMediaService;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -19,9 +27,6 @@ import javafx.scene.Group;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.control.Label;
 import javafx.scene.control.Button;
 import javafx.scene.layout.AnchorPane;
@@ -41,7 +46,7 @@ import java.util.ResourceBundle;
  * Handles rendering, animations, user input, and UI updates.
  * This is the main view controller that connects the UI to the game logic.
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
 
     @FXML private GridPane gamePanel;
     @FXML private GridPane brickPanel;
@@ -66,21 +71,40 @@ public class GuiController implements Initializable {
     @FXML private MediaView backgroundVideo;
     @FXML private GameOverPanel gameOverPanel;
 
-    private Rectangle[][] displayMatrix;
-    private Rectangle[][] rectangles;
-    private Rectangle[][] ghostRectangles;
+    // Events never change, so one instance of each is reused for every key press and tick
+    private static final MoveEvent LEFT_EVENT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT_EVENT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE_EVENT = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent USER_DOWN_EVENT = new MoveEvent(EventType.DOWN, EventSource.USER);
 
-    // 4×4 preview grids for next pieces
-    private final Rectangle[][] nextMatrix1 = new Rectangle[4][4];
-    private final Rectangle[][] nextMatrix2 = new Rectangle[4][4];
-    private final Rectangle[][] nextMatrix3 = new Rectangle[4][4];
-
-    private final Rectangle[][] holdMatrix = new Rectangle[4][4];
+    private BoardRenderer renderer;
+    private Palette palette = Palette.CLASSIC;
 
     private InputEventListener eventListener;
-    private Timeline timeLine;
+    private AnimationTimer gravityTimer;
+    private final GameClock clock = new NanoClock(GameConfig.TICKS_PER_SECOND);
+    private final Gravity gravity = new Gravity(clock.getTickNanos());
+    // Time played, not counting pauses, which lock delay runs on
+    private long playNanos = 0;
     private int totalLinesCleared = 0;
     private int level = 1;
+    private boolean autoDrop = true;
+
+    // What the last rendered frame showed, so the next one only redraws what changed
+    private int[] frameStamps;
+    private boolean frameRepaint = true;
+    private int frameGameId = -1;
+    private PieceShape frameBrick;
+    private int frameBrickX;
+    private int frameBrickY;
+    private int frameGhostY;
+    private final PieceShape[] frameNext = new PieceShape[3];
+    private PieceShape frameHeld;
+    private int frameScore = -1;
+    private int frameLines = -1;
+    private int frameLevel = -1;
+    private int frameClearCount;
+    private boolean frameGameOver;
 
     private static MediaPlayer bgPlayer;
     private static MediaPlayer musicPlayer;
@@ -110,11 +134,13 @@ public class GuiController implements Initializable {
         // Set up keyboard input
         gamePanel.setOnKeyPressed(this::handleKeyPress);
 
-        // Initialize preview panels
-        setupPreviewPanel(nextPanel1, nextMatrix1);
-        setupPreviewPanel(nextPanel2, nextMatrix2);
-        setupPreviewPanel(nextPanel3, nextMatrix3);
-        setupPreviewPanel(holdPanel, holdMatrix);
+        // Initialize the board renderer and its preview panels
+        GridPane[] nextPanels = {nextPanel1, nextPanel2, nextPanel3};
+        if ("canvas".equals(GameConfig.RENDERER)) {
+            renderer = new CanvasBoardRenderer(gamePanel, brickPanel, ghostBrickPanel, nextPanels, holdPanel);
+        } else {
+            renderer = new NodeBoardRenderer(gamePanel, brickPanel, ghostBrickPanel, nextPanels, holdPanel);
+        }
 
         // Set up pause menu buttons
         btnResume.setOnAction(e -> resumeGame());
@@ -166,19 +192,19 @@ public class GuiController implements Initializable {
 
             // Left movement (Left arrow or A)
             if (e.getCode() == KeyCode.LEFT || e.getCode() == KeyCode.A)
-                refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+                refreshBrick(eventListener.onLeftEvent(LEFT_EVENT));
 
             // Right movement (Right arrow or D)
             if (e.getCode() == KeyCode.RIGHT || e.getCode() == KeyCode.D)
-                refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                refreshBrick(eventListener.onRightEvent(RIGHT_EVENT));
 
             // Rotate (Up arrow or W)
             if (e.getCode() == KeyCode.UP || e.getCode() == KeyCode.W)
-                refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+                refreshBrick(eventListener.onRotateEvent(ROTATE_EVENT));
 
             // Soft drop (Down arrow or S)
             if (e.getCode() == KeyCode.DOWN || e.getCode() == KeyCode.S)
-                moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+                moveDown(USER_DOWN_EVENT);
 
             // Hold piece (C key)
             if (e.getCode() == KeyCode.C) {
@@ -189,145 +215,103 @@ public class GuiController implements Initializable {
             // Hard drop (Space bar)
             if (e.getCode() == KeyCode.SPACE) {
                 DownData data = eventListener.onHardDropEvent();
-                handleClearRow(data.getClearRow());
-                refreshBrick(data.getViewData());
+                if (data != null) {
+                    handleClearRow(data.getClearRow());
+                    refreshBrick(data.getViewData());
+                }
             }
         }
 
+        // P key switches to the next color palette
+        if (e.getCode() == KeyCode.P)
+            setPalette(palette.next());
+
         // N key starts new game anytime
         if (e.getCode() == KeyCode.N)
             newGame(null);
+
+        // B key lets the bot take over, or hands control back
+        if (e.getCode() == KeyCode.B)
+            eventListener.onAutoplay();
     }
 
     /**
-     * Builds a 4x4 preview grid inside a panel.
-     * Used for showing next pieces and held piece.
+     * Switches the block colors, keeping the board as it is.
      *
-     * @param panel the GridPane to fill
-     * @param matrix the Rectangle array to populate
+     * @param palette the palette to draw with
      */
-    private void setupPreviewPanel(GridPane panel, Rectangle[][] matrix) {
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle r = new Rectangle(GameConfig.BRICK_SIZE, GameConfig.BRICK_SIZE);
-                r.setArcWidth(9);
-                r.setArcHeight(9);
-                r.setFill(Color.TRANSPARENT);
-
-                matrix[i][j] = r;
-                panel.add(r, j, i);
-            }
-        }
+    public void setPalette(Palette palette) {
+        this.palette = palette;
+        renderer.setPalette(palette);
+        frameRepaint = true;
     }
 
     /**
-     * Initializes the main game area with rectangles for rendering.
-     * Creates the display matrix, brick panel, and ghost brick panel.
+     * Initializes the main game area through the board renderer.
      * Starts the game timer for automatic brick dropping.
      *
      * @param boardMatrix the game board state
      * @param brick initial brick view data
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-
-        // Create rectangles for the board (skip first 2 rows - buffer zone)
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle r = new Rectangle(GameConfig.BRICK_SIZE, GameConfig.BRICK_SIZE);
-                r.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = r;
-                gamePanel.add(r, j, i - 2);
-            }
-        }
-
-        // Create rectangles for the falling brick
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < rectangles.length; i++) {
-            for (int j = 0; j < rectangles[i].length; j++) {
-                Rectangle r = new Rectangle(GameConfig.BRICK_SIZE, GameConfig.BRICK_SIZE);
-                r.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = r;
-                brickPanel.add(r, j, i);
-            }
-        }
-
-        // Create rectangles for the ghost brick
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < rectangles.length; i++) {
-            for (int j = 0; j < rectangles[i].length; j++) {
-                Rectangle r = new Rectangle(GameConfig.BRICK_SIZE, GameConfig.BRICK_SIZE);
-                r.setFill(getFillColor(brick.getBrickData()[i][j]));
-                ghostRectangles[i][j] = r;
-                ghostBrickPanel.add(r, j, i);
+        renderer.init(boardMatrix, brick);
+
+        // Each pulse runs the clock ticks that are due; gravity may move several rows per tick
+        gravityTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                int ticks = clock.pendingTicks();
+                for (int i = 0; i < ticks && !isPause.get() && !isGameOver.get(); i++) {
+                    playNanos += clock.getTickNanos();
+                    tick(gravity.tick(level));
+                }
             }
+        };
+        if (autoDrop) {
+            startGravity();
         }
+    }
 
-        // Position the brick panels
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * GameConfig.BRICK_SIZE + 130);
-        brickPanel.setLayoutY(gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * GameConfig.BRICK_SIZE - 42);
-
-        ghostBrickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getGhostxPosition() * ghostBrickPanel.getVgap() + brick.getGhostxPosition() * GameConfig.BRICK_SIZE + 130);
-        ghostBrickPanel.setLayoutY(gamePanel.getLayoutY() + brick.getGhostyPosition() * ghostBrickPanel.getHgap() + brick.getGhostyPosition() * GameConfig.BRICK_SIZE - 42);
+    /**
+     * Starts the gravity timer, ignoring time that passed while it was stopped.
+     */
+    private void startGravity() {
+        clock.reset();
+        gravityTimer.start();
+    }
 
-        // Start game timer (brick falls every 400ms)
-        timeLine = new Timeline(new KeyFrame(Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+    /**
+     * Turns the gravity timer on or off.
+     *
+     * @param autoDrop false when a game loop thread drives gravity
+     */
+    @Override
+    public void setAutoDrop(boolean autoDrop) {
+        this.autoDrop = autoDrop;
     }
 
     /**
      * Updates the display of the falling brick and ghost brick.
-     * Repositions the brick panels and updates colors.
      *
      * @param brick the view data containing positions and shapes
      */
     public void refreshBrick(ViewData brick) {
-        // Update brick position
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * brickPanel.getVgap() + brick.getxPosition() * GameConfig.BRICK_SIZE + 130);
-        brickPanel.setLayoutY(gamePanel.getLayoutY() + brick.getyPosition() * brickPanel.getHgap() + brick.getyPosition() * GameConfig.BRICK_SIZE - 42);
-
-        // Update ghost brick position
-        ghostBrickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getGhostxPosition() * ghostBrickPanel.getVgap() + brick.getGhostxPosition() * GameConfig.BRICK_SIZE + 130);
-        ghostBrickPanel.setLayoutY(gamePanel.getLayoutY() + brick.getGhostyPosition() * ghostBrickPanel.getHgap() + brick.getGhostyPosition() * GameConfig.BRICK_SIZE - 42);
-
-        // Update brick colors
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-            }
-        }
-
-        // Update ghost brick with transparency
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-
-                int colorId = brick.getBrickData()[i][j];
-                Paint baseColor = getFillColor(colorId);
-
-                // Make ghost piece 50% transparent
-                Paint ghostColor = ((Color) baseColor).deriveColor(0, 1, 1, 0.5);
-
-                ghostRectangles[i][j].setFill(ghostColor);
-                ghostRectangles[i][j].setArcWidth(9);
-                ghostRectangles[i][j].setArcHeight(9);
-            }
+        if (brick != null) {
+            renderer.drawBrick(brick.getBrickShape(), brick.getxPosition(), brick.getyPosition(),
+                    brick.getGhostxPosition(), brick.getGhostyPosition());
         }
     }
 
     /**
-     * Redraws the background board with placed bricks.
+     * Redraws the rows of the background board that changed.
      *
      * @param board the current board matrix
+     * @param dirtyRows mask of the rows to redraw
      */
-    public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
-        }
+    @Override
+    public void refreshGameBackground(int[][] board, long dirtyRows) {
+        renderer.drawBackground(board, dirtyRows);
     }
 
     /**
@@ -335,12 +319,13 @@ public class GuiController implements Initializable {
      *
      * @param nextShapes list of upcoming brick shapes
      */
+    @Override
     public void updateNextQueue(List<int[][]> nextShapes) {
         if (nextShapes == null || nextShapes.isEmpty()) return;
 
-        drawToPreview(nextShapes.get(0), nextMatrix1);
-        if (nextShapes.size() > 1) drawToPreview(nextShapes.get(1), nextMatrix2);
-        if (nextShapes.size() > 2) drawToPreview(nextShapes.get(2), nextMatrix3);
+        renderer.drawNext(0, nextShapes.get(0));
+        if (nextShapes.size() > 1) renderer.drawNext(1, nextShapes.get(1));
+        if (nextShapes.size() > 2) renderer.drawNext(2, nextShapes.get(2));
     }
 
     /**
@@ -348,89 +333,40 @@ public class GuiController implements Initializable {
      *
      * @param shape the held brick shape, or null if no piece is held
      */
+    @Override
     public void updateHold(int[][] shape) {
-        clearPreview(holdMatrix);
-        if (shape == null) return;
-
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                setRectangleData(shape[r][c], holdMatrix[r][c]);
-            }
-        }
+        renderer.drawHold(shape);
     }
 
     /**
-     * Draws a brick shape into a preview grid.
+     * Called every game tick to move the brick down.
      *
-     * @param data the brick shape matrix
-     * @param targetMatrix the preview grid to draw into
+     * @param event the down movement event
      */
-    private void drawToPreview(int[][] data, Rectangle[][] targetMatrix) {
-        clearPreview(targetMatrix);
-
-        for (int i = 0; i < data.length; i++) {
-            for (int j = 0; j < data[i].length; j++) {
-                setRectangleData(data[i][j], targetMatrix[i][j]);
+    private void moveDown(MoveEvent event) {
+        if (!isPause.get()) {
+            DownData downData = eventListener.onDownEvent(event);
+            if (downData != null) {
+                handleClearRow(downData.getClearRow());
+                refreshBrick(downData.getViewData());
             }
         }
-    }
-
-    /**
-     * Clears a preview grid by making all cells transparent.
-     *
-     * @param matrix the preview grid to clear
-     */
-    private void clearPreview(Rectangle[][] matrix) {
-        for (Rectangle[] row : matrix)
-            for (Rectangle cell : row)
-                cell.setFill(Color.TRANSPARENT);
-    }
 
-    /**
-     * Sets the color and appearance of a rectangle.
-     *
-     * @param color the color ID
-     * @param rect the rectangle to update
-     */
-    private void setRectangleData(int color, Rectangle rect) {
-        rect.setFill(getFillColor(color));
-        rect.setArcWidth(9);
-        rect.setArcHeight(9);
+        gamePanel.requestFocus();
     }
 
     /**
-     * Maps a color ID to a JavaFX Color.
+     * Runs one clock tick of lock delay and gravity.
      *
-     * @param i the color ID
-     * @return the corresponding Color
+     * @param rows how many rows gravity moves the brick this tick
      */
-    private Paint getFillColor(int i) {
-        return switch (i) {
-            case 0 -> Color.TRANSPARENT;
-            case 1 -> Color.AQUA;
-            case 2 -> Color.BLUEVIOLET;
-            case 3 -> Color.DARKGREEN;
-            case 4 -> Color.YELLOW;
-            case 5 -> Color.RED;
-            case 6 -> Color.BEIGE;
-            case 7 -> Color.BURLYWOOD;
-            default -> Color.WHITE;
-        };
-    }
-
-    /**
-     * Called every game tick to move the brick down.
-     *
-     * @param event the down movement event
-     */
-    private void moveDown(MoveEvent event) {
-        if (!isPause.get()) {
-            DownData downData = eventListener.onDownEvent(event);
+    private void tick(int rows) {
+        DownData downData = eventListener.onTickEvent(rows, playNanos);
+        if (downData != null) {
             handleClearRow(downData.getClearRow());
             refreshBrick(downData.getViewData());
+            gamePanel.requestFocus();
         }
-
-        gamePanel.requestFocus();
     }
 
     /**
@@ -460,15 +396,97 @@ public class GuiController implements Initializable {
                 GameConfig.LINES_PER_LEVEL
         );
         if (newLevel != level) {
+            // Gravity reads the level every tick, so the game speeds up by itself
             level = newLevel;
             levelLabel.setText("Level: " + level);
+        }
+    }
+
+    /**
+     * Draws a frame from the game loop thread.
+     * Compares the frame with the last one drawn, so only changed rows,
+     * a moved brick and changed previews or labels are touched.
+     *
+     * @param frame the frame to draw
+     */
+    @Override
+    public void renderFrame(FrameSnapshot frame) {
+        int[][] cells = frame.getCells();
+        if (frameStamps == null) {
+            frameStamps = new int[cells.length];
+        }
+        if (frame.getGameId() != frameGameId) {
+            frameGameId = frame.getGameId();
+            frameClearCount = 0;
+            frameGameOver = false;
+            frameRepaint = true;
+            // The loop can start a new game on its own, as the bot does in autoplay
+            if (isGameOver.get()) {
+                gameOverPanel.setVisible(false);
+                isGameOver.set(false);
+            }
+        }
 
-            // Increase game speed
-            if (timeLine != null) {
-                double speedFactor = 1.0 + (level - 1) * 0.25;
-                timeLine.setRate(speedFactor);
+        // Rows whose stamp moved on changed, even if frames were skipped in between
+        long dirty = frameRepaint ? DirtyRows.ALL : DirtyRows.NONE;
+        for (int r = 0; r < cells.length; r++) {
+            int stamp = frame.getRowStamp(r);
+            if (stamp != frameStamps[r]) {
+                frameStamps[r] = stamp;
+                dirty |= DirtyRows.range(r, r);
             }
         }
+        if (dirty != DirtyRows.NONE) {
+            renderer.drawBackground(cells, dirty);
+        }
+
+        PieceShape brick = frame.getBrick();
+        if (frameRepaint || brick != frameBrick || frame.getBrickX() != frameBrickX
+                || frame.getBrickY() != frameBrickY || frame.getGhostY() != frameGhostY) {
+            frameBrick = brick;
+            frameBrickX = frame.getBrickX();
+            frameBrickY = frame.getBrickY();
+            frameGhostY = frame.getGhostY();
+            renderer.drawBrick(brick, frameBrickX, frameBrickY, frameBrickX, frameGhostY);
+        }
+
+        int previews = Math.min(frame.getNextCount(), frameNext.length);
+        for (int i = 0; i < previews; i++) {
+            PieceShape next = frame.getNext(i);
+            if (frameRepaint || next != frameNext[i]) {
+                frameNext[i] = next;
+                renderer.drawNext(i, next.getMatrix());
+            }
+        }
+        PieceShape held = frame.getHeld();
+        if (frameRepaint || held != frameHeld) {
+            frameHeld = held;
+            renderer.drawHold(held == null ? null : held.getMatrix());
+        }
+        frameRepaint = false;
+
+        if (frame.getScore() != frameScore) {
+            frameScore = frame.getScore();
+            scoreLabel.setText("Score: " + frameScore);
+        }
+        if (frame.getLines() != frameLines) {
+            frameLines = frame.getLines();
+            totalLinesCleared = frameLines;
+            linesLabel.setText("Lines: " + frameLines);
+        }
+        if (frame.getLevel() != frameLevel) {
+            frameLevel = frame.getLevel();
+            level = frameLevel;
+            levelLabel.setText("Level: " + frameLevel);
+        }
+        if (frame.getClearCount() != frameClearCount) {
+            frameClearCount = frame.getClearCount();
+            showScorePopup(frame.getLastClearBonus());
+        }
+        if (frame.isGameOver() && !frameGameOver) {
+            gameOver();
+        }
+        frameGameOver = frame.isGameOver();
     }
 
     /**
@@ -476,6 +494,7 @@ public class GuiController implements Initializable {
      *
      * @param lines number of lines to add
      */
+    @Override
     public void addLinesCleared(int lines) {
         totalLinesCleared += lines;
         linesLabel.setText("Lines: " + totalLinesCleared);
@@ -497,6 +516,7 @@ public class GuiController implements Initializable {
      *
      * @param eventListener the listener to handle input events
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
@@ -507,7 +527,8 @@ public class GuiController implements Initializable {
      *
      * @param scoreProperty the score property to bind to
      */
-    public void bindScore(IntegerProperty scoreProperty) {
+    @Override
+    public void bindScore(ReadOnlyIntegerProperty scoreProperty) {
         scoreProperty.addListener((obs, oldVal, newVal) -> {
             scoreLabel.setText("Score: " + newVal);
         });
@@ -529,7 +550,8 @@ public class GuiController implements Initializable {
      */
     private void pauseGameOverlay() {
         isPause.set(true);
-        timeLine.pause();
+        gravityTimer.stop();
+        eventListener.onPause(true);
 
         if (bgPlayer != null) bgPlayer.pause();
         if (musicPlayer != null) musicPlayer.pause();
@@ -548,7 +570,10 @@ public class GuiController implements Initializable {
         pauseOverlay.toBack();
 
         isPause.set(false);
-        timeLine.play();
+        if (autoDrop) {
+            startGravity();
+        }
+        eventListener.onPause(false);
 
         if (!isGameOver.get()) {
             if (bgPlayer != null) bgPlayer.play();
@@ -562,8 +587,9 @@ public class GuiController implements Initializable {
      * Handles game over state.
      * Stops the game and shows game over screen.
      */
+    @Override
     public void gameOver() {
-        timeLine.stop();
+        gravityTimer.stop();
         gameOverPanel.setVisible(true);
         isGameOver.set(true);
 
@@ -588,7 +614,7 @@ public class GuiController implements Initializable {
         pauseOverlay.toBack();
         pauseOverlay.setMouseTransparent(true);
 
-        timeLine.stop();
+        gravityTimer.stop();
         gameOverPanel.setVisible(false);
 
         eventListener.createNewGame();
@@ -599,16 +625,16 @@ public class GuiController implements Initializable {
         linesLabel.setText("Lines: 0");
         levelLabel.setText("Level: 1");
 
-        if (timeLine != null) {
-            timeLine.setRate(1.0);
-        }
+        gravity.reset();
 
         updateHold(null);
 
         isPause.set(false);
         isGameOver.set(false);
 
-        timeLine.play();
+        if (autoDrop) {
+            startGravity();
+        }
 
         // Restart media
         if (bgPlayer != null) {
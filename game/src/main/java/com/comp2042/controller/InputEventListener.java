@@ -18,6 +18,15 @@ public interface InputEventListener {
      */
     DownData onDownEvent(MoveEvent event);
 
+    /**
+     * Handles one tick of the game clock: lock delay and gravity.
+     *
+     * @param rows how many rows gravity moves the brick this tick, possibly 0
+     * @param playNanos time played so far, not counting pauses
+     * @return data about cleared rows and current view state, or null if nothing changed
+     */
+    DownData onTickEvent(int rows, long playNanos);
+
     /**
      * Handles leftward movement events.
      *
@@ -60,4 +69,18 @@ public interface InputEventListener {
      * Creates a new game session.
      */
     void createNewGame();
-}
\ No newline at end of file
+
+    /**
+     * Tells the listener the game was paused or resumed.
+     * Listeners that run the game on another thread use this to stop its clock.
+     *
+     * @param paused true when paused, false when resumed
+     */
+    default void onPause(boolean paused) { }
+
+    /**
+     * Turns the autoplay bot on or off.
+     * Does nothing for listeners without a bot.
+     */
+    default void onAutoplay() { }
+}
@@ -0,0 +1,186 @@
+package com.comp2042.controller;
+
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.model.*;
+import com.comp2042.replay.ReplayPlayer;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Controller that plays back a recorded replay instead of a live game.
+ * The game keys control playback: left and right seek five seconds,
+ * up and down double or halve the speed, space and pause stop or resume,
+ * and N starts over. The view draws the player's frames just as it draws
+ * frames from the game loop thread.
+ */
+public class ReplayController implements InputEventListener {
+
+    private static final long SEEK_SECONDS = 5;
+
+    private final ReplayPlayer player;
+    private final GameView view;
+    private long lastTick = -1;
+    private long lastPulse = -1;
+
+    /**
+     * Opens the replay without touching the view.
+     *
+     * @param view the view that handles the display
+     * @param file the replay file to play
+     * @throws IOException if the replay cannot be read
+     */
+    private ReplayController(GameView view, Path file) throws IOException {
+        this.view = view;
+        player = ReplayPlayer.open(file, ReplayPlayer.DEFAULT_KEYFRAME_PIECES);
+    }
+
+    /**
+     * Opens the replay, sets up the view and starts playback.
+     * The view is only handed the controller once it is fully built.
+     *
+     * @param view the view that handles the display
+     * @param file the replay file to play
+     * @return the playing controller
+     * @throws IOException if the replay cannot be read
+     */
+    public static ReplayController start(GameView view, Path file) throws IOException {
+        ReplayController controller = new ReplayController(view, file);
+        controller.attach();
+        return controller;
+    }
+
+    /**
+     * Wires the controller into the view and starts the pulse that plays the replay.
+     */
+    private void attach() {
+        // A fresh session from the header looks exactly like the replay's first frame
+        Board board = player.getHeader().createSession().getBoard();
+        view.setEventListener(this);
+        view.setAutoDrop(false);
+        view.initGameView(board.getBoardMatrix(), board.getViewData());
+        view.updateNextQueue(board.getNextQueueShapes());
+
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (lastPulse >= 0) {
+                    player.update(now - lastPulse);
+                }
+                lastPulse = now;
+                FrameSnapshot frame = player.latestFrame();
+                if (frame.getTick() != lastTick) {
+                    lastTick = frame.getTick();
+                    view.renderFrame(frame);
+                }
+            }
+        }.start();
+    }
+
+    private void seekBy(long seconds) {
+        player.seek(player.getTick() + seconds * player.getHeader().getTicksPerSecond());
+    }
+
+    /**
+     * Halves the playback speed.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (event.getEventSource() == EventSource.USER) {
+            player.setSpeed(player.getSpeed() / 2);
+        }
+        return null;
+    }
+
+    /**
+     * Not used, as the player runs its own clock.
+     *
+     * @param rows how many rows gravity moves the brick
+     * @param playNanos time played so far
+     * @return null, the frame shows the result
+     */
+    @Override
+    public DownData onTickEvent(int rows, long playNanos) {
+        return null;
+    }
+
+    /**
+     * Seeks back five seconds.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        seekBy(-SEEK_SECONDS);
+        return null;
+    }
+
+    /**
+     * Seeks forward five seconds.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        seekBy(SEEK_SECONDS);
+        return null;
+    }
+
+    /**
+     * Doubles the playback speed.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        player.setSpeed(player.getSpeed() * 2);
+        return null;
+    }
+
+    /**
+     * Not used during playback.
+     *
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onHoldEvent() {
+        return null;
+    }
+
+    /**
+     * Stops or resumes playback.
+     *
+     * @return null, the frame shows the result
+     */
+    @Override
+    public DownData onHardDropEvent() {
+        player.setPlaying(!player.isPlaying());
+        return null;
+    }
+
+    /**
+     * Plays the replay again from the start.
+     */
+    @Override
+    public void createNewGame() {
+        player.seek(0);
+        player.setPlaying(true);
+    }
+
+    /**
+     * Stops playback while the pause menu is open.
+     *
+     * @param paused true when paused
+     */
+    @Override
+    public void onPause(boolean paused) {
+        player.setPlaying(!paused);
+    }
+}
@@ -0,0 +1,245 @@
+package com.comp2042.controller;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.loop.FrameSnapshot;
+import com.comp2042.loop.GameLoop;
+import com.comp2042.loop.InputAction;
+import com.comp2042.model.*;
+import com.comp2042.model.bricks.Randomizer;
+import com.comp2042.replay.ReplayFormat;
+import com.comp2042.replay.ReplayHeader;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.replay.ReplayResult;
+import com.comp2042.service.BoardEvaluator;
+import com.comp2042.sim.BeamSearchBot;
+import com.comp2042.sim.TranspositionTable;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Game controller that runs the game rules on a separate game loop thread.
+ * Key presses are queued for the loop instead of being applied on the FX
+ * thread, and each pulse the view draws the newest frame the loop published.
+ * Input handling, gravity and rendering no longer share one thread, so a
+ * slow frame never delays a move or a drop.
+ * Every input the loop applies is recorded to a replay file in
+ * {@link GameConfig#REPLAY_DIR}, which replays the session exactly and
+ * ends with the final score so it can be verified.
+ * A beam search bot can take over with {@link InputAction#AUTOPLAY}; it
+ * searches on the common fork-join pool and keeps playing new games.
+ */
+public class ThreadedGameController implements InputEventListener {
+
+    private final ReplayHeader header = new ReplayHeader(Randomizer.RANDOM,
+            ThreadLocalRandom.current().nextLong(), 25, 10, GameConfig.TICKS_PER_SECOND,
+            GameConfig.LINES_PER_LEVEL, LockDelay.DEFAULT_DELAY_NANOS, LockDelay.DEFAULT_MAX_RESETS);
+    private final GameSession session = header.createSession();
+    private final GameLoop loop;
+    private final GameView view;
+    private long lastTick = -1;
+
+    /**
+     * Creates the controller and its loop without touching the view.
+     *
+     * @param view the view that handles the display
+     */
+    private ThreadedGameController(GameView view) {
+        this.view = view;
+        loop = new GameLoop(session, GameConfig.TICKS_PER_SECOND);
+        loop.setAutopilot(new BeamSearchBot(25, 10, BoardEvaluator.elTetris(), BeamSearchBot.DEFAULT_BEAM_WIDTH,
+                        BeamSearchBot.DEFAULT_PREVIEWS, GameConfig.AUTOPLAY_BUDGET_NANOS, ForkJoinPool.commonPool(),
+                        TranspositionTable.ofMegabytes(2)),
+                GameConfig.TICKS_PER_SECOND / GameConfig.AUTOPLAY_PIECES_PER_SECOND);
+    }
+
+    /**
+     * Creates the controller, sets up the view and starts the loop thread.
+     * The view is only handed the controller once it is fully built.
+     *
+     * @param view the view that handles the display
+     * @return the running controller
+     */
+    public static ThreadedGameController start(GameView view) {
+        ThreadedGameController controller = new ThreadedGameController(view);
+        controller.attach();
+        return controller;
+    }
+
+    /**
+     * Wires the controller into the view, then starts the loop and the pulse that draws its frames.
+     */
+    private void attach() {
+        Board board = session.getBoard();
+
+        // The view is built before the loop starts, while the board is still safe to read here
+        view.setEventListener(this);
+        view.setAutoDrop(false);
+        view.initGameView(board.getBoardMatrix(), board.getViewData());
+        view.updateNextQueue(board.getNextQueueShapes());
+
+        startRecording();
+        if (GameConfig.AUTOPLAY) {
+            loop.submit(InputAction.AUTOPLAY);
+        }
+        loop.start();
+
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                FrameSnapshot frame = loop.latestFrame();
+                if (frame.getTick() >= 0 && frame.getTick() != lastTick) {
+                    lastTick = frame.getTick();
+                    view.renderFrame(frame);
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Starts recording the session to a new replay file, if recording is on.
+     * The file is flushed and closed when the application exits.
+     */
+    private void startRecording() {
+        if (GameConfig.REPLAY_DIR.isEmpty()) {
+            return;
+        }
+        try {
+            Path dir = Files.createDirectories(Path.of(GameConfig.REPLAY_DIR));
+            String name = String.format("game-%d-%016x%s",
+                    System.currentTimeMillis(), header.getSeed(), ReplayFormat.EXTENSION);
+            ReplayRecorder recorder = ReplayRecorder.open(dir.resolve(name), header);
+            loop.setRecorder(recorder);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                loop.stop();
+                // Once the bot took over, the file only holds the moves made before
+                if (loop.isRecording()) {
+                    recorder.setResult(ReplayResult.of(loop));
+                }
+                try {
+                    recorder.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, "replay-close"));
+        } catch (IOException e) {
+            // A game without a replay is still playable
+            System.err.println("Replay recording disabled: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Queues a soft drop. Gravity ticks come from the loop, so only user moves arrive here.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (event.getEventSource() == EventSource.USER) {
+            loop.submit(InputAction.SOFT_DROP);
+        }
+        return null;
+    }
+
+    /**
+     * Not used, as the loop runs its own clock.
+     *
+     * @param rows how many rows gravity moves the brick
+     * @param playNanos time played so far
+     * @return null, the frame shows the result
+     */
+    @Override
+    public DownData onTickEvent(int rows, long playNanos) {
+        return null;
+    }
+
+    /**
+     * Queues a move to the left.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        loop.submit(InputAction.LEFT);
+        return null;
+    }
+
+    /**
+     * Queues a move to the right.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        loop.submit(InputAction.RIGHT);
+        return null;
+    }
+
+    /**
+     * Queues a rotation.
+     *
+     * @param event the movement event
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        loop.submit(InputAction.ROTATE);
+        return null;
+    }
+
+    /**
+     * Queues a hold.
+     *
+     * @return null, the frame shows the result
+     */
+    @Override
+    public ViewData onHoldEvent() {
+        loop.submit(InputAction.HOLD);
+        return null;
+    }
+
+    /**
+     * Queues a hard drop.
+     *
+     * @return null, the frame shows the result
+     */
+    @Override
+    public DownData onHardDropEvent() {
+        loop.submit(InputAction.HARD_DROP);
+        return null;
+    }
+
+    /**
+     * Queues a new game.
+     */
+    @Override
+    public void createNewGame() {
+        loop.submit(InputAction.NEW_GAME);
+    }
+
+    /**
+     * Pauses or resumes the loop's gravity clock.
+     *
+     * @param paused true when paused
+     */
+    @Override
+    public void onPause(boolean paused) {
+        loop.submit(paused ? InputAction.PAUSE : InputAction.RESUME);
+    }
+
+    /**
+     * Queues turning the bot on or off.
+     */
+    @Override
+    public void onAutoplay() {
+        loop.submit(InputAction.AUTOPLAY);
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.view;
+
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.PieceShape;
+
+/**
+ * Draws one playfield with its falling brick, ghost and preview panels.
+ * GuiController talks to the board only through this, so the drawing
+ * technique can be swapped without touching game logic.
+ */
+public interface BoardRenderer {
+
+    /**
+     * Builds whatever the renderer needs for a board of this size.
+     *
+     * @param boardMatrix the game board state
+     * @param brick initial brick view data
+     */
+    void init(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the placed blocks in the rows that changed.
+     *
+     * @param boardMatrix the current board matrix
+     * @param dirtyRows mask of the rows to redraw, see {@link com.comp2042.model.DirtyRows}
+     */
+    void drawBackground(int[][] boardMatrix, long dirtyRows);
+
+    /**
+     * Redraws the falling brick and its ghost.
+     * Called on every brick move, so it takes the shared shape rather than a copy.
+     *
+     * @param brick the brick shape
+     * @param x the column of the brick
+     * @param y the row of the brick
+     * @param ghostX the column of the ghost
+     * @param ghostY the row of the ghost
+     */
+    void drawBrick(PieceShape brick, int x, int y, int ghostX, int ghostY);
+
+    /**
+     * Draws a brick shape into one of the next-piece previews.
+     *
+     * @param slot the preview index, 0 being the next brick
+     * @param shape the brick shape matrix
+     */
+    void drawNext(int slot, int[][] shape);
+
+    /**
+     * Draws the held brick, or clears the hold preview.
+     *
+     * @param shape the held brick shape, or null if no piece is held
+     */
+    void drawHold(int[][] shape);
+
+    /**
+     * Switches to another color theme and redraws everything in it.
+     *
+     * @param palette the palette to draw with
+     */
+    void setPalette(Palette palette);
+}
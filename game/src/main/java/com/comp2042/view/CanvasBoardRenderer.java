@@ -0,0 +1,214 @@
+package com.comp2042.view;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.DirtyRows;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.PieceShape;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the board onto canvases instead of a grid of nodes.
+ * Every block color is rendered once into a tile image by the palette, and
+ * drawing is just blitting tiles. Placed blocks live on one canvas that only
+ * repaints the rows the board reports as changed; the ghost and falling
+ * brick live on a second canvas stacked on top, so moving the brick never
+ * touches the stack. The scene graph holds two nodes per board no matter
+ * how large the board is, so frame time stays flat for bigger boards and
+ * multi-board views.
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    // Rows above the visible board that are never drawn
+    private static final int HIDDEN_ROWS = 2;
+    private static final int BOARD_GAP = 1;
+    private static final int PREVIEW_GAP = 2;
+    private static final int PREVIEW_CELLS = 4;
+
+    private final GridPane gamePanel;
+    private Palette palette = Palette.CLASSIC;
+    private final Canvas[] nextCanvases;
+    private final Canvas holdCanvas;
+
+    private Canvas boardCanvas;
+    private Canvas brickCanvas;
+    private int[][] boardMatrix;
+    // Last brick drawn, kept for palette changes
+    private PieceShape brick;
+    private int brickX;
+    private int brickY;
+    private int ghostX;
+    private int ghostY;
+    // Last shapes drawn in each preview, kept for palette changes
+    private final int[][][] nextShapes;
+    private int[][] holdShape;
+
+    /**
+     * Creates a renderer that draws into canvases placed in the given panels.
+     * The brick and ghost panels are hidden, as the brick canvas draws both.
+     *
+     * @param gamePanel the grid that holds the board canvas
+     * @param brickPanel the node grid for the falling brick, hidden
+     * @param ghostBrickPanel the node grid for the ghost brick, hidden
+     * @param nextPanels the grids that hold the next-piece canvases
+     * @param holdPanel the grid that holds the hold canvas
+     */
+    public CanvasBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane ghostBrickPanel,
+                               GridPane[] nextPanels, GridPane holdPanel) {
+        this.gamePanel = gamePanel;
+        brickPanel.setVisible(false);
+        ghostBrickPanel.setVisible(false);
+
+        double previewSize = PREVIEW_CELLS * GameConfig.BRICK_SIZE + (PREVIEW_CELLS - 1) * PREVIEW_GAP;
+        nextCanvases = new Canvas[nextPanels.length];
+        nextShapes = new int[nextPanels.length][][];
+        for (int i = 0; i < nextPanels.length; i++) {
+            nextCanvases[i] = new Canvas(previewSize, previewSize);
+            nextPanels[i].add(nextCanvases[i], 0, 0);
+        }
+        holdCanvas = new Canvas(previewSize, previewSize);
+        holdPanel.add(holdCanvas, 0, 0);
+    }
+
+    @Override
+    public void init(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length - HIDDEN_ROWS;
+        int columns = boardMatrix[0].length;
+        double width = columns * (GameConfig.BRICK_SIZE + BOARD_GAP) - BOARD_GAP;
+        double height = rows * (GameConfig.BRICK_SIZE + BOARD_GAP) - BOARD_GAP;
+        boardCanvas = new Canvas(width, height);
+        brickCanvas = new Canvas(width, height);
+        // Both canvases share the same grid cell, the brick layer on top
+        gamePanel.add(boardCanvas, 0, 0);
+        gamePanel.add(brickCanvas, 0, 0);
+
+        drawBackground(boardMatrix, DirtyRows.ALL);
+        drawBrick(brick.getBrickShape(), brick.getxPosition(), brick.getyPosition(),
+                brick.getGhostxPosition(), brick.getGhostyPosition());
+    }
+
+    @Override
+    public void drawBackground(int[][] boardMatrix, long dirtyRows) {
+        this.boardMatrix = boardMatrix;
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        int rowHeight = GameConfig.BRICK_SIZE + BOARD_GAP;
+
+        for (int i = HIDDEN_ROWS; i < boardMatrix.length; i++) {
+            if (!DirtyRows.isDirty(dirtyRows, i)) {
+                continue;
+            }
+            int y = (i - HIDDEN_ROWS) * rowHeight;
+            gc.clearRect(0, y, boardCanvas.getWidth(), rowHeight);
+
+            int[] row = boardMatrix[i];
+            for (int j = 0; j < row.length; j++) {
+                drawCell(gc, false, row[j], j, i - HIDDEN_ROWS, BOARD_GAP);
+            }
+        }
+    }
+
+    /**
+     * Redraws the ghost and the falling brick on the brick layer.
+     *
+     * @param brick the brick shape
+     * @param x the column of the brick
+     * @param y the row of the brick
+     * @param ghostX the column of the ghost
+     * @param ghostY the row of the ghost
+     */
+    @Override
+    public void drawBrick(PieceShape brick, int x, int y, int ghostX, int ghostY) {
+        this.brick = brick;
+        brickX = x;
+        brickY = y;
+        this.ghostX = ghostX;
+        this.ghostY = ghostY;
+        GraphicsContext gc = brickCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, brickCanvas.getWidth(), brickCanvas.getHeight());
+
+        drawShape(gc, true, brick, ghostX, ghostY - HIDDEN_ROWS);
+        drawShape(gc, false, brick, x, y - HIDDEN_ROWS);
+    }
+
+    /**
+     * Draws the filled cells of a brick shape onto the board canvas.
+     *
+     * @param gc the board graphics context
+     * @param ghost true to draw ghost tiles
+     * @param shape the brick shape
+     * @param x the column of the shape's left edge
+     * @param y the visible row of the shape's top edge
+     */
+    private void drawShape(GraphicsContext gc, boolean ghost, PieceShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellY(i);
+            if (row >= 0) {
+                drawCell(gc, ghost, shape.getColorId(), x + shape.getCellX(i), row, BOARD_GAP);
+            }
+        }
+    }
+
+    /**
+     * Blits the tile for one cell, skipping empty cells.
+     *
+     * @param gc the graphics context
+     * @param ghost true to draw a ghost tile
+     * @param colorId the color ID of the cell
+     * @param column the cell column
+     * @param row the cell row
+     * @param gap the gap between cells in pixels
+     */
+    private void drawCell(GraphicsContext gc, boolean ghost, int colorId, int column, int row, int gap) {
+        if (colorId == 0) {
+            return;
+        }
+        Image tile = ghost ? palette.ghostTile(colorId) : palette.solidTile(colorId);
+        gc.drawImage(tile, column * (GameConfig.BRICK_SIZE + gap), row * (GameConfig.BRICK_SIZE + gap));
+    }
+
+    @Override
+    public void drawNext(int slot, int[][] shape) {
+        nextShapes[slot] = shape;
+        drawPreview(nextCanvases[slot], shape);
+    }
+
+    @Override
+    public void drawHold(int[][] shape) {
+        holdShape = shape;
+        drawPreview(holdCanvas, shape);
+    }
+
+    /**
+     * Clears a preview canvas and draws a brick shape into it.
+     *
+     * @param canvas the preview canvas
+     * @param shape the brick shape matrix, or null to leave it empty
+     */
+    private void drawPreview(Canvas canvas, int[][] shape) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (shape == null) {
+            return;
+        }
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                drawCell(gc, false, shape[i][j], j, i, PREVIEW_GAP);
+            }
+        }
+    }
+
+    @Override
+    public void setPalette(Palette palette) {
+        this.palette = palette;
+        if (boardCanvas != null) {
+            drawBackground(boardMatrix, DirtyRows.ALL);
+            drawBrick(brick, brickX, brickY, ghostX, ghostY);
+        }
+        for (int i = 0; i < nextCanvases.length; i++) {
+            drawPreview(nextCanvases[i], nextShapes[i]);
+        }
+        drawPreview(holdCanvas, holdShape);
+    }
+}
@@ -0,0 +1,239 @@
+package com.comp2042.view;
+
+import com.comp2042.config.GameConfig;
+import com.comp2042.model.DirtyRows;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.bricks.PieceShape;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Draws the board with one Rectangle node per cell.
+ * The falling brick and ghost are 4x4 grids that are moved over the board.
+ * Every grid remembers the color ID each rectangle shows, so a refresh only
+ * touches rectangles whose color actually changed and never allocates. The
+ * brick is read from its shared {@link PieceShape}, not from a copied matrix.
+ */
+public class NodeBoardRenderer implements BoardRenderer {
+
+    private static final int PREVIEW_CELLS = 4;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane ghostBrickPanel;
+    private Palette palette = Palette.CLASSIC;
+
+    private Cells board;
+    private Cells brick;
+    private Cells ghost;
+    private final Cells[] next;
+    private final Cells hold;
+
+    /**
+     * Creates a renderer that fills the given panels with rectangles.
+     *
+     * @param gamePanel the grid for the placed blocks
+     * @param brickPanel the grid for the falling brick
+     * @param ghostBrickPanel the grid for the ghost brick
+     * @param nextPanels the grids for the next-piece previews
+     * @param holdPanel the grid for the held piece
+     */
+    public NodeBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane ghostBrickPanel,
+                             GridPane[] nextPanels, GridPane holdPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.ghostBrickPanel = ghostBrickPanel;
+
+        // 4×4 preview grids for next pieces and the held piece
+        next = new Cells[nextPanels.length];
+        for (int i = 0; i < nextPanels.length; i++) {
+            next[i] = new Cells(nextPanels[i], PREVIEW_CELLS, PREVIEW_CELLS, 0, false);
+        }
+        hold = new Cells(holdPanel, PREVIEW_CELLS, PREVIEW_CELLS, 0, false);
+    }
+
+    /**
+     * Creates the display matrix, brick panel, and ghost brick panel.
+     *
+     * @param boardMatrix the game board state
+     * @param brickData initial brick view data
+     */
+    @Override
+    public void init(int[][] boardMatrix, ViewData brickData) {
+        // Skip first 2 rows - buffer zone
+        board = new Cells(gamePanel, boardMatrix.length, boardMatrix[0].length, 2, false);
+
+        PieceShape shape = brickData.getBrickShape();
+        brick = new Cells(brickPanel, shape.getRowCount(), shape.getColumnCount(), 0, false);
+        ghost = new Cells(ghostBrickPanel, shape.getRowCount(), shape.getColumnCount(), 0, true);
+
+        drawBackground(boardMatrix, DirtyRows.ALL);
+        drawBrick(shape, brickData.getxPosition(), brickData.getyPosition(),
+                brickData.getGhostxPosition(), brickData.getGhostyPosition());
+    }
+
+    /**
+     * Updates the display of the falling brick and ghost brick.
+     * Repositions the brick panels and updates colors.
+     *
+     * @param shape the brick shape
+     * @param x the column of the brick
+     * @param y the row of the brick
+     * @param ghostX the column of the ghost
+     * @param ghostY the row of the ghost
+     */
+    @Override
+    public void drawBrick(PieceShape shape, int x, int y, int ghostX, int ghostY) {
+        brickPanel.setLayoutX(gamePanel.getLayoutX() + x * brickPanel.getVgap() + x * GameConfig.BRICK_SIZE + 130);
+        brickPanel.setLayoutY(gamePanel.getLayoutY() + y * brickPanel.getHgap() + y * GameConfig.BRICK_SIZE - 42);
+
+        ghostBrickPanel.setLayoutX(gamePanel.getLayoutX() + ghostX * ghostBrickPanel.getVgap() + ghostX * GameConfig.BRICK_SIZE + 130);
+        ghostBrickPanel.setLayoutY(gamePanel.getLayoutY() + ghostY * ghostBrickPanel.getHgap() + ghostY * GameConfig.BRICK_SIZE - 42);
+
+        brick.show(shape);
+        ghost.show(shape);
+    }
+
+    /**
+     * Redraws the background rows that changed.
+     * Rows that shifted after a clear are compared cell by cell, so only
+     * cells whose color differs from the row that was there get a new fill.
+     *
+     * @param boardMatrix the current board matrix
+     * @param dirtyRows mask of the rows to redraw
+     */
+    @Override
+    public void drawBackground(int[][] boardMatrix, long dirtyRows) {
+        board.show(boardMatrix, dirtyRows);
+    }
+
+    @Override
+    public void drawNext(int slot, int[][] shape) {
+        next[slot].show(shape);
+    }
+
+    @Override
+    public void drawHold(int[][] shape) {
+        hold.show(shape);
+    }
+
+    @Override
+    public void setPalette(Palette palette) {
+        this.palette = palette;
+        if (board != null) {
+            board.repaint();
+            brick.repaint();
+            ghost.repaint();
+        }
+        for (Cells preview : next) {
+            preview.repaint();
+        }
+        hold.repaint();
+    }
+
+    /**
+     * A grid of rectangles with the color ID each one currently shows.
+     */
+    private final class Cells {
+
+        private final Rectangle[][] rects;
+        private final int[][] ids;
+        private final int firstRow;
+        private final boolean ghostPaint;
+
+        /**
+         * Builds the rectangles and adds them to a panel.
+         *
+         * @param panel the GridPane to fill
+         * @param rows number of rows, including hidden ones
+         * @param columns number of columns
+         * @param firstRow rows above this are not shown
+         * @param ghostPaint true to use the ghost paints of the palette
+         */
+        Cells(GridPane panel, int rows, int columns, int firstRow, boolean ghostPaint) {
+            rects = new Rectangle[rows][columns];
+            ids = new int[rows][columns];
+            this.firstRow = firstRow;
+            this.ghostPaint = ghostPaint;
+
+            for (int i = firstRow; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    // Arcs never change, so they are set once here
+                    Rectangle r = new Rectangle(GameConfig.BRICK_SIZE, GameConfig.BRICK_SIZE);
+                    r.setArcWidth(GameConfig.BRICK_ARC);
+                    r.setArcHeight(GameConfig.BRICK_ARC);
+                    r.setFill(Color.TRANSPARENT);
+                    rects[i][j] = r;
+                    panel.add(r, j, i - firstRow);
+                }
+            }
+        }
+
+        /**
+         * Shows a matrix of color IDs, updating only the cells that changed.
+         *
+         * @param data the color IDs to show, or null to clear the grid
+         */
+        void show(int[][] data) {
+            show(data, DirtyRows.ALL);
+        }
+
+        /**
+         * Shows a brick shape, reading its row masks so nothing is copied.
+         *
+         * @param shape the shape to show
+         */
+        void show(PieceShape shape) {
+            int colorId = shape.getColorId();
+            for (int i = firstRow; i < rects.length; i++) {
+                int mask = i < shape.getRowCount() ? shape.getRowMask(i) : 0;
+                for (int j = 0; j < rects[i].length; j++) {
+                    int id = (mask >>> j & 1) != 0 ? colorId : 0;
+                    if (ids[i][j] != id) {
+                        ids[i][j] = id;
+                        rects[i][j].setFill(paintFor(id));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Shows the marked rows of a matrix of color IDs.
+         *
+         * @param data the color IDs to show, or null to clear the grid
+         * @param rowMask mask of the rows to look at
+         */
+        void show(int[][] data, long rowMask) {
+            for (int i = firstRow; i < rects.length; i++) {
+                if (!DirtyRows.isDirty(rowMask, i)) {
+                    continue;
+                }
+                int[] row = data == null || i >= data.length ? null : data[i];
+                for (int j = 0; j < rects[i].length; j++) {
+                    int id = row == null || j >= row.length ? 0 : row[j];
+                    if (ids[i][j] != id) {
+                        ids[i][j] = id;
+                        rects[i][j].setFill(paintFor(id));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Applies the current palette to every cell.
+         */
+        void repaint() {
+            for (int i = firstRow; i < rects.length; i++) {
+                for (int j = 0; j < rects[i].length; j++) {
+                    rects[i][j].setFill(paintFor(ids[i][j]));
+                }
+            }
+        }
+
+        private Paint paintFor(int id) {
+            return ghostPaint ? palette.ghost(id) : palette.solid(id);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Score;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Exposes an engine Score as a JavaFX property.
+ * The engine keeps a plain int; this adapter listens for changes and
+ * mirrors them into a property that labels can bind to.
+ */
+public final class ObservableScore {
+
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+
+    /**
+     * Creates an adapter that follows the given score.
+     *
+     * @param source the engine score to follow
+     */
+    public ObservableScore(Score source) {
+        score.set(source.getValue());
+        source.setListener(score::set);
+    }
+
+    /**
+     * Gets the score property for UI binding.
+     *
+     * @return the read-only score property
+     */
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score;
+    }
+}
@@ -0,0 +1,177 @@
+package com.comp2042.view;
+
+import com.comp2042.config.GameConfig;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * A color theme for blocks.
+ * Solid, ghost and highlight paints for every color ID are built once when
+ * the palette is created, and the Canvas tiles the first time they are
+ * asked for, so drawing a cell never creates a Color. Each palette keeps its
+ * own cache, which means skins can be swapped at runtime without rebuilding.
+ */
+public final class Palette {
+
+    /** The original block colors of the game */
+    public static final Palette CLASSIC = new Palette("Classic",
+            Color.AQUA, Color.BLUEVIOLET, Color.DARKGREEN, Color.YELLOW,
+            Color.RED, Color.BEIGE, Color.BURLYWOOD);
+
+    /** The standard modern colors: cyan I, blue J, orange L, yellow O, green S, purple T, red Z */
+    public static final Palette GUIDELINE = new Palette("Guideline",
+            Color.CYAN, Color.BLUE, Color.ORANGE, Color.YELLOW,
+            Color.LIMEGREEN, Color.PURPLE, Color.RED);
+
+    private static final Palette[] BUILT_IN = {CLASSIC, GUIDELINE};
+
+    private final String name;
+    // Index 0 is the empty cell and the last index is the fallback for unknown IDs
+    private final Color[] solid;
+    private final Color[] ghost;
+    private final Color[] highlight;
+    private Image[] solidTiles;
+    private Image[] ghostTiles;
+
+    /**
+     * Creates a palette.
+     *
+     * @param name the display name of the palette
+     * @param colors the block colors for color IDs 1, 2, 3 and so on
+     */
+    public Palette(String name, Color... colors) {
+        this.name = name;
+        int size = colors.length + 2;
+        solid = new Color[size];
+        ghost = new Color[size];
+        highlight = new Color[size];
+
+        solid[0] = Color.TRANSPARENT;
+        ghost[0] = Color.TRANSPARENT;
+        highlight[0] = Color.TRANSPARENT;
+        for (int id = 1; id < size; id++) {
+            Color base = id <= colors.length ? colors[id - 1] : Color.WHITE;
+            solid[id] = base;
+            // Make ghost piece 50% transparent
+            ghost[id] = base.deriveColor(0, 1, 1, 0.5);
+            highlight[id] = base.brighter();
+        }
+    }
+
+    /**
+     * Gets the palette that comes after this one in the built-in list.
+     *
+     * @return the next built-in palette, wrapping around
+     */
+    public Palette next() {
+        for (int i = 0; i < BUILT_IN.length; i++) {
+            if (BUILT_IN[i] == this) {
+                return BUILT_IN[(i + 1) % BUILT_IN.length];
+            }
+        }
+        return CLASSIC;
+    }
+
+    /**
+     * Gets the display name of the palette.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the paint for a placed or falling block.
+     *
+     * @param id the color ID, 0 for an empty cell
+     * @return the cached paint
+     */
+    public Paint solid(int id) {
+        return solid[index(id)];
+    }
+
+    /**
+     * Gets the half-transparent paint for a ghost block.
+     *
+     * @param id the color ID, 0 for an empty cell
+     * @return the cached paint
+     */
+    public Paint ghost(int id) {
+        return ghost[index(id)];
+    }
+
+    /**
+     * Gets the lighter paint used for block edges.
+     *
+     * @param id the color ID, 0 for an empty cell
+     * @return the cached paint
+     */
+    public Paint highlight(int id) {
+        return highlight[index(id)];
+    }
+
+    /**
+     * Gets the Canvas tile for a solid block.
+     * Tiles are rendered on first use, which must be on the FX thread.
+     *
+     * @param id the color ID, not 0
+     * @return the cached tile image
+     */
+    public Image solidTile(int id) {
+        if (solidTiles == null) {
+            solidTiles = renderTiles(solid, true);
+        }
+        return solidTiles[index(id)];
+    }
+
+    /**
+     * Gets the Canvas tile for a ghost block.
+     * Tiles are rendered on first use, which must be on the FX thread.
+     *
+     * @param id the color ID, not 0
+     * @return the cached tile image
+     */
+    public Image ghostTile(int id) {
+        if (ghostTiles == null) {
+            ghostTiles = renderTiles(ghost, false);
+        }
+        return ghostTiles[index(id)];
+    }
+
+    private int index(int id) {
+        return id < solid.length ? id : solid.length - 1;
+    }
+
+    /**
+     * Renders one rounded block per color.
+     *
+     * @param fills the fill color of each tile
+     * @param edge true to draw a highlighted top edge
+     * @return the tile images, with null for the empty cell
+     */
+    private Image[] renderTiles(Color[] fills, boolean edge) {
+        int size = GameConfig.BRICK_SIZE;
+        Image[] tiles = new Image[fills.length];
+        Canvas canvas = new Canvas(size, size);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+
+        for (int id = 1; id < fills.length; id++) {
+            gc.clearRect(0, 0, size, size);
+            gc.setFill(fills[id]);
+            gc.fillRoundRect(0, 0, size, size, GameConfig.BRICK_ARC, GameConfig.BRICK_ARC);
+            if (edge) {
+                gc.setStroke(highlight[id]);
+                gc.strokeLine(2.5, 1.5, size - 2.5, 1.5);
+            }
+            tiles[id] = canvas.snapshot(params, null);
+        }
+        return tiles;
+    }
+}
@@ -0,0 +1,51 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ObservableScore.
+ * Tests that the JavaFX property follows the engine score.
+ */
+class ObservableScoreTest {
+
+    private Score score;
+    private ObservableScore observable;
+
+    @BeforeEach
+    void setUp() {
+        score = new Score();
+        observable = new ObservableScore(score);
+    }
+
+    @Test
+    void testInitialValue_MatchesScore() {
+        Score started = new Score();
+        started.add(40);
+
+        assertEquals(40, new ObservableScore(started).scoreProperty().get());
+    }
+
+    @Test
+    void testScoreProperty_IsObservable() {
+        final int[] observedValue = {0};
+
+        observable.scoreProperty().addListener((obs, oldVal, newVal) -> {
+            observedValue[0] = newVal.intValue();
+        });
+
+        score.add(250);
+
+        assertEquals(250, observedValue[0]);
+    }
+
+    @Test
+    void testReset_UpdatesProperty() {
+        score.add(500);
+        score.reset();
+
+        assertEquals(0, observable.scoreProperty().get());
+    }
+}
@@ -0,0 +1,46 @@
+package com.comp2042.view;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for Palette.
+ * Tests that paints are precomputed and shared.
+ */
+class PaletteTest {
+
+    @Test
+    void testSolid_ReturnsSameInstanceEveryTime() {
+        assertSame(Palette.CLASSIC.solid(3), Palette.CLASSIC.solid(3));
+        assertSame(Palette.CLASSIC.ghost(3), Palette.CLASSIC.ghost(3));
+        assertSame(Palette.CLASSIC.highlight(3), Palette.CLASSIC.highlight(3));
+    }
+
+    @Test
+    void testClassic_MatchesOriginalColors() {
+        assertEquals(Color.TRANSPARENT, Palette.CLASSIC.solid(0));
+        assertEquals(Color.AQUA, Palette.CLASSIC.solid(1));
+        assertEquals(Color.BURLYWOOD, Palette.CLASSIC.solid(7));
+    }
+
+    @Test
+    void testGhost_IsHalfTransparent() {
+        Color ghost = (Color) Palette.CLASSIC.ghost(5);
+
+        assertEquals(0.5, ghost.getOpacity(), 1e-9);
+        assertEquals(Color.RED.getRed(), ghost.getRed(), 1e-9);
+    }
+
+    @Test
+    void testUnknownId_FallsBackToWhite() {
+        assertEquals(Color.WHITE, Palette.CLASSIC.solid(8));
+        assertEquals(Color.WHITE, Palette.CLASSIC.solid(42));
+    }
+
+    @Test
+    void testNext_CyclesThroughBuiltInPalettes() {
+        assertSame(Palette.GUIDELINE, Palette.CLASSIC.next());
+        assertSame(Palette.CLASSIC, Palette.GUIDELINE.next());
+    }
+}
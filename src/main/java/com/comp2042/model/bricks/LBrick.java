@@ -1,64 +0,0 @@
-package com.comp2042.model.bricks;
-
-import com.comp2042.model.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * The L-shaped tetromino.
- * Represented by color ID 3 (Dark Green).
- * Has 4 rotation states, shaped like the letter "L".
- */
-final class LBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
-
-    /**
-     * Creates an L-brick with its four rotation states.
-     * The brick has a distinctive L-shape that curves to the right.
-     */
-    public LBrick() {
-        // First rotation: hook pointing down-right
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 3},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
-
-        // Second rotation: hook pointing down-left
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 3, 0},
-                {0, 0, 3, 0}
-        });
-
-        // Third rotation: hook pointing up-left
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-
-        // Fourth rotation: hook pointing up-right
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-    }
-
-    /**
-     * Gets all rotation states of this brick.
-     *
-     * @return list containing 4 rotation states
-     */
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
-    }
-}
\ No newline at end of file